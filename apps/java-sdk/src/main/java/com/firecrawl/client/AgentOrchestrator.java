@@ -0,0 +1,617 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.errors.JobTimeoutException;
+import com.firecrawl.models.AgentOptions;
+import com.firecrawl.models.AgentResponse;
+import com.firecrawl.models.AgentStatusResponse;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs many agent jobs under a concurrency limit and an optional credit
+ * budget.
+ *
+ * <p>Submitted jobs wait in a queue and are started in submission order
+ * while fewer than {@link Builder#maxConcurrentJobs(int)} are running. One
+ * scheduler thread drives every job: it starts queued jobs and polls the
+ * running ones, handing the HTTP calls to a few worker threads, so the
+ * number of threads does not grow with the number of jobs.
+ *
+ * <p>With a {@link Builder#creditBudget(long)}, every job must set
+ * {@link AgentOptions#getMaxCredits()}. That amount is reserved while the
+ * job runs, and a job only starts if the credits already spent plus those
+ * reserved leave room for it. When a job finishes, its reservation is
+ * replaced by the {@code creditsUsed} it reports; a job that ends without
+ * a final status is charged its full reservation. A job that can no longer
+ * fit, even with nothing else running, fails with a
+ * {@link FirecrawlException}.
+ *
+ * <p>Results arrive as jobs finish: through each {@link Job#getResult()}
+ * future and through the {@link Listener}. As with
+ * {@link FirecrawlClient#agent(AgentOptions)}, a job that ends as
+ * {@code failed} or {@code cancelled} still completes normally with its
+ * status; the future completes exceptionally only when the job could not
+ * be started or tracked.
+ *
+ * <pre>{@code
+ * try (AgentOrchestrator orchestrator = AgentOrchestrator.builder(client)
+ *         .maxConcurrentJobs(20)
+ *         .creditBudget(5_000)
+ *         .listener(job -> System.out.println(job.getJobId() + " " + job.getCreditsUsed()))
+ *         .build()) {
+ *     for (String company : companies) {
+ *         orchestrator.submit(AgentOptions.builder()
+ *             .prompt("Find the founders of " + company)
+ *             .maxCredits(100)
+ *             .build());
+ *     }
+ *     orchestrator.awaitIdle(Duration.ofHours(1));
+ * }
+ * }</pre>
+ */
+public final class AgentOrchestrator implements AutoCloseable {
+
+    /**
+     * Notified once per job when it finishes, fails or is cancelled. Calls
+     * come from worker threads, possibly concurrently, so implementations
+     * must be thread-safe.
+     *
+     * <p>For a finished or failed job the listener runs before
+     * {@link Job#getResult()} completes, so it must not block on that future;
+     * the job is already {@link State#DONE} and its credits are settled. A
+     * cancelled job's future is cancelled by the caller, so its listener
+     * call comes afterwards.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onDone(Job job);
+    }
+
+    public enum State {
+        /** Waiting for a free slot or for credits. */
+        QUEUED,
+        /** The start request is in flight. */
+        STARTING,
+        /** Started and being polled. */
+        RUNNING,
+        /** Finished, failed or cancelled; see {@link Job#getResult()}. */
+        DONE
+    }
+
+    /** One submitted agent task. */
+    public final class Job {
+        private final AgentOptions options;
+        private final long reservation;
+        private final CompletableFuture<AgentStatusResponse> result = new CompletableFuture<>();
+        private volatile State state = State.QUEUED;
+        private volatile String jobId;
+        private volatile Integer creditsUsed;
+
+        // Guarded by the orchestrator's lock
+        private long startedAt;
+        private long nextPollAt;
+        private boolean busy;
+
+        private Job(AgentOptions options, long reservation) {
+            this.options = options;
+            this.reservation = reservation;
+            result.whenComplete((status, error) -> {
+                if (result.isCancelled()) {
+                    cancelled(this);
+                }
+            });
+        }
+
+        public AgentOptions getOptions() { return options; }
+        public State getState() { return state; }
+
+        /** The API job ID, or null until the job has started. */
+        public String getJobId() { return jobId; }
+
+        /** Credits the job reported at its last poll, or null if none yet. */
+        public Integer getCreditsUsed() { return creditsUsed; }
+
+        /**
+         * Completes with the final status once the job is done. Cancelling
+         * this future cancels the job, as {@link #cancel()} does.
+         */
+        public CompletableFuture<AgentStatusResponse> getResult() { return result; }
+
+        /**
+         * Removes the job from the queue or, once started, cancels it on the
+         * API. Returns false if it had already finished.
+         */
+        public boolean cancel() {
+            return result.cancel(false);
+        }
+
+        @Override
+        public String toString() {
+            return "AgentOrchestrator.Job{jobId=" + jobId + ", state=" + state + ", creditsUsed=" + creditsUsed + "}";
+        }
+    }
+
+    private final FirecrawlClient client;
+    private final int maxConcurrentJobs;
+    private final long creditBudget;
+    private final long pollIntervalNanos;
+    private final Duration jobTimeout;
+    private final Listener listener;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private final Deque<Job> queue = new ArrayDeque<>();
+    private final Set<Job> active = new LinkedHashSet<>();
+    private long creditsReserved;
+    private long creditsSpent;
+    private boolean closed;
+
+    private AgentOrchestrator(Builder builder) {
+        this.client = builder.client;
+        this.maxConcurrentJobs = builder.maxConcurrentJobs;
+        this.creditBudget = builder.creditBudget;
+        this.pollIntervalNanos = builder.pollInterval.toNanos();
+        this.jobTimeout = builder.jobTimeout;
+        this.listener = builder.listener;
+        this.workers = FanOut.newPool(builder.workerThreads, "agent-orchestrator");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "firecrawl-agent-orchestrator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Tick a few times per poll interval so polls are not late by a whole interval
+        long tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(10), pollIntervalNanos / 4);
+        scheduler.scheduleWithFixedDelay(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Queues an agent task.
+     *
+     * @throws IllegalArgumentException if a credit budget is set and the
+     *                                  options do not set {@code maxCredits}
+     * @throws IllegalStateException    if the orchestrator is closed
+     */
+    public Job submit(AgentOptions options) {
+        Objects.requireNonNull(options, "Agent options are required");
+        long reservation = 0;
+        if (creditBudget > 0) {
+            if (options.getMaxCredits() == null || options.getMaxCredits() < 0) {
+                throw new IllegalArgumentException("AgentOptions.maxCredits must be set when a credit budget is used");
+            }
+            reservation = options.getMaxCredits();
+        }
+        Job job = new Job(options, reservation);
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Agent orchestrator is closed");
+            }
+            queue.add(job);
+        } finally {
+            lock.unlock();
+        }
+        wake();
+        return job;
+    }
+
+    /** Queues several agent tasks, in order. */
+    public List<Job> submitAll(Collection<AgentOptions> options) {
+        Objects.requireNonNull(options, "Agent options are required");
+        List<Job> jobs = new ArrayList<>(options.size());
+        for (AgentOptions o : options) {
+            jobs.add(submit(o));
+        }
+        return jobs;
+    }
+
+    /**
+     * Waits until no job is queued or running.
+     *
+     * @return false if the timeout elapsed first
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (!queue.isEmpty() || !active.isEmpty()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = idle.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Jobs starting or running. */
+    public int getRunning() {
+        lock.lock();
+        try {
+            return active.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Credits reported by finished jobs. */
+    public long getCreditsSpent() {
+        lock.lock();
+        try {
+            return creditsSpent;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Credits held back for running jobs; always 0 without a budget. */
+    public long getCreditsReserved() {
+        lock.lock();
+        try {
+            return creditsReserved;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops scheduling. Queued jobs are cancelled, and running jobs are
+     * cancelled on the API so they stop spending credits.
+     */
+    @Override
+    public void close() {
+        List<Job> outstanding;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            outstanding = new ArrayList<>(queue);
+            outstanding.addAll(active);
+        } finally {
+            lock.unlock();
+        }
+        scheduler.shutdownNow();
+        for (Job job : outstanding) {
+            job.cancel();
+        }
+        workers.shutdown();
+    }
+
+    private void wake() {
+        try {
+            scheduler.execute(this::tick);
+        } catch (RejectedExecutionException e) {
+            // closed
+        }
+    }
+
+    /** One scheduling pass; runs on the scheduler thread. */
+    private void tick() {
+        List<Runnable> calls = new ArrayList<>();
+        List<Job> timedOut = new ArrayList<>();
+        List<Job> rejected = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            long now = System.nanoTime();
+            for (Job job : active) {
+                if (job.state != State.RUNNING || job.busy) {
+                    continue;
+                }
+                if (now - job.startedAt >= jobTimeout.toNanos()) {
+                    timedOut.add(job);
+                } else if (now - job.nextPollAt >= 0) {
+                    job.busy = true;
+                    calls.add(() -> poll(job));
+                }
+            }
+            while (active.size() < maxConcurrentJobs && !queue.isEmpty()) {
+                Job next = queue.peek();
+                if (creditBudget > 0 && creditsSpent + creditsReserved + next.reservation > creditBudget) {
+                    if (!active.isEmpty()) {
+                        break; // a running job may finish under its reservation
+                    }
+                    // Stays active until settled, so awaitIdle waits for its future
+                    queue.poll();
+                    active.add(next);
+                    creditsReserved += next.reservation;
+                    rejected.add(next);
+                    break;
+                }
+                queue.poll();
+                next.state = State.STARTING;
+                next.busy = true;
+                active.add(next);
+                creditsReserved += next.reservation;
+                calls.add(() -> start(next));
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Job job : timedOut) {
+            finish(job, null, new JobTimeoutException(job.jobId, (int) jobTimeout.getSeconds(), "Agent"));
+            calls.add(() -> cancelQuietly(job.jobId));
+        }
+        for (Job job : rejected) {
+            finish(job, null, new FirecrawlException("Credit budget of " + creditBudget
+                    + " leaves no room for an agent job with maxCredits " + job.reservation));
+        }
+        for (Runnable call : calls) {
+            try {
+                workers.execute(call);
+            } catch (RejectedExecutionException e) {
+                return; // closed
+            }
+        }
+    }
+
+    private void start(Job job) {
+        AgentResponse response;
+        try {
+            response = client.startAgent(job.options);
+            if (response.getId() == null) {
+                throw new FirecrawlException("Agent start did not return a job ID");
+            }
+        } catch (RuntimeException e) {
+            finish(job, null, e);
+            return;
+        }
+        boolean cancelled;
+        lock.lock();
+        try {
+            job.jobId = response.getId();
+            cancelled = job.state == State.DONE;
+            if (!cancelled) {
+                job.state = State.RUNNING;
+                job.startedAt = System.nanoTime();
+                job.nextPollAt = job.startedAt + pollIntervalNanos;
+                job.busy = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (cancelled) {
+            cancelQuietly(job.jobId);
+        }
+    }
+
+    private void poll(Job job) {
+        AgentStatusResponse status;
+        try {
+            JfrEvents.PollEvent event = JfrEvents.beginPoll();
+            status = client.getAgentStatus(job.jobId);
+            JfrEvents.commitPoll(event, "agent", job.jobId, status.getStatus(), 0, 0, 0);
+        } catch (FirecrawlException e) {
+            if (isTransient(e)) {
+                pollLater(job);
+            } else {
+                finish(job, null, e);
+            }
+            return;
+        } catch (RuntimeException e) {
+            finish(job, null, e);
+            return;
+        }
+        if (status.getCreditsUsed() != null) {
+            job.creditsUsed = status.getCreditsUsed();
+        }
+        if (status.isDone()) {
+            finish(job, status, null);
+        } else {
+            pollLater(job);
+        }
+    }
+
+    private void pollLater(Job job) {
+        lock.lock();
+        try {
+            job.busy = false;
+            job.nextPollAt = System.nanoTime() + pollIntervalNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Errors worth polling again for: connection failures, timeouts, rate limits and server errors. */
+    private static boolean isTransient(FirecrawlException e) {
+        int status = e.getStatusCode();
+        return status == 0 || status == 408 || status == 429 || status >= 500;
+    }
+
+    private void finish(Job job, AgentStatusResponse status, RuntimeException error) {
+        if (!release(job, status != null)) {
+            return;
+        }
+        // Notify first, so whoever sees the future complete can rely on the listener having run
+        notifyListener(job);
+        if (error != null) {
+            job.result.completeExceptionally(error);
+        } else {
+            job.result.complete(status);
+        }
+        wake();
+    }
+
+    /** Cleans up after the caller cancelled the job's future. */
+    private void cancelled(Job job) {
+        boolean wasQueued;
+        lock.lock();
+        try {
+            wasQueued = queue.remove(job);
+            if (wasQueued) {
+                job.state = State.DONE;
+                if (queue.isEmpty() && active.isEmpty()) {
+                    idle.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!wasQueued && !release(job, false)) {
+            return;
+        }
+        if (job.jobId != null) {
+            cancelQuietly(job.jobId);
+        }
+        notifyListener(job);
+        wake();
+    }
+
+    /**
+     * Marks an active job done and settles its credits; false if it was
+     * already done. A started job that ended without a final status may
+     * still have spent up to its reservation, so that much is charged.
+     */
+    private boolean release(Job job, boolean settled) {
+        lock.lock();
+        try {
+            if (job.state == State.DONE || !active.remove(job)) {
+                job.state = State.DONE;
+                return false;
+            }
+            job.state = State.DONE;
+            creditsReserved -= job.reservation;
+            long used = job.creditsUsed != null ? job.creditsUsed : 0;
+            if ((!settled && job.jobId != null) || (settled && job.creditsUsed == null)) {
+                used = Math.max(used, job.reservation);
+            }
+            creditsSpent += used;
+            if (queue.isEmpty() && active.isEmpty()) {
+                idle.signalAll();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancelQuietly(String jobId) {
+        try {
+            client.cancelAgent(jobId);
+        } catch (RuntimeException e) {
+            // best effort; the job ends on its own once it reaches maxCredits
+        }
+    }
+
+    private void notifyListener(Job job) {
+        if (listener != null) {
+            try {
+                listener.onDone(job);
+            } catch (RuntimeException e) {
+                // a failing listener must not stall the scheduler
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private int maxConcurrentJobs = 10;
+        private long creditBudget;
+        private Duration pollInterval = Duration.ofSeconds(2);
+        private Duration jobTimeout = Duration.ofMinutes(5);
+        private int workerThreads = 4;
+        private Listener listener;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /** Jobs running at once; the rest wait in the queue. Default: 10. */
+        public Builder maxConcurrentJobs(int maxConcurrentJobs) {
+            this.maxConcurrentJobs = maxConcurrentJobs;
+            return this;
+        }
+
+        /**
+         * Credits all jobs together may spend; 0 for no budget. With a budget,
+         * every job must set {@code maxCredits}. Default: no budget.
+         */
+        public Builder creditBudget(long creditBudget) {
+            this.creditBudget = creditBudget;
+            return this;
+        }
+
+        /** Time between status checks of a running job. Default: 2 seconds. */
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * How long a job may run before it is cancelled and its future fails
+         * with a {@link JobTimeoutException}. Default: 5 minutes.
+         */
+        public Builder jobTimeout(Duration jobTimeout) {
+            this.jobTimeout = jobTimeout;
+            return this;
+        }
+
+        /** Threads making the start and status calls. Default: 4. */
+        public Builder workerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        /** Notified as each job finishes. Default: none. */
+        public Builder listener(Listener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        public AgentOrchestrator build() {
+            if (maxConcurrentJobs < 1) {
+                throw new IllegalArgumentException("maxConcurrentJobs must be at least 1");
+            }
+            if (creditBudget < 0) {
+                throw new IllegalArgumentException("creditBudget must not be negative");
+            }
+            if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+                throw new IllegalArgumentException("pollInterval must be positive");
+            }
+            if (jobTimeout == null || jobTimeout.isNegative() || jobTimeout.isZero()) {
+                throw new IllegalArgumentException("jobTimeout must be positive");
+            }
+            if (workerThreads < 1) {
+                throw new IllegalArgumentException("workerThreads must be at least 1");
+            }
+            return new AgentOrchestrator(this);
+        }
+    }
+}
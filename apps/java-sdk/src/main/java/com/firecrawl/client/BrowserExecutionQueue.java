@@ -0,0 +1,226 @@
+package com.firecrawl.client;
+
+import com.firecrawl.models.BrowserExecuteResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Queues browser scripts per session and runs different sessions in
+ * parallel.
+ *
+ * <p>Scripts submitted for the same session run one at a time, in the order
+ * they were submitted; each starts only once the previous one has finished,
+ * whether it succeeded or failed. Scripts for different sessions do not wait
+ * for each other. No thread is tied to a session: a queued script takes a
+ * thread from the executor only while its call is in flight, so a few
+ * threads can keep many sessions busy as long as scripts are short.
+ *
+ * <p>Each call blocks its thread until the script finishes, which can take
+ * up to the script's timeout. The default executor is therefore a bounded
+ * pool of daemon threads owned by this queue (see {@link Builder#threads(int)}),
+ * not the client's async executor, which is usually the shared common pool.
+ * Its threads exit after 30 seconds without work, so a queue needs no
+ * shutdown and a discarded one holds no threads.
+ *
+ * <p>Browser sessions ({@code browserExecute}) and scrape-bound sessions
+ * ({@code interact}) have separate queues, so a browser session ID and a
+ * scrape job ID never share one.
+ *
+ * <pre>{@code
+ * BrowserExecutionQueue queue = BrowserExecutionQueue.builder(client).build();
+ * queue.submit(sessionId, "agent-browser open https://example.com");
+ * CompletableFuture<BrowserExecuteResponse> snapshot = queue.submit(sessionId, "agent-browser snapshot");
+ * queue.submitAll(Map.of(
+ *     otherSessionId, List.of("agent-browser open https://example.org", "agent-browser snapshot")),
+ *     "bash", null);
+ * System.out.println(snapshot.join().getStdout());
+ * }</pre>
+ *
+ * <p>Cancelling a returned future before its script has started skips that
+ * script; scripts queued behind it still run.
+ */
+public final class BrowserExecutionQueue {
+
+    private static final CompletableFuture<Void> IDLE = CompletableFuture.completedFuture(null);
+    private static final int DEFAULT_THREADS = 8;
+    private static final long IDLE_THREAD_SECONDS = 30;
+
+    private final FirecrawlClient client;
+    private final Executor executor;
+
+    /** Last queued call per session; completes normally once that call is done, whatever its outcome. */
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    private BrowserExecutionQueue(Builder builder) {
+        this.client = builder.client;
+        this.executor = builder.executor != null ? builder.executor
+                : FanOut.newIdlePool(builder.threads, "browser-queue", IDLE_THREAD_SECONDS);
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Queues bash code for a browser session.
+     */
+    public CompletableFuture<BrowserExecuteResponse> submit(String sessionId, String code) {
+        return submit(sessionId, code, "bash", null);
+    }
+
+    /**
+     * Queues code for a browser session.
+     *
+     * @param sessionId the browser session ID
+     * @param code      the code to execute
+     * @param language  the language: "python", "node", or "bash" (default: "bash")
+     * @param timeout   execution timeout in seconds (1-300), or null for default (30)
+     * @return completes with the execution result once the script has run
+     */
+    public CompletableFuture<BrowserExecuteResponse> submit(String sessionId, String code,
+                                                            String language, Integer timeout) {
+        Objects.requireNonNull(sessionId, "Session ID is required");
+        Objects.requireNonNull(code, "Code is required");
+        return enqueue(browserKey(sessionId), () -> client.browserExecute(sessionId, code, language, timeout));
+    }
+
+    /**
+     * Queues code for the scrape-bound browser session of a scrape job.
+     *
+     * @param jobId    the scrape job ID
+     * @param code     the code to execute
+     * @param language the language: "python", "node", or "bash" (default: "node")
+     * @param timeout  execution timeout in seconds (1-300), or null for default (30)
+     * @return completes with the execution result once the script has run
+     */
+    public CompletableFuture<BrowserExecuteResponse> submitInteract(String jobId, String code,
+                                                                    String language, Integer timeout) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        Objects.requireNonNull(code, "Code is required");
+        return enqueue(interactKey(jobId), () -> client.interact(jobId, code, language, timeout));
+    }
+
+    /**
+     * Queues several scripts for one browser session, in list order.
+     *
+     * @return one future per script, in the same order
+     */
+    public List<CompletableFuture<BrowserExecuteResponse>> submitAll(String sessionId, List<String> scripts,
+                                                                     String language, Integer timeout) {
+        Objects.requireNonNull(scripts, "Scripts are required");
+        List<CompletableFuture<BrowserExecuteResponse>> futures = new ArrayList<>(scripts.size());
+        for (String code : scripts) {
+            futures.add(submit(sessionId, code, language, timeout));
+        }
+        return futures;
+    }
+
+    /**
+     * Queues scripts for many browser sessions at once. Each session's list
+     * runs in order; the sessions run in parallel.
+     *
+     * @return the futures for each session, in the same order as its scripts
+     */
+    public Map<String, List<CompletableFuture<BrowserExecuteResponse>>> submitAll(
+            Map<String, List<String>> scriptsBySession, String language, Integer timeout) {
+        Objects.requireNonNull(scriptsBySession, "Scripts are required");
+        Map<String, List<CompletableFuture<BrowserExecuteResponse>>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : scriptsBySession.entrySet()) {
+            futures.put(entry.getKey(), submitAll(entry.getKey(), entry.getValue(), language, timeout));
+        }
+        return futures;
+    }
+
+    /**
+     * Completes once every script queued so far for the browser session has
+     * finished, successfully or not.
+     */
+    public CompletableFuture<Void> whenIdle(String sessionId) {
+        return tails.getOrDefault(browserKey(sessionId), IDLE);
+    }
+
+    /**
+     * Completes once every script queued so far for the scrape job's session
+     * has finished, successfully or not.
+     */
+    public CompletableFuture<Void> whenInteractIdle(String jobId) {
+        return tails.getOrDefault(interactKey(jobId), IDLE);
+    }
+
+    /** Number of sessions with scripts queued or running. */
+    public int getActiveSessions() {
+        return tails.size();
+    }
+
+    private CompletableFuture<BrowserExecuteResponse> enqueue(String key, Supplier<BrowserExecuteResponse> call) {
+        // The caller's future is kept apart from the chain, so cancelling it
+        // cannot release the next script while this one's predecessor still runs
+        CompletableFuture<BrowserExecuteResponse> result = new CompletableFuture<>();
+        CompletableFuture<Void> tail = tails.compute(key, (k, previous) ->
+                (previous != null ? previous : IDLE).handleAsync((ignored, error) -> {
+                    if (!result.isDone()) {
+                        try {
+                            result.complete(call.get());
+                        } catch (Throwable e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                    return null;
+                }, executor));
+        // Forget the session once its queue drains, unless more was queued meanwhile
+        tail.thenRun(() -> tails.remove(key, tail));
+        return result;
+    }
+
+    private static String browserKey(String sessionId) {
+        return "browser:" + sessionId;
+    }
+
+    private static String interactKey(String jobId) {
+        return "interact:" + jobId;
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private Executor executor;
+        private int threads = DEFAULT_THREADS;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /**
+         * Executor the calls run on. It bounds how many sessions have a call
+         * in flight at once, and its threads block for the whole call.
+         * Default: a pool of {@link #threads(int)} daemon threads.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Size of the default pool, i.e. how many sessions can have a call in
+         * flight at once. Ignored when an {@link #executor(Executor)} is set. Default: 8.
+         */
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public BrowserExecutionQueue build() {
+            if (executor == null && threads < 1) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            return new BrowserExecutionQueue(this);
+        }
+    }
+}
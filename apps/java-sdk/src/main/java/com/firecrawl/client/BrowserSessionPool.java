@@ -0,0 +1,737 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.BrowserCreateResponse;
+import com.firecrawl.models.BrowserExecuteResponse;
+import com.firecrawl.models.BrowserListResponse;
+import com.firecrawl.models.BrowserSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps remote browser sessions warm and hands them out for short scripts, so
+ * each script does not pay for session startup and teardown.
+ *
+ * <p>{@link #lease()} returns an idle session, creates one if fewer than
+ * {@link Builder#maxSessions(int)} exist, or waits for one to be returned.
+ * Closing the {@link Lease} returns the session to the pool. A session that
+ * the API reports as gone (404 or 410) is dropped and replaced instead.
+ *
+ * <p>A background thread keeps at least {@link Builder#minSessions(int)}
+ * sessions open. It runs a no-op command on idle sessions before their
+ * activity timeout can expire, and retires sessions that are close to their
+ * total lifetime. It also drops sessions that {@code listBrowsers} no longer
+ * reports as active. Idle sessions above the minimum are closed after
+ * {@link Builder#idleTimeout(Duration)}.
+ *
+ * <pre>{@code
+ * try (BrowserSessionPool pool = BrowserSessionPool.builder(client)
+ *         .minSessions(2)
+ *         .maxSessions(8)
+ *         .build()) {
+ *     try (BrowserSessionPool.Lease lease = pool.lease()) {
+ *         BrowserExecuteResponse result = lease.execute("agent-browser open https://example.com");
+ *     }
+ *     System.out.println(pool.getStats());
+ * }
+ * }</pre>
+ */
+public final class BrowserSessionPool implements AutoCloseable {
+
+    private static final String KEEP_ALIVE_CODE = "true";
+
+    private final FirecrawlClient client;
+    private final int minSessions;
+    private final int maxSessions;
+    private final Integer ttl;
+    private final int activityTtl;
+    private final long keepAliveNanos;
+    private final long idleTimeoutNanos;
+    private final long minRemainingMillis;
+    private final Duration leaseTimeout;
+    private final ScheduledExecutorService maintenance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    /** Idle sessions, most recently returned last. */
+    private final Deque<PooledSession> idle = new ArrayDeque<>();
+    private final Set<PooledSession> leased = new HashSet<>();
+    /** Sessions being created or pinged; they count toward the maximum. */
+    private int pending;
+    private int waiting;
+    private boolean closed;
+
+    private long leasesGranted;
+    private long leaseWaitNanos;
+    private long leasedNanos;
+    private int peakLeased;
+    private long sessionsCreated;
+    private long sessionsReplaced;
+    private long sessionsRetired;
+    private long createFailures;
+    private RuntimeException lastError;
+
+    private BrowserSessionPool(Builder builder) {
+        this.client = builder.client;
+        this.minSessions = builder.minSessions;
+        this.maxSessions = builder.maxSessions;
+        this.ttl = builder.ttl;
+        this.activityTtl = builder.activityTtl;
+        this.keepAliveNanos = builder.keepAliveInterval != null
+                ? builder.keepAliveInterval.toNanos()
+                : TimeUnit.SECONDS.toNanos(activityTtl) / 2;
+        this.idleTimeoutNanos = builder.idleTimeout.toNanos();
+        this.minRemainingMillis = builder.minRemainingLifetime.toMillis();
+        this.leaseTimeout = builder.leaseTimeout;
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "firecrawl-browser-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(100), keepAliveNanos / 2);
+        maintenance.scheduleWithFixedDelay(this::maintain, 0, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * A session taken from the pool. Close it to return the session; use
+     * try-with-resources so it is returned even if the script fails.
+     */
+    public final class Lease implements AutoCloseable {
+        private final PooledSession session;
+        private final long leasedAt = System.nanoTime();
+        private boolean broken;
+        private boolean returned;
+
+        private Lease(PooledSession session) {
+            this.session = session;
+        }
+
+        public String getSessionId() { return session.id; }
+        public String getCdpUrl() { return session.cdpUrl; }
+
+        /** Runs a bash command in the session. */
+        public BrowserExecuteResponse execute(String code) {
+            return execute(code, "bash", null);
+        }
+
+        /**
+         * Runs code in the session. If the API reports the session as gone,
+         * the lease is marked broken and the session is replaced on return.
+         *
+         * @see FirecrawlClient#browserExecute(String, String, String, Integer)
+         */
+        public BrowserExecuteResponse execute(String code, String language, Integer timeout) {
+            try {
+                BrowserExecuteResponse response = client.browserExecute(session.id, code, language, timeout);
+                session.lastActivity = System.nanoTime();
+                return response;
+            } catch (FirecrawlException e) {
+                if (isGone(e)) {
+                    broken = true;
+                }
+                throw e;
+            }
+        }
+
+        /** Marks the session as unusable, so it is deleted instead of reused. */
+        public void invalidate() {
+            broken = true;
+        }
+
+        /** Returns the session to the pool. Calling this more than once has no effect. */
+        @Override
+        public void close() {
+            if (!returned) {
+                returned = true;
+                release(this);
+            }
+        }
+    }
+
+    /** Leases a session, waiting up to the builder's lease timeout. */
+    public Lease lease() {
+        return lease(leaseTimeout);
+    }
+
+    /**
+     * Leases a session, waiting up to {@code timeout} for one to be returned
+     * when the pool is at its maximum.
+     *
+     * @throws FirecrawlException if no session became available in time, or
+     *                            a new session could not be created
+     */
+    public Lease lease(Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        List<PooledSession> stale = new ArrayList<>();
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new IllegalStateException("Browser session pool is closed");
+                    }
+                    PooledSession session = idle.pollLast();
+                    if (session != null) {
+                        if (session.isUsable(System.currentTimeMillis(), minRemainingMillis)) {
+                            return granted(session, start);
+                        }
+                        sessionsRetired++;
+                        stale.add(session);
+                        continue;
+                    }
+                    if (total() < maxSessions) {
+                        pending++;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new FirecrawlException("Timed out after " + timeout.toMillis()
+                                + "ms waiting for a browser session");
+                    }
+                    available.awaitNanos(remaining);
+                }
+            } finally {
+                waiting--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FirecrawlException("Interrupted while waiting for a browser session", e);
+        } finally {
+            lock.unlock();
+            destroyLater(stale);
+        }
+        PooledSession created;
+        try {
+            created = create();
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pending--;
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            pending--;
+            return granted(created, start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Leases a session, runs one command in it and returns it. */
+    public BrowserExecuteResponse execute(String code, String language, Integer timeout) {
+        try (Lease lease = lease()) {
+            return lease.execute(code, language, timeout);
+        }
+    }
+
+    /** Current and cumulative pool figures. */
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return new Stats(this);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops maintenance and deletes the idle sessions. Leased sessions are
+     * deleted when they are returned.
+     */
+    @Override
+    public void close() {
+        List<PooledSession> toDelete;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toDelete = new ArrayList<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        maintenance.shutdownNow();
+        for (PooledSession session : toDelete) {
+            delete(session);
+        }
+    }
+
+    /** Caller holds the lock. */
+    private Lease granted(PooledSession session, long waitStart) {
+        leased.add(session);
+        leasesGranted++;
+        leaseWaitNanos += System.nanoTime() - waitStart;
+        peakLeased = Math.max(peakLeased, leased.size());
+        return new Lease(session);
+    }
+
+    private void release(Lease lease) {
+        PooledSession session = lease.session;
+        boolean keep;
+        lock.lock();
+        try {
+            leased.remove(session);
+            leasedNanos += System.nanoTime() - lease.leasedAt;
+            keep = !closed && !lease.broken && !session.gone
+                    && session.isUsable(System.currentTimeMillis(), minRemainingMillis);
+            if (keep) {
+                session.idleSince = System.nanoTime();
+                idle.addLast(session);
+            } else if (lease.broken || session.gone) {
+                sessionsReplaced++;
+            } else if (!closed) {
+                sessionsRetired++;
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (!keep) {
+            destroyLater(List.of(session));
+        }
+    }
+
+    /**
+     * One maintenance pass; runs on the pool's own thread. Each step runs even
+     * if an earlier one failed, so an unreachable session listing never stops
+     * the keep-alive pings that hold idle sessions open.
+     */
+    private void maintain() {
+        runStep(this::reconcile);
+        runStep(this::keepAlive);
+        runStep(this::topUp);
+    }
+
+    private void runStep(Runnable step) {
+        try {
+            step.run();
+        } catch (RuntimeException e) {
+            recordError(e);
+        }
+    }
+
+    /** Drops sessions the API no longer lists as active. */
+    private void reconcile() {
+        long listedAt = System.nanoTime();
+        BrowserListResponse response = client.listBrowsers("active");
+        if (response.getSessions() == null) {
+            return;
+        }
+        Set<String> active = new HashSet<>();
+        for (BrowserSession session : response.getSessions()) {
+            active.add(session.getId());
+        }
+        List<PooledSession> gone = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Iterator<PooledSession> it = idle.iterator(); it.hasNext(); ) {
+                PooledSession session = it.next();
+                // Sessions opened after the listing started may be missing from it
+                if (session.createdAt - listedAt < 0 && !active.contains(session.id)) {
+                    it.remove();
+                    gone.add(session);
+                    sessionsReplaced++;
+                }
+            }
+            for (PooledSession session : leased) {
+                if (session.createdAt - listedAt < 0 && !active.contains(session.id)) {
+                    session.gone = true;
+                }
+            }
+            if (!gone.isEmpty()) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Retires expiring and surplus idle sessions, and pings the rest before their activity timeout. */
+    private void keepAlive() {
+        List<PooledSession> retire = new ArrayList<>();
+        List<PooledSession> ping = new ArrayList<>();
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            long wallNow = System.currentTimeMillis();
+            // Oldest returned first, so surplus sessions that have sat longest are retired
+            for (Iterator<PooledSession> it = idle.iterator(); it.hasNext(); ) {
+                PooledSession session = it.next();
+                if (!session.isUsable(wallNow, minRemainingMillis)
+                        || (total() > minSessions && now - session.idleSince >= idleTimeoutNanos)) {
+                    it.remove();
+                    retire.add(session);
+                    sessionsRetired++;
+                } else if (now - session.lastActivity >= keepAliveNanos) {
+                    it.remove();
+                    ping.add(session);
+                    pending++;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (PooledSession session : retire) {
+            delete(session);
+        }
+        for (PooledSession session : ping) {
+            boolean alive;
+            try {
+                client.browserExecute(session.id, KEEP_ALIVE_CODE, "bash", null);
+                session.lastActivity = System.nanoTime();
+                alive = true;
+            } catch (RuntimeException e) {
+                alive = !(e instanceof FirecrawlException && isGone((FirecrawlException) e));
+                recordError(e);
+            }
+            lock.lock();
+            try {
+                pending--;
+                if (alive && !closed) {
+                    idle.addFirst(session);
+                } else if (!alive) {
+                    sessionsReplaced++;
+                }
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            if (!alive || isClosed()) {
+                delete(session);
+            }
+        }
+    }
+
+    /** Opens sessions until the pool holds its minimum. */
+    private void topUp() {
+        while (true) {
+            lock.lock();
+            try {
+                if (closed || total() >= minSessions) {
+                    return;
+                }
+                pending++;
+            } finally {
+                lock.unlock();
+            }
+            PooledSession created;
+            try {
+                created = create();
+            } catch (RuntimeException e) {
+                created = null;
+            }
+            boolean keep;
+            lock.lock();
+            try {
+                pending--;
+                if (created == null) {
+                    return;
+                }
+                keep = !closed;
+                if (keep) {
+                    idle.addLast(created);
+                    available.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (!keep) {
+                delete(created);
+                return;
+            }
+        }
+    }
+
+    /** Creates a session, recording failures in the stats. The caller counts it as pending. */
+    private PooledSession create() {
+        try {
+            BrowserCreateResponse response = client.browser(ttl, activityTtl, false);
+            if (response.getId() == null) {
+                throw new FirecrawlException(response.getError() != null
+                        ? response.getError() : "Browser session was not created");
+            }
+            lock.lock();
+            try {
+                sessionsCreated++;
+            } finally {
+                lock.unlock();
+            }
+            return new PooledSession(response.getId(), response.getCdpUrl(), parseExpiry(response.getExpiresAt()));
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                createFailures++;
+                lastError = e;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private void destroyLater(List<PooledSession> sessions) {
+        for (PooledSession session : sessions) {
+            try {
+                maintenance.execute(() -> delete(session));
+            } catch (RejectedExecutionException e) {
+                delete(session);
+            }
+        }
+    }
+
+    private void delete(PooledSession session) {
+        try {
+            client.deleteBrowser(session.id);
+        } catch (RuntimeException e) {
+            // Already gone, or it expires on its own
+        }
+    }
+
+    private boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordError(RuntimeException e) {
+        lock.lock();
+        try {
+            lastError = e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Caller holds the lock. */
+    private int total() {
+        return idle.size() + leased.size() + pending;
+    }
+
+    private static boolean isGone(FirecrawlException e) {
+        return e.getStatusCode() == 404 || e.getStatusCode() == 410;
+    }
+
+    private static long parseExpiry(String expiresAt) {
+        if (expiresAt == null) {
+            return 0;
+        }
+        try {
+            return Instant.parse(expiresAt).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    private static final class PooledSession {
+        final String id;
+        final String cdpUrl;
+        /** Wall-clock expiry in epoch millis, or 0 if unknown. */
+        final long expiresAt;
+        final long createdAt = System.nanoTime();
+        volatile long lastActivity = createdAt;
+        long idleSince = createdAt;
+        /** Set when the API stopped listing the session while it was leased. */
+        boolean gone;
+
+        PooledSession(String id, String cdpUrl, long expiresAt) {
+            this.id = id;
+            this.cdpUrl = cdpUrl;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isUsable(long nowMillis, long minRemainingMillis) {
+            return expiresAt == 0 || expiresAt - nowMillis > minRemainingMillis;
+        }
+    }
+
+    /**
+     * A snapshot of pool figures. Counts prefixed "sessions" and "leases" are
+     * cumulative since the pool was built.
+     */
+    public static final class Stats {
+        private final int open;
+        private final int idle;
+        private final int leased;
+        private final int waiting;
+        private final int peakLeased;
+        private final long leasesGranted;
+        private final long leaseWaitNanos;
+        private final long leasedNanos;
+        private final long sessionsCreated;
+        private final long sessionsReplaced;
+        private final long sessionsRetired;
+        private final long createFailures;
+        private final RuntimeException lastError;
+
+        private Stats(BrowserSessionPool pool) {
+            this.open = pool.total();
+            this.idle = pool.idle.size();
+            this.leased = pool.leased.size();
+            this.waiting = pool.waiting;
+            this.peakLeased = pool.peakLeased;
+            this.leasesGranted = pool.leasesGranted;
+            this.leaseWaitNanos = pool.leaseWaitNanos;
+            this.leasedNanos = pool.leasedNanos;
+            this.sessionsCreated = pool.sessionsCreated;
+            this.sessionsReplaced = pool.sessionsReplaced;
+            this.sessionsRetired = pool.sessionsRetired;
+            this.createFailures = pool.createFailures;
+            this.lastError = pool.lastError;
+        }
+
+        /** Sessions open or being opened. */
+        public int getOpen() { return open; }
+        public int getIdle() { return idle; }
+        public int getLeased() { return leased; }
+
+        /** Callers blocked in {@link BrowserSessionPool#lease()}. */
+        public int getWaiting() { return waiting; }
+        public int getPeakLeased() { return peakLeased; }
+
+        /** Share of open sessions currently leased, from 0 to 1. */
+        public double getUtilization() { return open == 0 ? 0 : (double) leased / open; }
+
+        public long getLeasesGranted() { return leasesGranted; }
+
+        /** Mean time callers waited for a lease, including session creation. */
+        public long getAverageLeaseWaitNanos() { return leasesGranted == 0 ? 0 : leaseWaitNanos / leasesGranted; }
+
+        /** Total time sessions spent leased, over returned leases. */
+        public long getLeasedNanos() { return leasedNanos; }
+
+        public long getSessionsCreated() { return sessionsCreated; }
+
+        /** Sessions dropped because the API reported them gone. */
+        public long getSessionsReplaced() { return sessionsReplaced; }
+
+        /** Sessions closed by the pool: near expiry or idle above the minimum. */
+        public long getSessionsRetired() { return sessionsRetired; }
+        public long getCreateFailures() { return createFailures; }
+
+        /** The most recent error from session creation or maintenance, or null. */
+        public RuntimeException getLastError() { return lastError; }
+
+        @Override
+        public String toString() {
+            return "BrowserSessionPool.Stats{open=" + open + ", idle=" + idle + ", leased=" + leased
+                    + ", waiting=" + waiting + ", created=" + sessionsCreated + ", replaced=" + sessionsReplaced
+                    + ", retired=" + sessionsRetired + "}";
+        }
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private int minSessions = 1;
+        private int maxSessions = 10;
+        private Integer ttl;
+        private int activityTtl = 300;
+        private Duration keepAliveInterval;
+        private Duration idleTimeout = Duration.ofMinutes(5);
+        private Duration minRemainingLifetime = Duration.ofSeconds(60);
+        private Duration leaseTimeout = Duration.ofSeconds(60);
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /** Sessions kept open even when idle. Default: 1. */
+        public Builder minSessions(int minSessions) {
+            this.minSessions = minSessions;
+            return this;
+        }
+
+        /** Upper bound on open sessions. Default: 10. */
+        public Builder maxSessions(int maxSessions) {
+            this.maxSessions = maxSessions;
+            return this;
+        }
+
+        /** Total lifetime of each session in seconds (30-3600). Default: the API default. */
+        public Builder ttl(Integer ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /** Idle timeout of each session in seconds (10-3600). Default: 300. */
+        public Builder activityTtl(int activityTtl) {
+            this.activityTtl = activityTtl;
+            return this;
+        }
+
+        /** How long an idle session may go without a command before it is pinged. Default: half of activityTtl. */
+        public Builder keepAliveInterval(Duration keepAliveInterval) {
+            this.keepAliveInterval = keepAliveInterval;
+            return this;
+        }
+
+        /** How long a session above the minimum may sit idle before it is closed. Default: 5 minutes. */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /** Sessions closer than this to their total lifetime are not leased again. Default: 60 seconds. */
+        public Builder minRemainingLifetime(Duration minRemainingLifetime) {
+            this.minRemainingLifetime = minRemainingLifetime;
+            return this;
+        }
+
+        /** How long {@link BrowserSessionPool#lease()} waits for a session. Default: 60 seconds. */
+        public Builder leaseTimeout(Duration leaseTimeout) {
+            this.leaseTimeout = leaseTimeout;
+            return this;
+        }
+
+        public BrowserSessionPool build() {
+            Objects.requireNonNull(idleTimeout, "Idle timeout is required");
+            Objects.requireNonNull(minRemainingLifetime, "Minimum remaining lifetime is required");
+            Objects.requireNonNull(leaseTimeout, "Lease timeout is required");
+            if (minSessions < 0) {
+                throw new IllegalArgumentException("minSessions must not be negative");
+            }
+            if (maxSessions < 1 || maxSessions < minSessions) {
+                throw new IllegalArgumentException("maxSessions must be at least 1 and at least minSessions");
+            }
+            if (activityTtl < 10) {
+                throw new IllegalArgumentException("activityTtl must be at least 10 seconds");
+            }
+            if (keepAliveInterval != null && keepAliveInterval.compareTo(Duration.ofSeconds(activityTtl)) >= 0) {
+                throw new IllegalArgumentException("keepAliveInterval must be shorter than activityTtl");
+            }
+            return new BrowserSessionPool(this);
+        }
+    }
+}
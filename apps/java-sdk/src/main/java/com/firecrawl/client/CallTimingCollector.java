@@ -0,0 +1,49 @@
+package com.firecrawl.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free aggregate of {@link CallTimings}: one latency histogram per phase
+ * plus call and connection reuse counters.
+ */
+final class CallTimingCollector {
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[CallTimings.PHASES.length];
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder reusedConnections = new LongAdder();
+
+    CallTimingCollector() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    void record(CallTimings timings) {
+        calls.increment();
+        if (timings.isFailed()) {
+            failedCalls.increment();
+        }
+        if (timings.isConnectionReused()) {
+            reusedConnections.increment();
+        }
+        for (CallTimings.Phase phase : CallTimings.PHASES) {
+            long nanos = timings.getNanos(phase);
+            if (nanos >= 0) {
+                phases[phase.ordinal()].record(nanos / 1000);
+            }
+        }
+    }
+
+    ConnectionStats snapshot() {
+        long[][] counts = new long[phases.length][];
+        long[] samples = new long[phases.length];
+        long[] sums = new long[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            counts[i] = phases[i].snapshotCounts();
+            samples[i] = phases[i].count();
+            sums[i] = phases[i].sum();
+        }
+        return new ConnectionStats(calls.sum(), failedCalls.sum(), reusedConnections.sum(), counts, samples, sums);
+    }
+}
@@ -0,0 +1,109 @@
+package com.firecrawl.client;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * OkHttp {@link EventListener} that timestamps each phase of a call and
+ * reports the resulting {@link CallTimings} when the call ends.
+ *
+ * <p>OkHttp delivers the events of one call sequentially, so the timestamps
+ * are plain fields.
+ */
+final class CallTimingListener extends EventListener {
+
+    private static final long UNSET = Long.MIN_VALUE;
+
+    private final Call call;
+    private final CallTimingCollector collector;
+    private final MetricsRecorder metrics;
+
+    private long callStart = UNSET;
+    private long dnsStart = UNSET;
+    private long dnsEnd = UNSET;
+    private long connectStart = UNSET;
+    private long connectEnd = UNSET;
+    private long secureConnectStart = UNSET;
+    private long secureConnectEnd = UNSET;
+    private long connectionAcquired = UNSET;
+    private long requestStart = UNSET;
+    private long requestEnd = UNSET;
+    private long responseHeadersEnd = UNSET;
+    private long responseBodyEnd = UNSET;
+
+    private CallTimingListener(Call call, CallTimingCollector collector, MetricsRecorder metrics) {
+        this.call = call;
+        this.collector = collector;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param metrics recorder that also receives per-endpoint timings, or null
+     */
+    static EventListener.Factory factory(CallTimingCollector collector, MetricsRecorder metrics) {
+        return call -> new CallTimingListener(call, collector, metrics);
+    }
+
+    @Override public void callStart(Call call) { callStart = System.nanoTime(); }
+    @Override public void dnsStart(Call call, String domainName) { dnsStart = System.nanoTime(); }
+    @Override public void dnsEnd(Call call, String domainName, List<InetAddress> addresses) { dnsEnd = System.nanoTime(); }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress address, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override public void secureConnectStart(Call call) { secureConnectStart = System.nanoTime(); }
+    @Override public void secureConnectEnd(Call call, Handshake handshake) { secureConnectEnd = System.nanoTime(); }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol) {
+        connectEnd = System.nanoTime();
+    }
+
+    @Override public void connectionAcquired(Call call, Connection connection) { connectionAcquired = System.nanoTime(); }
+    @Override public void requestHeadersStart(Call call) { requestStart = System.nanoTime(); }
+    @Override public void requestHeadersEnd(Call call, Request request) { requestEnd = System.nanoTime(); }
+    @Override public void requestBodyEnd(Call call, long byteCount) { requestEnd = System.nanoTime(); }
+    @Override public void responseHeadersEnd(Call call, Response response) { responseHeadersEnd = System.nanoTime(); }
+    @Override public void responseBodyEnd(Call call, long byteCount) { responseBodyEnd = System.nanoTime(); }
+
+    @Override public void callEnd(Call call) { finish(false); }
+    @Override public void callFailed(Call call, IOException ioe) { finish(true); }
+
+    private void finish(boolean failed) {
+        long end = System.nanoTime();
+        long[] nanos = new long[CallTimings.PHASES.length];
+        nanos[CallTimings.Phase.CONNECTION_ACQUIRE.ordinal()] = span(callStart, connectionAcquired);
+        nanos[CallTimings.Phase.DNS.ordinal()] = span(dnsStart, dnsEnd);
+        nanos[CallTimings.Phase.CONNECT.ordinal()] = span(connectStart, connectEnd);
+        nanos[CallTimings.Phase.TLS.ordinal()] = span(secureConnectStart, secureConnectEnd);
+        nanos[CallTimings.Phase.REQUEST_WRITE.ordinal()] = span(requestStart, requestEnd);
+        nanos[CallTimings.Phase.TIME_TO_FIRST_BYTE.ordinal()] = span(requestEnd, responseHeadersEnd);
+        nanos[CallTimings.Phase.RESPONSE_READ.ordinal()] = span(responseHeadersEnd, responseBodyEnd);
+        nanos[CallTimings.Phase.TOTAL.ordinal()] = span(callStart, end);
+        boolean reused = connectionAcquired != UNSET && connectStart == UNSET;
+        CallTimings timings = new CallTimings(nanos, reused, failed);
+
+        collector.record(timings);
+        if (metrics != null) {
+            Request request = call.request();
+            metrics.recordCallTimings(Endpoints.template(request.method(), request.url().encodedPath()), timings);
+        }
+    }
+
+    private static long span(long start, long end) {
+        return start == UNSET || end == UNSET ? -1 : Math.max(0, end - start);
+    }
+}
@@ -0,0 +1,70 @@
+package com.firecrawl.client;
+
+import java.util.Locale;
+
+/**
+ * Phase-by-phase timing of one HTTP call, captured by the OkHttp event
+ * listener that the SDK installs on its default client.
+ *
+ * <p>Connection phases ({@link Phase#DNS}, {@link Phase#CONNECT},
+ * {@link Phase#TLS}) only occur when the call opens a new connection; on a
+ * pooled connection they are reported as -1.
+ */
+public final class CallTimings {
+
+    /** The phases of a call, in the order they happen. */
+    public enum Phase {
+        /** Waiting for a connection: pool lookup, plus DNS/connect/TLS if a new one is opened. */
+        CONNECTION_ACQUIRE,
+        /** DNS resolution. */
+        DNS,
+        /** TCP connect, including the TLS handshake. */
+        CONNECT,
+        /** TLS handshake. */
+        TLS,
+        /** Writing request headers and body. */
+        REQUEST_WRITE,
+        /** From the end of the request until response headers arrive (server time plus one round trip). */
+        TIME_TO_FIRST_BYTE,
+        /** Reading the response body. */
+        RESPONSE_READ,
+        /** The whole call. */
+        TOTAL
+    }
+
+    static final Phase[] PHASES = Phase.values();
+
+    private final long[] nanos;
+    private final boolean connectionReused;
+    private final boolean failed;
+
+    CallTimings(long[] nanos, boolean connectionReused, boolean failed) {
+        this.nanos = nanos;
+        this.connectionReused = connectionReused;
+        this.failed = failed;
+    }
+
+    /** Duration of the phase in nanoseconds, or -1 if the phase did not happen in this call. */
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /** True if the call ran on a pooled connection instead of opening a new one. */
+    public boolean isConnectionReused() { return connectionReused; }
+
+    /** True if the call ended with an I/O failure. */
+    public boolean isFailed() { return failed; }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("CallTimings{");
+        for (Phase phase : PHASES) {
+            long value = nanos[phase.ordinal()];
+            if (value >= 0) {
+                out.append(phase.name().toLowerCase(Locale.ROOT)).append('=')
+                        .append(value / 1_000_000.0).append("ms, ");
+            }
+        }
+        return out.append("reused=").append(connectionReused).append(", failed=").append(failed).append('}').toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.firecrawl.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Durable progress marker for consuming the paginated results of an async job.
+ *
+ * <p>A checkpoint records the job ID, the {@code next} cursor of the first page
+ * that has <em>not</em> been handed to the consumer yet, and running totals.
+ * It is saved to a {@link CheckpointStore} after every page so that a restarted
+ * consumer can continue from the exact page where it stopped.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class Checkpoint {
+
+    private String jobId;
+    private String next;
+    private long pages;
+    private long items;
+    private boolean completed;
+    private long updatedAt;
+
+    private Checkpoint() {}
+
+    public Checkpoint(String jobId, String next, long pages, long items, boolean completed, long updatedAt) {
+        this.jobId = jobId;
+        this.next = next;
+        this.pages = pages;
+        this.items = items;
+        this.completed = completed;
+        this.updatedAt = updatedAt;
+    }
+
+    /** The ID of the job being consumed. */
+    public String getJobId() { return jobId; }
+
+    /** Cursor of the next page to fetch, or null once every page has been consumed. */
+    public String getNext() { return next; }
+
+    /** Number of pages handed to the consumer so far. */
+    public long getPages() { return pages; }
+
+    /** Number of items (documents, checks, ...) handed to the consumer so far. */
+    public long getItems() { return items; }
+
+    /** True once the last page has been consumed. */
+    public boolean isCompleted() { return completed; }
+
+    /** Epoch milliseconds of the last update. */
+    public long getUpdatedAt() { return updatedAt; }
+
+    /**
+     * Returns the checkpoint that follows this one after a page with
+     * {@code itemCount} items and the given {@code next} cursor was consumed.
+     */
+    public Checkpoint advance(String nextCursor, int itemCount) {
+        boolean done = nextCursor == null || nextCursor.isEmpty();
+        return new Checkpoint(jobId, done ? null : nextCursor, pages + 1, items + itemCount, done,
+                System.currentTimeMillis());
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint{jobId=" + jobId + ", pages=" + pages + ", items=" + items
+                + ", completed=" + completed + "}";
+    }
+}
@@ -0,0 +1,37 @@
+package com.firecrawl.client;
+
+/**
+ * Pluggable storage for {@link Checkpoint}s used by resumable result consumption.
+ *
+ * <p>Implementations must make {@link #save(String, Checkpoint)} durable before
+ * returning: a consumer only moves on to the next page once the checkpoint for
+ * the previous one has been saved.
+ *
+ * @see FileCheckpointStore
+ * @see InMemoryCheckpointStore
+ */
+public interface CheckpointStore {
+
+    /**
+     * Loads the checkpoint saved under {@code key}.
+     *
+     * @param key the checkpoint key
+     * @return the checkpoint, or null if none has been saved
+     */
+    Checkpoint load(String key);
+
+    /**
+     * Saves (replaces) the checkpoint under {@code key}.
+     *
+     * @param key        the checkpoint key
+     * @param checkpoint the checkpoint to persist
+     */
+    void save(String key, Checkpoint checkpoint);
+
+    /**
+     * Removes the checkpoint saved under {@code key}, if any.
+     *
+     * @param key the checkpoint key
+     */
+    void delete(String key);
+}
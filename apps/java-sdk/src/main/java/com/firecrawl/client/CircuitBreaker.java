@@ -0,0 +1,135 @@
+package com.firecrawl.client;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Count-based circuit breaker for one endpoint; see {@link CircuitBreakerConfig}.
+ *
+ * <p>All state changes happen under the instance lock. The critical sections
+ * are a few field updates, so contention is negligible next to an HTTP call.
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final CircuitBreakerConfig config;
+    private final long slowCallNanos;
+    private final long waitNanos;
+
+    // Sliding window of the last N outcomes
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int size;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialPermits;
+    private int trialCalls;
+    private int trialFailures;
+    private int trialSlowCalls;
+
+    CircuitBreaker(CircuitBreakerConfig config) {
+        this.config = config;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationMs());
+        this.waitNanos = TimeUnit.MILLISECONDS.toNanos(config.getWaitDurationInOpenStateMs());
+        this.failed = new boolean[config.getSlidingWindowSize()];
+        this.slow = new boolean[config.getSlidingWindowSize()];
+    }
+
+    /**
+     * Returns true if an attempt may be made now. In the half-open state each
+     * successful acquire consumes one trial permit, which must be followed by
+     * {@link #onResult(boolean, long)}.
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < waitNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialPermits = config.getPermittedCallsInHalfOpenState();
+            trialCalls = 0;
+            trialFailures = 0;
+            trialSlowCalls = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialPermits == 0) {
+                return false;
+            }
+            trialPermits--;
+        }
+        return true;
+    }
+
+    /** Records the outcome of an attempt that was admitted by {@link #tryAcquire()}. */
+    synchronized void onResult(boolean failure, long durationNanos) {
+        boolean isSlow = durationNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            trialCalls++;
+            if (failure) trialFailures++;
+            if (isSlow) trialSlowCalls++;
+            if (trialCalls >= config.getPermittedCallsInHalfOpenState()) {
+                if (exceedsThresholds(trialFailures, trialSlowCalls, trialCalls)) {
+                    open();
+                } else {
+                    reset(State.CLOSED);
+                }
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // Late result from an attempt admitted before the breaker opened
+            return;
+        }
+        if (size == failed.length) {
+            if (failed[next]) failures--;
+            if (slow[next]) slowCalls--;
+        } else {
+            size++;
+        }
+        failed[next] = failure;
+        slow[next] = isSlow;
+        if (failure) failures++;
+        if (isSlow) slowCalls++;
+        next = (next + 1) % failed.length;
+        if (size >= config.getMinimumNumberOfCalls() && exceedsThresholds(failures, slowCalls, size)) {
+            open();
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    /** Milliseconds until an open breaker admits trial calls; 0 when not open. */
+    synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(waitNanos - (System.nanoTime() - openedAt)));
+    }
+
+    private boolean exceedsThresholds(int failureCount, int slowCount, int calls) {
+        return failureCount * 100f >= config.getFailureRateThreshold() * calls
+                || slowCount * 100f >= config.getSlowCallRateThreshold() * calls;
+    }
+
+    private void open() {
+        reset(State.OPEN);
+        openedAt = System.nanoTime();
+    }
+
+    private void reset(State newState) {
+        state = newState;
+        next = 0;
+        size = 0;
+        failures = 0;
+        slowCalls = 0;
+        Arrays.fill(failed, false);
+        Arrays.fill(slow, false);
+    }
+}
@@ -0,0 +1,133 @@
+package com.firecrawl.client;
+
+/**
+ * Settings for the optional per-endpoint circuit breaker.
+ *
+ * <p>Each endpoint template (e.g. {@code "POST /v2/scrape"}) gets its own
+ * breaker that tracks the outcome of the last {@link Builder#slidingWindowSize
+ * slidingWindowSize} HTTP attempts. A failure is a network error, a 5xx or a
+ * 408 response; other 4xx responses say nothing about API health and count as
+ * successes. Once at least {@link Builder#minimumNumberOfCalls
+ * minimumNumberOfCalls} attempts are recorded and the failure rate or the
+ * slow-call rate reaches its threshold, the breaker opens. While it is open,
+ * calls fail immediately with
+ * {@link com.firecrawl.errors.CircuitBreakerOpenException} instead of running
+ * the retry loop. After {@link Builder#waitDurationInOpenStateMs
+ * waitDurationInOpenStateMs}, a few trial calls are let through (half-open).
+ * Their outcome either closes the breaker again or re-opens it.
+ *
+ * <pre>{@code
+ * FirecrawlClient client = FirecrawlClient.builder()
+ *     .circuitBreaker(CircuitBreakerConfig.builder()
+ *         .failureRateThreshold(50)
+ *         .waitDurationInOpenStateMs(10_000)
+ *         .build())
+ *     .build();
+ * }</pre>
+ */
+public final class CircuitBreakerConfig {
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallDurationMs;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateMs;
+    private final int permittedCallsInHalfOpenState;
+
+    private CircuitBreakerConfig(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDurationMs = builder.slowCallDurationMs;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.waitDurationInOpenStateMs = builder.waitDurationInOpenStateMs;
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+    }
+
+    /** Defaults: 50% failure rate, 100% slow-call rate above 60s, window 20, minimum 10, 30s open, 3 trial calls. */
+    public static CircuitBreakerConfig defaults() { return builder().build(); }
+
+    public float getFailureRateThreshold() { return failureRateThreshold; }
+    public float getSlowCallRateThreshold() { return slowCallRateThreshold; }
+    public long getSlowCallDurationMs() { return slowCallDurationMs; }
+    public int getSlidingWindowSize() { return slidingWindowSize; }
+    public int getMinimumNumberOfCalls() { return minimumNumberOfCalls; }
+    public long getWaitDurationInOpenStateMs() { return waitDurationInOpenStateMs; }
+    public int getPermittedCallsInHalfOpenState() { return permittedCallsInHalfOpenState; }
+
+    public static Builder builder() { return new Builder(); }
+
+    public static final class Builder {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 100;
+        private long slowCallDurationMs = 60_000;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private long waitDurationInOpenStateMs = 30_000;
+        private int permittedCallsInHalfOpenState = 3;
+
+        private Builder() {}
+
+        /** Percentage (1-100) of failed attempts in the window that opens the breaker. Default: 50. */
+        public Builder failureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /** Percentage (1-100) of slow attempts in the window that opens the breaker. Default: 100. */
+        public Builder slowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+        /** Attempts taking at least this long count as slow. Default: 60000. */
+        public Builder slowCallDurationMs(long slowCallDurationMs) {
+            this.slowCallDurationMs = slowCallDurationMs;
+            return this;
+        }
+
+        /** Number of most recent attempts the rates are computed over. Default: 20. */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /** Attempts needed in the window before the rates are evaluated. Default: 10. */
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /** How long an open breaker rejects calls before allowing trial calls. Default: 30000. */
+        public Builder waitDurationInOpenStateMs(long waitDurationInOpenStateMs) {
+            this.waitDurationInOpenStateMs = waitDurationInOpenStateMs;
+            return this;
+        }
+
+        /** Trial calls let through while half-open. Default: 3. */
+        public Builder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        public CircuitBreakerConfig build() {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+                throw new IllegalArgumentException("failureRateThreshold must be in (0, 100]");
+            }
+            if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 100) {
+                throw new IllegalArgumentException("slowCallRateThreshold must be in (0, 100]");
+            }
+            if (slowCallDurationMs <= 0 || waitDurationInOpenStateMs <= 0) {
+                throw new IllegalArgumentException("slowCallDurationMs and waitDurationInOpenStateMs must be positive");
+            }
+            if (slidingWindowSize < 1 || permittedCallsInHalfOpenState < 1) {
+                throw new IllegalArgumentException("slidingWindowSize and permittedCallsInHalfOpenState must be at least 1");
+            }
+            if (minimumNumberOfCalls < 1 || minimumNumberOfCalls > slidingWindowSize) {
+                throw new IllegalArgumentException("minimumNumberOfCalls must be between 1 and slidingWindowSize");
+            }
+            return new CircuitBreakerConfig(this);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.firecrawl.client;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazily creates one {@link CircuitBreaker} per endpoint template.
+ */
+final class CircuitBreakerRegistry {
+
+    private final CircuitBreakerConfig config;
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakerRegistry(CircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    CircuitBreaker get(String endpoint) {
+        CircuitBreaker breaker = breakers.get(endpoint);
+        return breaker != null ? breaker : breakers.computeIfAbsent(endpoint, k -> new CircuitBreaker(config));
+    }
+}
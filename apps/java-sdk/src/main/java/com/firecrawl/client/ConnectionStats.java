@@ -0,0 +1,79 @@
+package com.firecrawl.client;
+
+import java.util.Locale;
+
+/**
+ * Point-in-time breakdown of where HTTP call time goes: connection
+ * acquisition, DNS, connect, TLS, request write, time to first byte and body
+ * read, plus how often pooled connections were reused.
+ *
+ * <p>Phase percentiles only cover calls in which the phase happened, so
+ * {@link CallTimings.Phase#DNS DNS}, {@link CallTimings.Phase#CONNECT CONNECT}
+ * and {@link CallTimings.Phase#TLS TLS} describe new connections only.
+ */
+public final class ConnectionStats {
+
+    private final long calls;
+    private final long failedCalls;
+    private final long reusedConnections;
+    private final long[][] phaseCounts;
+    private final long[] phaseSamples;
+    private final long[] phaseSumMicros;
+
+    ConnectionStats(long calls, long failedCalls, long reusedConnections,
+                    long[][] phaseCounts, long[] phaseSamples, long[] phaseSumMicros) {
+        this.calls = calls;
+        this.failedCalls = failedCalls;
+        this.reusedConnections = reusedConnections;
+        this.phaseCounts = phaseCounts;
+        this.phaseSamples = phaseSamples;
+        this.phaseSumMicros = phaseSumMicros;
+    }
+
+    /** HTTP calls observed, including failed ones. */
+    public long getCalls() { return calls; }
+
+    /** Calls that ended with an I/O failure. */
+    public long getFailedCalls() { return failedCalls; }
+
+    /** Calls that ran on a pooled connection. */
+    public long getReusedConnections() { return reusedConnections; }
+
+    /** Fraction of calls (0.0-1.0) that ran on a pooled connection. */
+    public double getConnectionReuseRate() {
+        return calls > 0 ? (double) reusedConnections / calls : 0.0;
+    }
+
+    /** Number of calls in which the phase happened. */
+    public long getPhaseCount(CallTimings.Phase phase) {
+        return phaseSamples[phase.ordinal()];
+    }
+
+    /**
+     * Phase duration at the given percentile, accurate to about 3%.
+     *
+     * @param percentile 0-100, e.g. 50, 90, 99
+     */
+    public double getPhaseMillis(CallTimings.Phase phase, double percentile) {
+        return LatencyHistogram.percentile(phaseCounts[phase.ordinal()], percentile) / 1000.0;
+    }
+
+    public double getMeanPhaseMillis(CallTimings.Phase phase) {
+        long samples = phaseSamples[phase.ordinal()];
+        return samples > 0 ? phaseSumMicros[phase.ordinal()] / 1000.0 / samples : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("ConnectionStats{calls=").append(calls)
+                .append(", failed=").append(failedCalls)
+                .append(", reuseRate=").append(getConnectionReuseRate());
+        for (CallTimings.Phase phase : CallTimings.PHASES) {
+            if (getPhaseCount(phase) > 0) {
+                out.append(", ").append(phase.name().toLowerCase(Locale.ROOT))
+                        .append(".p50=").append(getPhaseMillis(phase, 50)).append("ms");
+            }
+        }
+        return out.append('}').toString();
+    }
+}
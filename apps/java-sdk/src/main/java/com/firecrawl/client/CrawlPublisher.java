@@ -0,0 +1,194 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.errors.JobTimeoutException;
+import com.firecrawl.models.CrawlJob;
+import com.firecrawl.models.CrawlOptions;
+import com.firecrawl.models.Document;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-subscriber {@link Flow.Publisher} that starts a crawl and emits its
+ * documents as they are scraped.
+ *
+ * <p>Nothing happens until the subscriber signals demand. Each fetch asks the
+ * status endpoint only for documents past those already emitted
+ * ({@code ?skip=N}), and a new fetch is issued only when the buffer is empty
+ * and demand is outstanding, so a slow subscriber throttles polling and
+ * pagination instead of accumulating results in memory.
+ */
+final class CrawlPublisher implements Flow.Publisher<Document> {
+
+    private final FirecrawlClient client;
+    private final String url;
+    private final CrawlOptions options;
+    private final int pollIntervalSec;
+    private final int timeoutSec;
+    private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    CrawlPublisher(FirecrawlClient client, String url, CrawlOptions options,
+                   int pollIntervalSec, int timeoutSec, Executor executor) {
+        this.client = client;
+        this.url = url;
+        this.options = options;
+        this.pollIntervalSec = pollIntervalSec;
+        this.timeoutSec = timeoutSec;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Document> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber is required");
+        }
+        CrawlSubscription subscription = new CrawlSubscription(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(subscription);
+            subscription.fail(new IllegalStateException("crawlPublisher supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class CrawlSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super Document> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final ArrayDeque<Document> buffer = new ArrayDeque<>();
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;
+
+        // Only touched by the drain loop
+        private String jobId;
+        private long deadline;
+        private int fetched;
+        private boolean exhausted;
+        private String finalStatus;
+
+        CrawlSubscription(Flow.Subscriber<? super Document> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("request(n) requires n > 0, got " + n));
+                return;
+            }
+            long current;
+            long updated;
+            do {
+                current = demand.get();
+                updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!demand.compareAndSet(current, updated));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        void fail(Throwable error) {
+            pendingError = error;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                try {
+                    emitLoop();
+                } catch (Throwable e) {
+                    if (!cancelled) {
+                        cancelled = true;
+                        subscriber.onError(e);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitLoop() {
+            while (!cancelled) {
+                Throwable error = pendingError;
+                if (error != null) {
+                    cancelled = true;
+                    subscriber.onError(error);
+                    return;
+                }
+                if (demand.get() == 0) {
+                    return;
+                }
+                Document next = buffer.poll();
+                if (next != null) {
+                    demand.decrementAndGet();
+                    subscriber.onNext(next);
+                    continue;
+                }
+                if (exhausted) {
+                    cancelled = true;
+                    if ("failed".equals(finalStatus)) {
+                        subscriber.onError(new FirecrawlException("Crawl job " + jobId + " failed"));
+                    } else {
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                fetchMore();
+            }
+        }
+
+        /**
+         * Fetches the next batch of documents, starting the crawl on first use
+         * and sleeping one poll interval when the job has nothing new yet.
+         */
+        private void fetchMore() {
+            if (jobId == null) {
+                deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
+                jobId = client.startCrawl(url, options).getId();
+            }
+            JfrEvents.PollEvent event = JfrEvents.beginPoll();
+            CrawlJob page = client.getCrawlStatus(jobId, fetched);
+            List<Document> data = page.getData();
+            int received = data != null ? data.size() : 0;
+            JfrEvents.commitPoll(event, "crawl", jobId, page.getStatus(), page.getCompleted(), page.getTotal(), received);
+            if (received > 0) {
+                buffer.addAll(data);
+                fetched += received;
+                // The timeout bounds how long the job may go without progress
+                deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
+            }
+            boolean more = page.getNext() != null && !page.getNext().isEmpty();
+            if (page.isDone()) {
+                if (!more || received == 0) {
+                    exhausted = true;
+                    finalStatus = page.getStatus();
+                }
+                return;
+            }
+            if (received == 0) {
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new JobTimeoutException(jobId, timeoutSec, "Crawl");
+                }
+                client.sleep(pollIntervalSec);
+            }
+        }
+    }
+}
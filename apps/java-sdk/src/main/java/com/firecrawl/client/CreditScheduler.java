@@ -0,0 +1,562 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.CreditLimitException;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.AgentOptions;
+import com.firecrawl.models.AgentResponse;
+import com.firecrawl.models.AgentStatusResponse;
+import com.firecrawl.models.BatchScrapeJob;
+import com.firecrawl.models.BatchScrapeOptions;
+import com.firecrawl.models.BatchScrapeResponse;
+import com.firecrawl.models.CrawlJob;
+import com.firecrawl.models.CrawlOptions;
+import com.firecrawl.models.CrawlResponse;
+import com.firecrawl.models.CreditUsage;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Admits crawl, batch scrape and agent jobs only while the team's credits
+ * and a configured spend rate allow it.
+ *
+ * <p>Each job's cost is estimated before it is started: a crawl's
+ * {@code limit} (or {@link Builder#defaultCrawlLimit(int)}) and a batch's
+ * URL count times {@link Builder#creditsPerPage(double)}, and an agent's
+ * {@code maxCredits} (or {@link Builder#defaultAgentCredits(long)}). Pass
+ * an explicit estimate to override this. The estimate is held against the
+ * remaining credits until the job's {@code creditsUsed} is known. That
+ * happens when a status call through this scheduler sees the job done, or
+ * when {@link #settle(String, long)} is called.
+ *
+ * <p>Remaining credits come from {@code getCreditUsage()}. They are read on
+ * first use, again every {@link Builder#refreshInterval(Duration)}, and
+ * reduced locally as jobs settle. A job is admitted at once if it fits in
+ * both the credits and the spend-rate allowance. Otherwise the calling
+ * thread waits, up to {@link Builder#maxDelay(Duration)}, for running jobs
+ * to settle or the allowance to refill. A job that cannot be admitted in
+ * time, or cannot fit even with nothing outstanding, is rejected with a
+ * {@link CreditLimitException} without being sent.
+ *
+ * <p>Outstanding estimates are counted in full even after a refresh has
+ * already reflected part of their cost, so the scheduler errs towards
+ * holding jobs back rather than overspending.
+ *
+ * <pre>{@code
+ * CreditScheduler scheduler = CreditScheduler.builder(client)
+ *     .reserveCredits(500)          // never touch the last 500 credits
+ *     .spendRate(20)                // about 20 credits per second on average
+ *     .maxDelay(Duration.ofMinutes(2))
+ *     .build();
+ * for (List<String> chunk : chunks) {
+ *     BatchScrapeResponse started = scheduler.startBatchScrape(chunk, options);
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class CreditScheduler {
+
+    private final FirecrawlClient client;
+    private final long reserveCredits;
+    private final double spendRate;
+    private final double burstCredits;
+    private final long maxDelayNanos;
+    private final long refreshIntervalNanos;
+    private final double creditsPerPage;
+    private final int defaultCrawlLimit;
+    private final long defaultAgentCredits;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<String, Long> outstanding = new HashMap<>();
+    private long remainingCredits;
+    private long refreshedAt;
+    private boolean refreshed;
+    private boolean refreshing;
+    private long pendingCredits;
+    private int startsInFlight;
+    private double allowance;
+    private long allowanceAt;
+    private long admitted;
+    private long delayed;
+    private long rejected;
+    private long delayNanos;
+    private long settledCredits;
+    private RuntimeException lastRefreshError;
+
+    private CreditScheduler(Builder builder) {
+        this.client = builder.client;
+        this.reserveCredits = builder.reserveCredits;
+        this.spendRate = builder.spendRate;
+        this.burstCredits = builder.burstCredits > 0 ? builder.burstCredits : builder.spendRate * 60;
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.refreshIntervalNanos = builder.refreshInterval.toNanos();
+        this.creditsPerPage = builder.creditsPerPage;
+        this.defaultCrawlLimit = builder.defaultCrawlLimit;
+        this.defaultAgentCredits = builder.defaultAgentCredits;
+        this.allowance = burstCredits;
+        this.allowanceAt = System.nanoTime();
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    // ================================================================
+    // ADMISSION
+    // ================================================================
+
+    public CrawlResponse startCrawl(String url, CrawlOptions options) {
+        return startCrawl(url, options, estimateCrawl(options));
+    }
+
+    /**
+     * Starts a crawl once {@code estimatedCredits} can be admitted.
+     *
+     * @throws CreditLimitException if the job could not be admitted within the maximum delay
+     */
+    public CrawlResponse startCrawl(String url, CrawlOptions options, long estimatedCredits) {
+        Objects.requireNonNull(url, "URL is required");
+        return submit(estimatedCredits, () -> client.startCrawl(url, options), CrawlResponse::getId);
+    }
+
+    public BatchScrapeResponse startBatchScrape(List<String> urls, BatchScrapeOptions options) {
+        Objects.requireNonNull(urls, "URLs list is required");
+        return startBatchScrape(urls, options, estimatePages(urls.size()));
+    }
+
+    /**
+     * Starts a batch scrape once {@code estimatedCredits} can be admitted.
+     *
+     * @throws CreditLimitException if the job could not be admitted within the maximum delay
+     */
+    public BatchScrapeResponse startBatchScrape(List<String> urls, BatchScrapeOptions options, long estimatedCredits) {
+        Objects.requireNonNull(urls, "URLs list is required");
+        return submit(estimatedCredits, () -> client.startBatchScrape(urls, options), BatchScrapeResponse::getId);
+    }
+
+    public AgentResponse startAgent(AgentOptions options) {
+        Objects.requireNonNull(options, "Agent options are required");
+        return startAgent(options, options.getMaxCredits() != null ? options.getMaxCredits() : defaultAgentCredits);
+    }
+
+    /**
+     * Starts an agent task once {@code estimatedCredits} can be admitted.
+     *
+     * @throws CreditLimitException if the job could not be admitted within the maximum delay
+     */
+    public AgentResponse startAgent(AgentOptions options, long estimatedCredits) {
+        Objects.requireNonNull(options, "Agent options are required");
+        return submit(estimatedCredits, () -> client.startAgent(options), AgentResponse::getId);
+    }
+
+    // ================================================================
+    // SETTLEMENT
+    // ================================================================
+
+    /** Gets a crawl's status, settling its estimate once the crawl is done. */
+    public CrawlJob getCrawlStatus(String jobId) {
+        CrawlJob job = client.getCrawlStatus(jobId);
+        if (job.isDone()) {
+            settleJob(jobId, credits(job.getCreditsUsed()));
+        }
+        return job;
+    }
+
+    /** Gets a batch scrape's status, settling its estimate once the batch is done. */
+    public BatchScrapeJob getBatchScrapeStatus(String jobId) {
+        BatchScrapeJob job = client.getBatchScrapeStatus(jobId);
+        if (job.isDone()) {
+            settleJob(jobId, credits(job.getCreditsUsed()));
+        }
+        return job;
+    }
+
+    /** Gets an agent task's status, settling its estimate once the task is done. */
+    public AgentStatusResponse getAgentStatus(String jobId) {
+        AgentStatusResponse status = client.getAgentStatus(jobId);
+        if (status.isDone()) {
+            settleJob(jobId, credits(status.getCreditsUsed()));
+        }
+        return status;
+    }
+
+    /**
+     * Replaces a job's estimate with what it actually cost. Call this for
+     * jobs whose final status is read some other way, such as through a
+     * webhook. Unknown or already settled job IDs are ignored.
+     */
+    public void settle(String jobId, long creditsUsed) {
+        settleJob(jobId, creditsUsed);
+    }
+
+    private static Long credits(Integer creditsUsed) {
+        return creditsUsed != null ? creditsUsed.longValue() : null;
+    }
+
+    private void settleJob(String jobId, Long creditsUsed) {
+        lock.lock();
+        try {
+            Long estimate = outstanding.remove(jobId);
+            if (estimate == null) {
+                return;
+            }
+            // A job that did not report its cost is assumed to have cost its estimate
+            long used = creditsUsed != null ? Math.max(0, creditsUsed) : estimate;
+            pendingCredits -= estimate;
+            remainingCredits -= used;
+            settledCredits += used;
+            if (spendRate > 0) {
+                refill(System.nanoTime());
+                allowance = Math.min(burstCredits, allowance + estimate - used);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats getStats() {
+        lock.lock();
+        try {
+            if (spendRate > 0) {
+                refill(System.nanoTime());
+            }
+            return new Stats(this);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ================================================================
+    // INTERNALS
+    // ================================================================
+
+    private long estimateCrawl(CrawlOptions options) {
+        Integer limit = options != null ? options.getLimit() : null;
+        return estimatePages(limit != null ? limit : defaultCrawlLimit);
+    }
+
+    private long estimatePages(int pages) {
+        return (long) Math.ceil(pages * creditsPerPage);
+    }
+
+    private <T> T submit(long estimate, Supplier<T> start, Function<T, String> jobId) {
+        if (estimate < 0) {
+            throw new IllegalArgumentException("estimatedCredits must not be negative");
+        }
+        admit(estimate);
+        T response;
+        try {
+            response = start.get();
+        } catch (RuntimeException e) {
+            release(estimate, null);
+            throw e;
+        }
+        release(estimate, jobId.apply(response));
+        return response;
+    }
+
+    /** Moves an admitted estimate from the in-flight start to its job, or drops it if the start failed. */
+    private void release(long estimate, String jobId) {
+        lock.lock();
+        try {
+            startsInFlight--;
+            if (jobId != null) {
+                outstanding.merge(jobId, estimate, Long::sum);
+            } else {
+                pendingCredits -= estimate;
+                if (spendRate > 0) {
+                    refill(System.nanoTime());
+                    allowance = Math.min(burstCredits, allowance + estimate);
+                }
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Blocks until the estimate fits, then reserves it. */
+    private void admit(long estimate) {
+        long start = System.nanoTime();
+        long deadline = start + maxDelayNanos;
+        boolean waited = false;
+        while (true) {
+            refreshIfStale();
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                long available = remainingCredits - reserveCredits - pendingCredits;
+                long waitNanos;
+                if (estimate > available) {
+                    if (pendingCredits == 0 && startsInFlight == 0) {
+                        throw reject("Not enough credits: job needs about " + estimate + ", "
+                                + Math.max(0, available) + " available", estimate, available);
+                    }
+                    waitNanos = refreshIntervalNanos; // until a job settles or credits are re-read
+                } else if (spendRate > 0 && allowance(now) < Math.min(estimate, burstCredits)) {
+                    waitNanos = (long) ((Math.min(estimate, burstCredits) - allowance) / spendRate * 1e9);
+                    if (now + waitNanos - deadline > 0) {
+                        throw reject("Spend rate of " + spendRate + " credits/s would delay a job of about "
+                                + estimate + " credits by more than " + TimeUnit.NANOSECONDS.toMillis(maxDelayNanos)
+                                + " ms", estimate, available);
+                    }
+                } else {
+                    if (spendRate > 0) {
+                        allowance -= estimate;
+                    }
+                    pendingCredits += estimate;
+                    startsInFlight++;
+                    admitted++;
+                    if (waited) {
+                        delayed++;
+                        delayNanos += now - start;
+                    }
+                    return;
+                }
+                long left = deadline - now;
+                if (left <= 0) {
+                    throw reject("Job of about " + estimate + " credits could not be admitted within "
+                            + TimeUnit.NANOSECONDS.toMillis(maxDelayNanos) + " ms", estimate, available);
+                }
+                long untilRefresh = refreshedAt + refreshIntervalNanos - now;
+                waited = true;
+                changed.awaitNanos(Math.max(1, Math.min(waitNanos, Math.min(left, untilRefresh))));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FirecrawlException("Interrupted while waiting for credits", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private CreditLimitException reject(String message, long estimate, long available) {
+        rejected++;
+        return new CreditLimitException(message, estimate, Math.max(0, available));
+    }
+
+    /** Re-reads the remaining credits when they are stale; only one caller fetches at a time. */
+    private void refreshIfStale() {
+        long settledBefore;
+        lock.lock();
+        try {
+            while (refreshing) {
+                changed.await();
+            }
+            if (refreshed && System.nanoTime() - refreshedAt < refreshIntervalNanos) {
+                return;
+            }
+            refreshing = true;
+            settledBefore = settledCredits;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FirecrawlException("Interrupted while waiting for credits", e);
+        } finally {
+            lock.unlock();
+        }
+        CreditUsage usage = null;
+        RuntimeException error = null;
+        try {
+            usage = client.getCreditUsage();
+        } catch (RuntimeException e) {
+            error = e;
+        }
+        lock.lock();
+        try {
+            refreshing = false;
+            refreshedAt = System.nanoTime();
+            if (usage != null) {
+                // Jobs settled while the request was in flight may not be reflected in it yet
+                remainingCredits = usage.getRemainingCredits() - (settledCredits - settledBefore);
+                refreshed = true;
+                lastRefreshError = null;
+            } else {
+                lastRefreshError = error;
+            }
+            changed.signalAll();
+            if (!refreshed) {
+                throw error; // nothing to fall back on yet
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double allowance(long now) {
+        refill(now);
+        return allowance;
+    }
+
+    private void refill(long now) {
+        allowance = Math.min(burstCredits, allowance + (now - allowanceAt) / 1e9 * spendRate);
+        allowanceAt = now;
+    }
+
+    /** A snapshot of the scheduler's accounting. */
+    public static final class Stats {
+        private final long remainingCredits;
+        private final long pendingCredits;
+        private final long availableCredits;
+        private final long settledCredits;
+        private final int outstandingJobs;
+        private final long admitted;
+        private final long delayed;
+        private final long rejected;
+        private final long delayNanos;
+        private final RuntimeException lastRefreshError;
+
+        private Stats(CreditScheduler scheduler) {
+            this.remainingCredits = scheduler.remainingCredits;
+            this.pendingCredits = scheduler.pendingCredits;
+            this.availableCredits = Math.max(0,
+                    scheduler.remainingCredits - scheduler.reserveCredits - scheduler.pendingCredits);
+            this.settledCredits = scheduler.settledCredits;
+            this.outstandingJobs = scheduler.outstanding.size();
+            this.admitted = scheduler.admitted;
+            this.delayed = scheduler.delayed;
+            this.rejected = scheduler.rejected;
+            this.delayNanos = scheduler.delayNanos;
+            this.lastRefreshError = scheduler.lastRefreshError;
+        }
+
+        /** Remaining credits as last read from the API, less what has settled since. */
+        public long getRemainingCredits() { return remainingCredits; }
+
+        /** Estimates held for jobs that have not settled yet. */
+        public long getPendingCredits() { return pendingCredits; }
+
+        /** Credits a new job could use now: remaining, minus the reserve and pending estimates. */
+        public long getAvailableCredits() { return availableCredits; }
+
+        /** Credits reported by settled jobs. */
+        public long getSettledCredits() { return settledCredits; }
+
+        /** Started jobs whose cost is not known yet. */
+        public int getOutstandingJobs() { return outstandingJobs; }
+
+        public long getAdmitted() { return admitted; }
+
+        /** Jobs admitted after waiting. */
+        public long getDelayed() { return delayed; }
+        public long getRejected() { return rejected; }
+
+        /** Average wait of delayed jobs, in nanoseconds. */
+        public long getAverageDelayNanos() { return delayed == 0 ? 0 : delayNanos / delayed; }
+
+        /** The error from the most recent failed credit refresh, or null. */
+        public RuntimeException getLastRefreshError() { return lastRefreshError; }
+
+        @Override
+        public String toString() {
+            return "CreditScheduler.Stats{remaining=" + remainingCredits + ", pending=" + pendingCredits
+                    + ", available=" + availableCredits + ", admitted=" + admitted + ", delayed=" + delayed
+                    + ", rejected=" + rejected + "}";
+        }
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private long reserveCredits;
+        private double spendRate;
+        private double burstCredits;
+        private Duration maxDelay = Duration.ofMinutes(5);
+        private Duration refreshInterval = Duration.ofMinutes(1);
+        private double creditsPerPage = 1;
+        private int defaultCrawlLimit = 10_000;
+        private long defaultAgentCredits = 1_000;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /** Credits to leave untouched; jobs are only admitted above this floor. Default: 0. */
+        public Builder reserveCredits(long reserveCredits) {
+            this.reserveCredits = reserveCredits;
+            return this;
+        }
+
+        /** Average credits per second that may be admitted; 0 for no rate limit. Default: no limit. */
+        public Builder spendRate(double creditsPerSecond) {
+            this.spendRate = creditsPerSecond;
+            return this;
+        }
+
+        /**
+         * Credits that may be admitted at once after an idle period. A job
+         * estimated above this still runs once the whole burst is
+         * available. Default: one minute of the spend rate.
+         */
+        public Builder burstCredits(double burstCredits) {
+            this.burstCredits = burstCredits;
+            return this;
+        }
+
+        /** Longest a start call waits to be admitted before it is rejected. Default: 5 minutes. */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /** How often remaining credits are re-read from the API. Default: 1 minute. */
+        public Builder refreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /** Estimated credits per crawled or scraped page. Default: 1. */
+        public Builder creditsPerPage(double creditsPerPage) {
+            this.creditsPerPage = creditsPerPage;
+            return this;
+        }
+
+        /** Pages assumed for a crawl without a {@code limit}. Default: 10000. */
+        public Builder defaultCrawlLimit(int defaultCrawlLimit) {
+            this.defaultCrawlLimit = defaultCrawlLimit;
+            return this;
+        }
+
+        /** Credits assumed for an agent task without {@code maxCredits}. Default: 1000. */
+        public Builder defaultAgentCredits(long defaultAgentCredits) {
+            this.defaultAgentCredits = defaultAgentCredits;
+            return this;
+        }
+
+        public CreditScheduler build() {
+            if (reserveCredits < 0) {
+                throw new IllegalArgumentException("reserveCredits must not be negative");
+            }
+            if (spendRate < 0 || Double.isNaN(spendRate)) {
+                throw new IllegalArgumentException("spendRate must not be negative");
+            }
+            if (burstCredits < 0 || Double.isNaN(burstCredits)) {
+                throw new IllegalArgumentException("burstCredits must not be negative");
+            }
+            if (maxDelay == null || maxDelay.isNegative()) {
+                throw new IllegalArgumentException("maxDelay must not be negative");
+            }
+            if (refreshInterval == null || refreshInterval.isNegative() || refreshInterval.isZero()) {
+                throw new IllegalArgumentException("refreshInterval must be positive");
+            }
+            if (creditsPerPage < 0 || Double.isNaN(creditsPerPage)) {
+                throw new IllegalArgumentException("creditsPerPage must not be negative");
+            }
+            if (defaultCrawlLimit < 1) {
+                throw new IllegalArgumentException("defaultCrawlLimit must be at least 1");
+            }
+            if (defaultAgentCredits < 0) {
+                throw new IllegalArgumentException("defaultAgentCredits must not be negative");
+            }
+            return new CreditScheduler(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.firecrawl.client;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * A point in time by which a logical operation must finish, such as a crawl
+ * including its polling, retries and result pagination.
+ *
+ * <p>Deadlines are measured on the monotonic {@link System#nanoTime()} clock,
+ * so they are unaffected by wall-clock adjustments. Use them through
+ * {@link FirecrawlClient#withDeadline(Deadline)}.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+    private final long timeoutMillis;
+
+    private Deadline(long deadlineNanos, long timeoutMillis) {
+        this.deadlineNanos = deadlineNanos;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * A deadline {@code timeout} from now.
+     */
+    public static Deadline after(Duration timeout) {
+        Objects.requireNonNull(timeout, "Timeout is required");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        return new Deadline(System.nanoTime() + timeout.toNanos(), timeout.toMillis());
+    }
+
+    /** The budget this deadline was created with, in milliseconds. */
+    public long getTimeoutMillis() { return timeoutMillis; }
+
+    /** Time left before the deadline; zero once it has passed. */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /** Milliseconds left before the deadline, rounded up; zero once it has passed. */
+    public long remainingMillis() {
+        long nanos = deadlineNanos - System.nanoTime();
+        return nanos <= 0 ? 0 : (nanos + 999_999) / 1_000_000;
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /** Whichever of this deadline and {@code other} comes first. */
+    public Deadline earlierOf(Deadline other) {
+        if (other == null) {
+            return this;
+        }
+        return other.deadlineNanos - deadlineNanos < 0 ? other : this;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remainingMillis() + "ms, timeout=" + timeoutMillis + "ms}";
+    }
+}
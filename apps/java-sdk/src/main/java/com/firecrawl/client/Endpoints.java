@@ -0,0 +1,47 @@
+package com.firecrawl.client;
+
+import java.util.Set;
+
+/**
+ * Maps concrete request paths to low-cardinality endpoint templates used as
+ * metric and breaker keys.
+ */
+final class Endpoints {
+
+    /** Path segments that are part of the API surface; anything else is an ID. */
+    private static final Set<String> FIXED_SEGMENTS = Set.of(
+            "v1", "v2", "scrape", "interact", "parse", "crawl", "errors", "active", "params-preview",
+            "batch", "map", "search", "research", "papers", "similar", "github",
+            "agent", "browser", "execute", "monitor", "run", "checks",
+            "team", "credit-usage", "token-usage", "concurrency-check");
+
+    private Endpoints() {}
+
+    /**
+     * Returns {@code "METHOD /path"} with ID segments replaced by {@code {id}}
+     * and any query string removed.
+     */
+    static String template(String method, String path) {
+        int end = path.indexOf('?');
+        if (end < 0) {
+            end = path.length();
+        }
+        StringBuilder out = new StringBuilder(method.length() + end + 8).append(method).append(' ');
+        int start = 0;
+        while (start < end) {
+            int slash = path.indexOf('/', start);
+            if (slash < 0 || slash > end) {
+                slash = end;
+            }
+            if (slash > start) {
+                String segment = path.substring(start, slash);
+                out.append('/').append(FIXED_SEGMENTS.contains(segment) ? segment : "{id}");
+            }
+            start = slash + 1;
+        }
+        if (out.charAt(out.length() - 1) == ' ') {
+            out.append('/');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,102 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs blocking SDK calls for many items with bounded concurrency.
+ *
+ * <p>Each call gets a short-lived pool of daemon threads sized to the
+ * requested parallelism. The shared async executor is not used: it is
+ * usually the common ForkJoinPool, which would cap blocking I/O at the
+ * number of cores.
+ */
+final class FanOut {
+
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private FanOut() {}
+
+    /**
+     * Runs {@code task} once per item on up to {@code parallelism} threads and
+     * waits for all of them. A failing item does not stop the others.
+     *
+     * @return the exception thrown for each failed item, in item order
+     */
+    static <T> Map<T, RuntimeException> forEach(Collection<T> items, int parallelism, String name,
+                                                Consumer<? super T> task) {
+        Map<T, RuntimeException> failures = new LinkedHashMap<>();
+        if (items.isEmpty()) {
+            return failures;
+        }
+        ExecutorService pool = newPool(Math.min(parallelism, items.size()), name);
+        try {
+            List<T> submitted = new ArrayList<>(items.size());
+            List<Future<?>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                submitted.add(item);
+                futures.add(pool.submit(() -> task.accept(item)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    failures.put(submitted.get(i), cause instanceof RuntimeException
+                            ? (RuntimeException) cause
+                            : new FirecrawlException(String.valueOf(cause.getMessage()), cause));
+                }
+            }
+            return failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FirecrawlException("Interrupted while waiting for " + name + " tasks", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    static ExecutorService newPool(int threads, String name) {
+        return Executors.newFixedThreadPool(threads, daemonThreads(name));
+    }
+
+    /**
+     * A pool of up to {@code threads} daemon threads that exit after
+     * {@code keepAliveSeconds} idle, for long-lived owners that are never
+     * shut down explicitly. Threads start again on demand.
+     */
+    static ExecutorService newIdlePool(int threads, String name, long keepAliveSeconds) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, keepAliveSeconds, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreads(name));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        String prefix = "firecrawl-" + name + "-" + POOL_SEQUENCE.incrementAndGet() + "-";
+        AtomicInteger threadSequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
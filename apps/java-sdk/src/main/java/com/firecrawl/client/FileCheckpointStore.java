@@ -0,0 +1,93 @@
+package com.firecrawl.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.errors.FirecrawlException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * {@link CheckpointStore} that keeps one small JSON file per key in a local
+ * directory. Writes go to a temporary file that is atomically moved into
+ * place, so a crash mid-write never leaves a truncated checkpoint behind.
+ * Both the file and the directory entry are flushed to disk before
+ * {@link #save} returns.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * CheckpointStore store = new FileCheckpointStore(Paths.get("/var/lib/myapp/checkpoints"));
+ * client.consumeCrawl(jobId, store, docs -> persist(docs));
+ * }</pre>
+ */
+public class FileCheckpointStore implements CheckpointStore {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Creates a store rooted at {@code directory}, creating it if needed.
+     *
+     * @param directory the directory that holds checkpoint files
+     */
+    public FileCheckpointStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "Checkpoint directory is required");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to create checkpoint directory " + directory, e);
+        }
+    }
+
+    /**
+     * Creates a store rooted at {@code ~/.firecrawl/checkpoints}.
+     */
+    public static FileCheckpointStore defaultStore() {
+        return new FileCheckpointStore(Paths.get(System.getProperty("user.home"), ".firecrawl", "checkpoints"));
+    }
+
+    /** The directory that holds checkpoint files. */
+    public Path getDirectory() { return directory; }
+
+    @Override
+    public Checkpoint load(String key) {
+        Path file = fileFor(key);
+        try {
+            return objectMapper.readValue(Files.readAllBytes(file), Checkpoint.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to read checkpoint " + file, e);
+        }
+    }
+
+    @Override
+    public void save(String key, Checkpoint checkpoint) {
+        Path file = fileFor(key);
+        try {
+            LockedFiles.write(file, objectMapper.writeValueAsBytes(checkpoint));
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to write checkpoint " + file, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        Path file = fileFor(key);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to delete checkpoint " + file, e);
+        }
+    }
+
+    private Path fileFor(String key) {
+        Objects.requireNonNull(key, "Checkpoint key is required");
+        return directory.resolve(LockedFiles.fileName(key));
+    }
+}
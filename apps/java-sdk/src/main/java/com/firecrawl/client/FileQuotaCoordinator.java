@@ -0,0 +1,181 @@
+package com.firecrawl.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.errors.FirecrawlException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * {@link QuotaCoordinator} backed by a small JSON file on a filesystem
+ * that all nodes mount, such as NFS or EFS. Each operation takes an
+ * exclusive lock on a sibling {@code .lock} file, reads the state, and
+ * atomically replaces it, so a node that crashes mid-write never leaves a
+ * truncated file behind. Writes are not flushed to disk: leases expire on
+ * their own, so losing the last few after a power failure is harmless.
+ *
+ * <p>The filesystem must support {@link FileChannel#lock() file locks}
+ * across hosts (NFSv4 does). Every HTTP call takes and releases the lock a
+ * few times, which is fine for dozens of nodes; a busier cluster should
+ * implement {@link QuotaCoordinator} over a database or Redis instead.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * QuotaCoordinator shared = new FileQuotaCoordinator(Paths.get("/mnt/shared/firecrawl-quota.json"));
+ * }</pre>
+ */
+public class FileQuotaCoordinator implements QuotaCoordinator {
+
+    private final Path file;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * Creates a coordinator whose state lives in {@code file}. The parent
+     * directory is created if needed.
+     *
+     * @param file the shared state file
+     */
+    public FileQuotaCoordinator(Path file) {
+        this.file = Objects.requireNonNull(file, "Quota file is required").toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.file.getParent());
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to create quota directory " + this.file.getParent(), e);
+        }
+    }
+
+    /** The shared state file. */
+    public Path getFile() { return file; }
+
+    static final class State {
+        public Map<String, Lease> leases = new LinkedHashMap<>();
+        public Double tokens;
+        public long refilledAt;
+        @JsonIgnore
+        boolean changed;
+
+        void expire(long now) {
+            for (Iterator<Lease> it = leases.values().iterator(); it.hasNext(); ) {
+                if (it.next().expiresAt <= now) {
+                    it.remove();
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    static final class Lease {
+        public String holder;
+        public long expiresAt;
+    }
+
+    @Override
+    public QuotaLease tryAcquire(String holder, int limit, long ttlMillis) {
+        return update(state -> {
+            long now = System.currentTimeMillis();
+            state.expire(now);
+            if (state.leases.size() >= limit) {
+                return null;
+            }
+            QuotaLease lease = new QuotaLease(UUID.randomUUID().toString(), holder, now + ttlMillis);
+            Lease entry = new Lease();
+            entry.holder = holder;
+            entry.expiresAt = lease.getExpiresAtMillis();
+            state.leases.put(lease.getId(), entry);
+            state.changed = true;
+            return lease;
+        });
+    }
+
+    @Override
+    public boolean renew(QuotaLease lease, long ttlMillis) {
+        return update(state -> {
+            long now = System.currentTimeMillis();
+            state.expire(now);
+            Lease entry = state.leases.get(lease.getId());
+            if (entry == null) {
+                return false;
+            }
+            entry.expiresAt = now + ttlMillis;
+            state.changed = true;
+            return true;
+        });
+    }
+
+    @Override
+    public void release(QuotaLease lease) {
+        update(state -> {
+            state.changed = state.leases.remove(lease.getId()) != null;
+            return null;
+        });
+    }
+
+    @Override
+    public long reserveToken(double permitsPerSecond, int burst) {
+        return update(state -> {
+            long now = System.currentTimeMillis();
+            double millisPerPermit = TimeUnit.SECONDS.toMillis(1) / permitsPerSecond;
+            double tokens = state.tokens == null
+                    ? burst
+                    : Math.min(burst, state.tokens + Math.max(0, now - state.refilledAt) / millisPerPermit);
+            state.tokens = tokens - 1;
+            state.refilledAt = now;
+            state.changed = true;
+            return state.tokens >= 0 ? 0L : (long) Math.ceil(-state.tokens * millisPerPermit);
+        });
+    }
+
+    @Override
+    public int activeLeases() {
+        return update(state -> {
+            state.expire(System.currentTimeMillis());
+            return state.leases.size();
+        });
+    }
+
+    /** Runs {@code change} on the current state while holding the lock, and saves it if it changed. */
+    private <T> T update(Function<State, T> change) {
+        AtomicReference<T> result = new AtomicReference<>();
+        try {
+            // Leases expire within seconds anyway, so an fsync per call would add latency and no safety
+            LockedFiles.update(file, false, json -> {
+                State state = read(json);
+                result.set(change.apply(state));
+                return state.changed ? write(state) : json;
+            });
+            return result.get();
+        } catch (IOException | UncheckedIOException e) {
+            throw new FirecrawlException("Failed to update quota file " + file, e);
+        }
+    }
+
+    private State read(String json) {
+        try {
+            return json != null ? objectMapper.readValue(json, State.class) : new State();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(State state) {
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link ShardStore} that keeps one JSON file per job in a directory that
+ * all worker nodes mount. Each update holds an exclusive lock on a sibling
+ * {@code .lock} file and atomically replaces the table, so the filesystem
+ * must support file locks across hosts (NFSv4 does).
+ *
+ * <p>Example:
+ * <pre>{@code
+ * ShardStore store = new FileShardStore(Paths.get("/mnt/shared/firecrawl-shards"));
+ * }</pre>
+ */
+public class FileShardStore implements ShardStore {
+
+    private final Path directory;
+
+    /**
+     * Creates a store rooted at {@code directory}, creating it if needed.
+     *
+     * @param directory the directory that holds shard tables
+     */
+    public FileShardStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "Shard directory is required");
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to create shard directory " + directory, e);
+        }
+    }
+
+    /** The directory that holds shard tables. */
+    public Path getDirectory() { return directory; }
+
+    @Override
+    public String update(String key, UnaryOperator<String> change) {
+        Objects.requireNonNull(key, "Shard table key is required");
+        Path file = directory.resolve(LockedFiles.fileName(key));
+        try {
+            return LockedFiles.update(file, change);
+        } catch (IOException | UncheckedIOException e) {
+            throw new FirecrawlException("Failed to update shard table " + file, e);
+        }
+    }
+}
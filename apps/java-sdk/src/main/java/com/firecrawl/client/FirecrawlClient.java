@@ -1,16 +1,30 @@
 package com.firecrawl.client;
 
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.errors.DeadlineExceededException;
 import com.firecrawl.errors.FirecrawlException;
 import com.firecrawl.errors.JobTimeoutException;
 import com.firecrawl.models.*;
+import com.firecrawl.webhook.WebhookReceiver;
 
 import okhttp3.OkHttpClient;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Client for the Firecrawl v2 API.
@@ -43,6 +57,7 @@ public class FirecrawlClient {
     private static final double DEFAULT_BACKOFF_FACTOR = 0.5;
     private static final int DEFAULT_POLL_INTERVAL = 2; // seconds
     private static final int DEFAULT_JOB_TIMEOUT = 300; // seconds
+    private static final int DEFAULT_SEARCH_PARALLELISM = 8;
 
     private final FirecrawlHttpClient http;
     private final Executor asyncExecutor;
@@ -74,6 +89,81 @@ public class FirecrawlClient {
         return builder().apiKey(apiKey).build();
     }
 
+    /**
+     * Returns a view of this client whose operations must all finish within
+     * {@code timeout} from now.
+     *
+     * @see #withDeadline(Deadline)
+     */
+    public FirecrawlClient withDeadline(Duration timeout) {
+        return withDeadline(Deadline.after(timeout));
+    }
+
+    /**
+     * Returns a view of this client whose operations must all finish by
+     * {@code deadline}. The view shares its connection pool, metrics, circuit
+     * breakers and hedging state with this client.
+     *
+     * <p>The deadline covers each logical operation as a whole. Every HTTP call
+     * gets an OkHttp call timeout equal to the time left, a retry whose backoff
+     * would run past the deadline is not attempted, and a job is not polled
+     * again once the deadline falls before the next poll. In those cases a
+     * {@link DeadlineExceededException} is thrown. The per-call
+     * {@code timeoutSec} arguments still apply; whichever limit comes first wins.
+     *
+     * <p>Result pagination stops cleanly instead: when time runs out while
+     * following {@code next} cursors, the documents fetched so far are returned
+     * and {@code getNext()} points at the first page not fetched.
+     * {@code consumeCrawl} and {@code consumeBatchScrape} likewise return their
+     * last saved, not yet completed, checkpoint.
+     *
+     * <pre>{@code
+     * CrawlJob job = client.withDeadline(Duration.ofMinutes(2))
+     *     .crawl("https://example.com", CrawlOptions.builder().limit(500).build());
+     * if (job.getNext() != null) {
+     *     // ran out of time while paginating; resume later from job.getNext()
+     * }
+     * }</pre>
+     *
+     * <p>Calling this on a view keeps the earlier of the two deadlines.
+     */
+    public FirecrawlClient withDeadline(Deadline deadline) {
+        Objects.requireNonNull(deadline, "Deadline is required");
+        return new FirecrawlClient(http.withDeadline(deadline), asyncExecutor);
+    }
+
+    /**
+     * Returns a view of this client whose calls are queued as {@code tenant}
+     * by the request scheduler, so that one tenant's backlog cannot starve
+     * the others. The view shares everything else with this client, keeps
+     * its deadline and priority, and behaves exactly like it when no
+     * {@link Builder#scheduler(SchedulerConfig) scheduler} is configured.
+     *
+     * <pre>{@code
+     * Document doc = client.forTenant(customerId).scrape(url, options);
+     * }</pre>
+     */
+    public FirecrawlClient forTenant(String tenant) {
+        Objects.requireNonNull(tenant, "Tenant is required");
+        return new FirecrawlClient(http.withTenant(tenant), asyncExecutor);
+    }
+
+    /**
+     * Returns a view of this client whose calls are queued at {@code priority}
+     * by the request scheduler. Calls are {@link RequestPriority#INTERACTIVE}
+     * unless made through a view with another priority. Like
+     * {@link #forTenant(String)}, this has no effect without a scheduler.
+     *
+     * <pre>{@code
+     * FirecrawlClient bulk = client.forTenant(customerId).withPriority(RequestPriority.BULK);
+     * BatchScrapeJob job = bulk.batchScrape(urls, options);
+     * }</pre>
+     */
+    public FirecrawlClient withPriority(RequestPriority priority) {
+        Objects.requireNonNull(priority, "Priority is required");
+        return new FirecrawlClient(http.withPriority(priority), asyncExecutor);
+    }
+
     // ================================================================
     // SCRAPE
     // ================================================================
@@ -281,6 +371,15 @@ public class FirecrawlClient {
         return http.get("/v2/crawl/" + jobId, CrawlJob.class);
     }
 
+    /**
+     * Gets the status of a crawl job and only the results past the first
+     * {@code skip} documents.
+     */
+    CrawlJob getCrawlStatus(String jobId, int skip) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        return http.get("/v2/crawl/" + jobId + (skip > 0 ? "?skip=" + skip : ""), CrawlJob.class);
+    }
+
     /**
      * Crawls a website and waits for completion (auto-polling).
      *
@@ -303,7 +402,67 @@ public class FirecrawlClient {
      */
     public CrawlJob crawl(String url, CrawlOptions options, int pollIntervalSec, int timeoutSec) {
         CrawlResponse start = startCrawl(url, options);
-        return pollCrawl(start.getId(), pollIntervalSec, timeoutSec);
+        return pollCrawl(start.getId(), pollIntervalSec, timeoutSec, null);
+    }
+
+    /**
+     * Crawls a website and waits for completion, handing newly scraped
+     * documents to {@code onDocuments} after every status poll.
+     *
+     * <p>Each poll requests only the documents past those already received,
+     * so no document is downloaded twice; once the job finishes only the
+     * remaining tail is paginated.
+     *
+     * @param url             the URL to crawl
+     * @param options         crawl configuration options
+     * @param pollIntervalSec seconds between status checks
+     * @param timeoutSec      maximum seconds to wait
+     * @param onDocuments     receives each batch of new documents, in order
+     * @return the completed crawl job with all documents
+     */
+    public CrawlJob crawl(String url, CrawlOptions options, int pollIntervalSec, int timeoutSec,
+                          Consumer<List<Document>> onDocuments) {
+        Objects.requireNonNull(onDocuments, "Document consumer is required");
+        CrawlResponse start = startCrawl(url, options);
+        return pollCrawl(start.getId(), pollIntervalSec, timeoutSec, onDocuments);
+    }
+
+    /**
+     * Returns a publisher that starts a crawl when subscribed and emits its
+     * documents incrementally, as they are scraped.
+     *
+     * @param url     the URL to crawl
+     * @param options crawl configuration options
+     * @return a single-subscriber publisher of crawled documents
+     * @see #crawlPublisher(String, CrawlOptions, int, int)
+     */
+    public Flow.Publisher<Document> crawlPublisher(String url, CrawlOptions options) {
+        return crawlPublisher(url, options, DEFAULT_POLL_INTERVAL, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Returns a publisher that starts a crawl when subscribed and emits its
+     * documents incrementally, as they are scraped.
+     *
+     * <p>Polling and pagination run on the async executor and only as fast as
+     * the subscriber's {@code request(n)} demand: a new page of results is
+     * fetched only when previously fetched documents have been delivered.
+     * Documents are emitted as soon as the job reports them, long before it
+     * finishes. The publisher completes once the job is done and every document
+     * was emitted, and signals {@code onError} if the job fails or does not make
+     * progress within {@code timeoutSec}. Cancelling the subscription stops
+     * fetching but does not cancel the crawl job itself.
+     *
+     * @param url             the URL to crawl
+     * @param options         crawl configuration options
+     * @param pollIntervalSec seconds between status checks while no new documents are available
+     * @param timeoutSec      maximum seconds the job may go without producing new documents
+     * @return a single-subscriber publisher of crawled documents
+     */
+    public Flow.Publisher<Document> crawlPublisher(String url, CrawlOptions options,
+                                                   int pollIntervalSec, int timeoutSec) {
+        Objects.requireNonNull(url, "URL is required");
+        return new CrawlPublisher(this, url, options, pollIntervalSec, timeoutSec, asyncExecutor);
     }
 
     /**
@@ -330,6 +489,65 @@ public class FirecrawlClient {
         return http.get("/v2/crawl/" + jobId + "/errors", Map.class);
     }
 
+    /**
+     * Consumes the results of a crawl job page by page, resuming from the last
+     * checkpoint saved for the job.
+     *
+     * @param jobId           the crawl job ID
+     * @param checkpointStore where the cursor of the next unconsumed page is saved
+     * @param pageConsumer    receives the documents of each page, in order
+     * @return the final checkpoint
+     * @see #consumeCrawl(String, CheckpointStore, Consumer, int, int)
+     */
+    public Checkpoint consumeCrawl(String jobId, CheckpointStore checkpointStore,
+                                   Consumer<List<Document>> pageConsumer) {
+        return consumeCrawl(jobId, checkpointStore, pageConsumer, DEFAULT_POLL_INTERVAL, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Consumes the results of a crawl job page by page, resuming from the last
+     * checkpoint saved for the job.
+     *
+     * <p>Without a checkpoint the job is polled until it finishes and its first
+     * page is consumed. After each page is handed to {@code pageConsumer}, the
+     * {@code next} cursor is saved to {@code checkpointStore}; a restarted
+     * consumer continues from that cursor without re-downloading earlier pages.
+     * A page whose consumer threw is delivered again on resume (at-least-once).
+     * Once the last page is consumed the checkpoint is marked completed and
+     * further calls return it without any requests.
+     *
+     * @param jobId           the crawl job ID
+     * @param checkpointStore where the cursor of the next unconsumed page is saved
+     * @param pageConsumer    receives the documents of each page, in order
+     * @param pollIntervalSec seconds between status checks
+     * @param timeoutSec      maximum seconds to wait for the job to finish
+     * @return the final checkpoint
+     */
+    public Checkpoint consumeCrawl(String jobId, CheckpointStore checkpointStore,
+                                   Consumer<List<Document>> pageConsumer,
+                                   int pollIntervalSec, int timeoutSec) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        Objects.requireNonNull(checkpointStore, "Checkpoint store is required");
+        Objects.requireNonNull(pageConsumer, "Page consumer is required");
+        String key = "crawl-" + jobId;
+        Checkpoint checkpoint = checkpointStore.load(key);
+        if (checkpoint == null) {
+            CrawlJob job = awaitCrawl(jobId, pollIntervalSec, timeoutSec);
+            checkpoint = consumePage(checkpointStore, key, new Checkpoint(jobId, null, 0, 0, false, 0),
+                    job.getData(), job.getNext(), pageConsumer);
+        }
+        while (!checkpoint.isCompleted()) {
+            JfrEvents.PageFetchEvent event = JfrEvents.beginPageFetch();
+            CrawlJob page = nextPage(checkpoint.getNext(), CrawlJob.class);
+            if (page == null) {
+                break;
+            }
+            JfrEvents.commitPageFetch(event, "crawl", jobId, page.getData(), page.getNext());
+            checkpoint = consumePage(checkpointStore, key, checkpoint, page.getData(), page.getNext(), pageConsumer);
+        }
+        return checkpoint;
+    }
+
     // ================================================================
     // BATCH SCRAPE
     // ================================================================
@@ -380,6 +598,15 @@ public class FirecrawlClient {
         return http.get("/v2/batch/scrape/" + jobId, BatchScrapeJob.class);
     }
 
+    /**
+     * Gets the status of a batch scrape job and only the results past the
+     * first {@code skip} documents.
+     */
+    BatchScrapeJob getBatchScrapeStatus(String jobId, int skip) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        return http.get("/v2/batch/scrape/" + jobId + (skip > 0 ? "?skip=" + skip : ""), BatchScrapeJob.class);
+    }
+
     /**
      * Batch-scrapes URLs and waits for completion (auto-polling).
      *
@@ -403,7 +630,27 @@ public class FirecrawlClient {
     public BatchScrapeJob batchScrape(List<String> urls, BatchScrapeOptions options,
                                        int pollIntervalSec, int timeoutSec) {
         BatchScrapeResponse start = startBatchScrape(urls, options);
-        return pollBatchScrape(start.getId(), pollIntervalSec, timeoutSec);
+        return pollBatchScrape(start.getId(), pollIntervalSec, timeoutSec, null);
+    }
+
+    /**
+     * Batch-scrapes URLs and waits for completion, handing newly scraped
+     * documents to {@code onDocuments} after every status poll. Same semantics as
+     * {@link #crawl(String, CrawlOptions, int, int, Consumer)}.
+     *
+     * @param urls            the URLs to scrape
+     * @param options         batch scrape configuration options
+     * @param pollIntervalSec seconds between status checks
+     * @param timeoutSec      maximum seconds to wait
+     * @param onDocuments     receives each batch of new documents, in order
+     * @return the completed batch scrape job with all documents
+     */
+    public BatchScrapeJob batchScrape(List<String> urls, BatchScrapeOptions options,
+                                      int pollIntervalSec, int timeoutSec,
+                                      Consumer<List<Document>> onDocuments) {
+        Objects.requireNonNull(onDocuments, "Document consumer is required");
+        BatchScrapeResponse start = startBatchScrape(urls, options);
+        return pollBatchScrape(start.getId(), pollIntervalSec, timeoutSec, onDocuments);
     }
 
     /**
@@ -418,6 +665,58 @@ public class FirecrawlClient {
         return http.delete("/v2/batch/scrape/" + jobId, Map.class);
     }
 
+    /**
+     * Consumes the results of a batch scrape job page by page, resuming from the
+     * last checkpoint saved for the job.
+     *
+     * @param jobId           the batch scrape job ID
+     * @param checkpointStore where the cursor of the next unconsumed page is saved
+     * @param pageConsumer    receives the documents of each page, in order
+     * @return the final checkpoint
+     * @see #consumeBatchScrape(String, CheckpointStore, Consumer, int, int)
+     */
+    public Checkpoint consumeBatchScrape(String jobId, CheckpointStore checkpointStore,
+                                         Consumer<List<Document>> pageConsumer) {
+        return consumeBatchScrape(jobId, checkpointStore, pageConsumer, DEFAULT_POLL_INTERVAL, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Consumes the results of a batch scrape job page by page, resuming from the
+     * last checkpoint saved for the job. Same semantics as
+     * {@link #consumeCrawl(String, CheckpointStore, Consumer, int, int)}.
+     *
+     * @param jobId           the batch scrape job ID
+     * @param checkpointStore where the cursor of the next unconsumed page is saved
+     * @param pageConsumer    receives the documents of each page, in order
+     * @param pollIntervalSec seconds between status checks
+     * @param timeoutSec      maximum seconds to wait for the job to finish
+     * @return the final checkpoint
+     */
+    public Checkpoint consumeBatchScrape(String jobId, CheckpointStore checkpointStore,
+                                         Consumer<List<Document>> pageConsumer,
+                                         int pollIntervalSec, int timeoutSec) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        Objects.requireNonNull(checkpointStore, "Checkpoint store is required");
+        Objects.requireNonNull(pageConsumer, "Page consumer is required");
+        String key = "batch-scrape-" + jobId;
+        Checkpoint checkpoint = checkpointStore.load(key);
+        if (checkpoint == null) {
+            BatchScrapeJob job = awaitBatchScrape(jobId, pollIntervalSec, timeoutSec);
+            checkpoint = consumePage(checkpointStore, key, new Checkpoint(jobId, null, 0, 0, false, 0),
+                    job.getData(), job.getNext(), pageConsumer);
+        }
+        while (!checkpoint.isCompleted()) {
+            JfrEvents.PageFetchEvent event = JfrEvents.beginPageFetch();
+            BatchScrapeJob page = nextPage(checkpoint.getNext(), BatchScrapeJob.class);
+            if (page == null) {
+                break;
+            }
+            JfrEvents.commitPageFetch(event, "batch_scrape", jobId, page.getData(), page.getNext());
+            checkpoint = consumePage(checkpointStore, key, checkpoint, page.getData(), page.getNext(), pageConsumer);
+        }
+        return checkpoint;
+    }
+
     // ================================================================
     // MAP
     // ================================================================
@@ -516,14 +815,61 @@ public class FirecrawlClient {
             String monitorId, String checkId, Integer limit, Integer skip, String status, boolean autoPaginate) {
         Objects.requireNonNull(monitorId, "Monitor ID is required");
         Objects.requireNonNull(checkId, "Check ID is required");
-        MonitorCheckDetail check = extractData(
-                http.get("/v2/monitor/" + monitorId + "/checks/" + checkId
-                        + monitorCheckQuery(limit, skip, status), Map.class),
-                MonitorCheckDetail.class
-        );
+        MonitorCheckDetail check = http.get("/v2/monitor/" + monitorId + "/checks/" + checkId
+                + monitorCheckQuery(limit, skip, status), MonitorCheckResponse.class).unwrap(http.objectMapper);
         return autoPaginate ? paginateMonitorCheck(check) : check;
     }
 
+    /**
+     * Streams the pages of a monitor check.
+     *
+     * @see #streamMonitorCheckPages(String, String, Integer, String)
+     */
+    public Stream<MonitorCheckPage> streamMonitorCheckPages(String monitorId, String checkId) {
+        return streamMonitorCheckPages(monitorId, checkId, null, null);
+    }
+
+    /**
+     * Streams the pages of a monitor check, fetching result pages lazily as the
+     * stream is consumed.
+     *
+     * <p>Unlike {@link #getMonitorCheck(String, String)}, which downloads every
+     * page into one list, only the current result page is held in memory, and
+     * short-circuiting operations such as {@code limit} or {@code anyMatch} stop
+     * further requests.
+     *
+     * <pre>{@code
+     * client.streamMonitorCheckPages(monitorId, checkId, 100, "changed")
+     *     .forEach(page -> System.out.println(page.getUrl()));
+     * }</pre>
+     *
+     * @param monitorId the monitor ID
+     * @param checkId   the check ID
+     * @param limit     pages per request (max 100), or null for the API default
+     * @param status    only pages with this status ({@code same}, {@code new},
+     *                  {@code changed}, {@code removed}, {@code error}), or null for all
+     * @return a sequential stream of check pages
+     */
+    public Stream<MonitorCheckPage> streamMonitorCheckPages(String monitorId, String checkId,
+                                                           Integer limit, String status) {
+        Objects.requireNonNull(monitorId, "Monitor ID is required");
+        Objects.requireNonNull(checkId, "Check ID is required");
+        Iterator<MonitorCheckPage> pages = new MonitorCheckPageIterator(
+                this, monitorId, checkId, limit, status, null, null);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Fetches the monitor check page behind a {@code next} cursor.
+     */
+    MonitorCheckDetail getMonitorCheckPage(String checkId, String next) {
+        JfrEvents.PageFetchEvent event = JfrEvents.beginPageFetch();
+        MonitorCheckDetail page = http.getAbsolute(next, MonitorCheckResponse.class).unwrap(http.objectMapper);
+        JfrEvents.commitPageFetch(event, "monitor_check", checkId, page.getPages(), page.getNext());
+        return page;
+    }
+
     // ================================================================
     // SEARCH
     // ================================================================
@@ -553,7 +899,77 @@ public class FirecrawlClient {
             mergeOptions(body, options);
         }
         body.putIfAbsent("origin", SDK_ORIGIN);
-        return extractData(http.post("/v2/search", body, Map.class), SearchData.class);
+        // Read straight into the typed results rather than through a Map
+        return http.post("/v2/search", body, SearchResponse.class).unwrap(http.objectMapper);
+    }
+
+    /**
+     * Runs several searches concurrently and merges their results.
+     *
+     * @param queries the search queries; duplicates are searched once
+     * @param options search configuration options applied to every query
+     * @return the merged results
+     * @see #searchMany(List, SearchOptions, int, BiConsumer)
+     */
+    public SearchData searchMany(List<String> queries, SearchOptions options) {
+        return searchMany(queries, options, DEFAULT_SEARCH_PARALLELISM, null);
+    }
+
+    /**
+     * Runs several searches with at most {@code parallelism} in flight and
+     * merges their results into one {@link SearchData}.
+     *
+     * <p>Each source (web, news, images) is deduplicated by normalized URL, so
+     * {@code http://www.example.com/a/} and {@code https://example.com/a} count
+     * as one result. Results are ranked by reciprocal rank fusion: a result
+     * found near the top by several queries ranks above one found by a single
+     * query. The ranking does not depend on the order in which queries finish.
+     *
+     * <p>{@code onResult} is called with each query's own results as soon as
+     * they arrive, one call at a time. If any query fails, the others still
+     * run; the first failure is then thrown with the rest attached as
+     * suppressed exceptions.
+     *
+     * @param queries     the search queries; duplicates are searched once
+     * @param options     search configuration options applied to every query
+     * @param parallelism maximum number of searches in flight
+     * @param onResult    called with each query and its results, or null
+     * @return the merged results
+     */
+    public SearchData searchMany(List<String> queries, SearchOptions options, int parallelism,
+                                 BiConsumer<String, SearchData> onResult) {
+        Objects.requireNonNull(queries, "Queries are required");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(queries));
+        for (String query : distinct) {
+            Objects.requireNonNull(query, "Query is required");
+        }
+        List<Integer> indexes = new ArrayList<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i++) {
+            indexes.add(i);
+        }
+        SearchMerger merger = new SearchMerger();
+        Map<Integer, RuntimeException> failures = FanOut.forEach(indexes, parallelism, "search", index -> {
+            String query = distinct.get(index);
+            SearchData data = search(query, options);
+            synchronized (merger) {
+                merger.add(index, data);
+                if (onResult != null) {
+                    onResult.accept(query, data);
+                }
+            }
+        });
+        if (!failures.isEmpty()) {
+            Iterator<RuntimeException> it = failures.values().iterator();
+            RuntimeException first = it.next();
+            while (it.hasNext()) {
+                first.addSuppressed(it.next());
+            }
+            throw first;
+        }
+        return merger.result();
     }
 
     public ResearchModels.SearchPapersResponse searchPapers(String query) {
@@ -666,7 +1082,9 @@ public class FirecrawlClient {
         }
         long deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
         while (System.currentTimeMillis() < deadline) {
+            JfrEvents.PollEvent event = JfrEvents.beginPoll();
             AgentStatusResponse status = getAgentStatus(start.getId());
+            JfrEvents.commitPoll(event, "agent", start.getId(), status.getStatus(), 0, 0, 0);
             if (status.isDone()) {
                 return status;
             }
@@ -799,6 +1217,29 @@ public class FirecrawlClient {
         return http.get("/v2/team/credit-usage", CreditUsage.class);
     }
 
+    /**
+     * Returns where HTTP call time has gone so far: DNS, connect, TLS, request
+     * write, time to first byte and body read percentiles, plus the connection
+     * reuse rate. Computed locally, with no API request.
+     *
+     * <p>Timings come from an OkHttp event listener on the SDK's default client.
+     * When a custom client is supplied via {@link Builder#httpClient(OkHttpClient)},
+     * the returned stats stay empty.
+     */
+    public ConnectionStats getConnectionStats() {
+        return http.connectionStats();
+    }
+
+    /**
+     * Returns the request scheduler's queue depths and wait times, shared by
+     * all views of this client. Computed locally, with no API request.
+     *
+     * @return the scheduler stats, or null when no scheduler is configured
+     */
+    public SchedulerStats getSchedulerStats() {
+        return http.schedulerStats();
+    }
+
     // ================================================================
     // ASYNC CONVENIENCE METHODS
     // ================================================================
@@ -950,6 +1391,49 @@ public class FirecrawlClient {
         return CompletableFuture.supplyAsync(() -> crawl(url, options, pollIntervalSec, timeoutSec), asyncExecutor);
     }
 
+    /**
+     * Asynchronously crawls a website, waiting for the job's webhook delivery
+     * instead of polling. {@code options.webhook} must point at {@code receiver}
+     * (directly or through a proxy). Once the {@code completed} event arrives the
+     * results are downloaded once; a {@code failed} or {@code cancelled} event
+     * completes the future exceptionally. Waits up to the default job timeout
+     * (300 seconds) for the terminal event.
+     *
+     * @param url      the URL to crawl
+     * @param options  crawl configuration options with a webhook set
+     * @param receiver the receiver the webhook deliveries arrive at
+     * @return a CompletableFuture that resolves to the completed CrawlJob
+     */
+    public CompletableFuture<CrawlJob> crawlAsync(String url, CrawlOptions options, WebhookReceiver receiver) {
+        return crawlAsync(url, options, receiver, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Asynchronously crawls a website, waiting for the job's webhook delivery
+     * instead of polling. If no terminal event arrives within
+     * {@code timeoutSec}, the future fails with a {@link JobTimeoutException}
+     * and the receiver stops tracking the job.
+     *
+     * @param url        the URL to crawl
+     * @param options    crawl configuration options with a webhook set
+     * @param receiver   the receiver the webhook deliveries arrive at
+     * @param timeoutSec maximum seconds to wait for the terminal event
+     * @return a CompletableFuture that resolves to the completed CrawlJob
+     */
+    public CompletableFuture<CrawlJob> crawlAsync(String url, CrawlOptions options, WebhookReceiver receiver,
+                                                  int timeoutSec) {
+        Objects.requireNonNull(receiver, "Webhook receiver is required");
+        if (options == null || options.getWebhook() == null) {
+            throw new IllegalArgumentException("CrawlOptions.webhook must be set to deliver to the receiver");
+        }
+        return startCrawlAsync(url, options)
+                .thenCompose(start -> awaitWebhook(receiver, start.getId(), timeoutSec, "Crawl"))
+                .thenApplyAsync(event -> {
+                    requireCompleted(event, "Crawl");
+                    return paginateCrawl(getCrawlStatus(event.getId()));
+                }, asyncExecutor);
+    }
+
     /**
      * Asynchronously batch-scrapes URLs and waits for completion.
      *
@@ -961,6 +1445,46 @@ public class FirecrawlClient {
         return CompletableFuture.supplyAsync(() -> batchScrape(urls, options), asyncExecutor);
     }
 
+    /**
+     * Asynchronously batch-scrapes URLs, waiting for the job's webhook delivery
+     * instead of polling. Same semantics as
+     * {@link #crawlAsync(String, CrawlOptions, WebhookReceiver)}.
+     *
+     * @param urls     the URLs to scrape
+     * @param options  batch scrape configuration options with a webhook set
+     * @param receiver the receiver the webhook deliveries arrive at
+     * @return a CompletableFuture that resolves to the completed BatchScrapeJob
+     */
+    public CompletableFuture<BatchScrapeJob> batchScrapeAsync(List<String> urls, BatchScrapeOptions options,
+                                                              WebhookReceiver receiver) {
+        return batchScrapeAsync(urls, options, receiver, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Asynchronously batch-scrapes URLs, waiting up to {@code timeoutSec} for
+     * the job's webhook delivery. Same semantics as
+     * {@link #crawlAsync(String, CrawlOptions, WebhookReceiver, int)}.
+     *
+     * @param urls       the URLs to scrape
+     * @param options    batch scrape configuration options with a webhook set
+     * @param receiver   the receiver the webhook deliveries arrive at
+     * @param timeoutSec maximum seconds to wait for the terminal event
+     * @return a CompletableFuture that resolves to the completed BatchScrapeJob
+     */
+    public CompletableFuture<BatchScrapeJob> batchScrapeAsync(List<String> urls, BatchScrapeOptions options,
+                                                              WebhookReceiver receiver, int timeoutSec) {
+        Objects.requireNonNull(receiver, "Webhook receiver is required");
+        if (options == null || options.getWebhook() == null) {
+            throw new IllegalArgumentException("BatchScrapeOptions.webhook must be set to deliver to the receiver");
+        }
+        return startBatchScrapeAsync(urls, options)
+                .thenCompose(start -> awaitWebhook(receiver, start.getId(), timeoutSec, "Batch scrape"))
+                .thenApplyAsync(event -> {
+                    requireCompleted(event, "Batch scrape");
+                    return paginateBatchScrape(getBatchScrapeStatus(event.getId()));
+                }, asyncExecutor);
+    }
+
     /**
      * Asynchronously runs a search.
      *
@@ -1057,6 +1581,48 @@ public class FirecrawlClient {
         return CompletableFuture.supplyAsync(() -> agent(options), asyncExecutor);
     }
 
+    /**
+     * Asynchronously runs an agent task, waiting for its webhook delivery
+     * instead of polling. Same semantics as
+     * {@link #crawlAsync(String, CrawlOptions, WebhookReceiver)}.
+     *
+     * @param options  agent configuration options with a webhook set
+     * @param receiver the receiver the webhook deliveries arrive at
+     * @return a CompletableFuture that resolves to the AgentStatusResponse
+     */
+    public CompletableFuture<AgentStatusResponse> agentAsync(AgentOptions options, WebhookReceiver receiver) {
+        return agentAsync(options, receiver, DEFAULT_JOB_TIMEOUT);
+    }
+
+    /**
+     * Asynchronously runs an agent task, waiting up to {@code timeoutSec} for
+     * its webhook delivery. Same semantics as
+     * {@link #crawlAsync(String, CrawlOptions, WebhookReceiver, int)}.
+     *
+     * @param options    agent configuration options with a webhook set
+     * @param receiver   the receiver the webhook deliveries arrive at
+     * @param timeoutSec maximum seconds to wait for the terminal event
+     * @return a CompletableFuture that resolves to the AgentStatusResponse
+     */
+    public CompletableFuture<AgentStatusResponse> agentAsync(AgentOptions options, WebhookReceiver receiver,
+                                                             int timeoutSec) {
+        Objects.requireNonNull(receiver, "Webhook receiver is required");
+        if (options == null || options.getWebhook() == null) {
+            throw new IllegalArgumentException("AgentOptions.webhook must be set to deliver to the receiver");
+        }
+        return startAgentAsync(options)
+                .thenCompose(start -> {
+                    if (start.getId() == null) {
+                        throw new FirecrawlException("Agent start did not return a job ID");
+                    }
+                    return awaitWebhook(receiver, start.getId(), timeoutSec, "Agent");
+                })
+                .thenApplyAsync(event -> {
+                    requireCompleted(event, "Agent");
+                    return getAgentStatus(event.getId());
+                }, asyncExecutor);
+    }
+
     /**
      * Asynchronously creates a new browser session.
      *
@@ -1218,30 +1784,177 @@ public class FirecrawlClient {
     // INTERNAL POLLING HELPERS
     // ================================================================
 
-    private CrawlJob pollCrawl(String jobId, int pollIntervalSec, int timeoutSec) {
+    /**
+     * Polls a crawl job until it is done, requesting only documents past the
+     * ones already received on every poll (the status endpoint's {@code skip}
+     * offset), then paginates the remaining tail. New documents are handed to
+     * {@code onDocuments} as they arrive, if given.
+     */
+    private CrawlJob pollCrawl(String jobId, int pollIntervalSec, int timeoutSec,
+                               Consumer<List<Document>> onDocuments) {
+        List<Document> documents = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
+        while (System.currentTimeMillis() < deadline) {
+            JfrEvents.PollEvent poll = JfrEvents.beginPoll();
+            CrawlJob job = getCrawlStatus(jobId, documents.size());
+            JfrEvents.commitPoll(poll, "crawl", jobId, job.getStatus(), job.getCompleted(), job.getTotal(),
+                    job.getData() != null ? job.getData().size() : 0);
+            boolean received = collect(job.getData(), documents, onDocuments);
+            if (job.isDone()) {
+                String next = job.getNext();
+                while (next != null && !next.isEmpty()) {
+                    JfrEvents.PageFetchEvent fetch = JfrEvents.beginPageFetch();
+                    CrawlJob page = nextPage(next, CrawlJob.class);
+                    if (page == null) {
+                        break;
+                    }
+                    JfrEvents.commitPageFetch(fetch, "crawl", jobId, page.getData(), page.getNext());
+                    collect(page.getData(), documents, onDocuments);
+                    next = page.getNext();
+                }
+                job.setData(documents);
+                job.setNext(next != null && !next.isEmpty() ? next : null);
+                return job;
+            }
+            // A capped page means more results are already available: fetch them right away
+            if (!received || job.getNext() == null || job.getNext().isEmpty()) {
+                sleep(pollIntervalSec);
+            }
+        }
+        throw new JobTimeoutException(jobId, timeoutSec, "Crawl");
+    }
+
+    /**
+     * Batch scrape counterpart of {@link #pollCrawl(String, int, int, Consumer)}.
+     */
+    private BatchScrapeJob pollBatchScrape(String jobId, int pollIntervalSec, int timeoutSec,
+                                           Consumer<List<Document>> onDocuments) {
+        List<Document> documents = new ArrayList<>();
         long deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
         while (System.currentTimeMillis() < deadline) {
+            JfrEvents.PollEvent poll = JfrEvents.beginPoll();
+            BatchScrapeJob job = getBatchScrapeStatus(jobId, documents.size());
+            JfrEvents.commitPoll(poll, "batch_scrape", jobId, job.getStatus(), job.getCompleted(), job.getTotal(),
+                    job.getData() != null ? job.getData().size() : 0);
+            boolean received = collect(job.getData(), documents, onDocuments);
+            if (job.isDone()) {
+                String next = job.getNext();
+                while (next != null && !next.isEmpty()) {
+                    JfrEvents.PageFetchEvent fetch = JfrEvents.beginPageFetch();
+                    BatchScrapeJob page = nextPage(next, BatchScrapeJob.class);
+                    if (page == null) {
+                        break;
+                    }
+                    JfrEvents.commitPageFetch(fetch, "batch_scrape", jobId, page.getData(), page.getNext());
+                    collect(page.getData(), documents, onDocuments);
+                    next = page.getNext();
+                }
+                job.setData(documents);
+                job.setNext(next != null && !next.isEmpty() ? next : null);
+                return job;
+            }
+            if (!received || job.getNext() == null || job.getNext().isEmpty()) {
+                sleep(pollIntervalSec);
+            }
+        }
+        throw new JobTimeoutException(jobId, timeoutSec, "Batch scrape");
+    }
+
+    /**
+     * Appends newly received documents and hands them to the optional consumer.
+     *
+     * @return true if any documents were received
+     */
+    private boolean collect(List<Document> page, List<Document> documents, Consumer<List<Document>> onDocuments) {
+        if (page == null || page.isEmpty()) {
+            return false;
+        }
+        documents.addAll(page);
+        if (onDocuments != null) {
+            onDocuments.accept(page);
+        }
+        return true;
+    }
+
+    /**
+     * Polls a crawl job until it is done and returns its first result page.
+     */
+    CrawlJob awaitCrawl(String jobId, int pollIntervalSec, int timeoutSec) {
+        long deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
+        while (System.currentTimeMillis() < deadline) {
+            JfrEvents.PollEvent event = JfrEvents.beginPoll();
             CrawlJob job = getCrawlStatus(jobId);
+            JfrEvents.commitPoll(event, "crawl", jobId, job.getStatus(), job.getCompleted(), job.getTotal(),
+                    job.getData() != null ? job.getData().size() : 0);
             if (job.isDone()) {
-                return paginateCrawl(job);
+                return job;
             }
             sleep(pollIntervalSec);
         }
         throw new JobTimeoutException(jobId, timeoutSec, "Crawl");
     }
 
-    private BatchScrapeJob pollBatchScrape(String jobId, int pollIntervalSec, int timeoutSec) {
+    /**
+     * Polls a batch scrape job until it is done and returns its first result page.
+     */
+    BatchScrapeJob awaitBatchScrape(String jobId, int pollIntervalSec, int timeoutSec) {
         long deadline = System.currentTimeMillis() + (timeoutSec * 1000L);
         while (System.currentTimeMillis() < deadline) {
+            JfrEvents.PollEvent event = JfrEvents.beginPoll();
             BatchScrapeJob job = getBatchScrapeStatus(jobId);
+            JfrEvents.commitPoll(event, "batch_scrape", jobId, job.getStatus(), job.getCompleted(), job.getTotal(),
+                    job.getData() != null ? job.getData().size() : 0);
             if (job.isDone()) {
-                return paginateBatchScrape(job);
+                return job;
             }
             sleep(pollIntervalSec);
         }
         throw new JobTimeoutException(jobId, timeoutSec, "Batch scrape");
     }
 
+    /**
+     * Waits for the job's terminal webhook event, failing with a
+     * {@link JobTimeoutException} after {@code timeoutSec}. The timeout
+     * completes the receiver's future, which also stops it tracking the job.
+     */
+    private static CompletableFuture<WebhookEvent> awaitWebhook(WebhookReceiver receiver, String jobId,
+                                                                int timeoutSec, String jobType) {
+        return receiver.awaitCompletion(jobId)
+                .orTimeout(timeoutSec, TimeUnit.SECONDS)
+                .handle((event, error) -> {
+                    if (error instanceof TimeoutException) {
+                        throw new JobTimeoutException(jobId, timeoutSec, jobType);
+                    }
+                    if (error != null) {
+                        throw error instanceof CompletionException
+                                ? (CompletionException) error : new CompletionException(error);
+                    }
+                    return event;
+                });
+    }
+
+    private void requireCompleted(WebhookEvent event, String jobType) {
+        if (!"completed".equals(event.getEvent())) {
+            String reason = event.getError() != null ? ": " + event.getError() : "";
+            throw new FirecrawlException(jobType + " job " + event.getId() + " " + event.getEvent() + reason);
+        }
+    }
+
+    /**
+     * Hands one result page to the consumer, then saves the checkpoint that
+     * points past it.
+     */
+    private Checkpoint consumePage(CheckpointStore store, String key, Checkpoint checkpoint,
+                                   List<Document> data, String next, Consumer<List<Document>> consumer) {
+        List<Document> documents = data != null ? data : Collections.emptyList();
+        if (!documents.isEmpty()) {
+            consumer.accept(documents);
+        }
+        Checkpoint advanced = checkpoint.advance(next, documents.size());
+        store.save(key, advanced);
+        return advanced;
+    }
+
     /**
      * Auto-paginates crawl results by following the "next" cursor.
      */
@@ -1251,12 +1964,19 @@ public class FirecrawlClient {
         }
         CrawlJob current = job;
         while (current.getNext() != null && !current.getNext().isEmpty()) {
-            CrawlJob nextPage = http.getAbsolute(current.getNext(), CrawlJob.class);
+            JfrEvents.PageFetchEvent event = JfrEvents.beginPageFetch();
+            CrawlJob nextPage = nextPage(current.getNext(), CrawlJob.class);
+            if (nextPage == null) {
+                job.setNext(current.getNext());
+                return job;
+            }
+            JfrEvents.commitPageFetch(event, "crawl", job.getId(), nextPage.getData(), nextPage.getNext());
             if (nextPage.getData() != null && !nextPage.getData().isEmpty()) {
                 job.getData().addAll(nextPage.getData());
             }
             current = nextPage;
         }
+        job.setNext(null);
         return job;
     }
 
@@ -1269,12 +1989,19 @@ public class FirecrawlClient {
         }
         BatchScrapeJob current = job;
         while (current.getNext() != null && !current.getNext().isEmpty()) {
-            BatchScrapeJob nextPage = http.getAbsolute(current.getNext(), BatchScrapeJob.class);
+            JfrEvents.PageFetchEvent event = JfrEvents.beginPageFetch();
+            BatchScrapeJob nextPage = nextPage(current.getNext(), BatchScrapeJob.class);
+            if (nextPage == null) {
+                job.setNext(current.getNext());
+                return job;
+            }
+            JfrEvents.commitPageFetch(event, "batch_scrape", job.getId(), nextPage.getData(), nextPage.getNext());
             if (nextPage.getData() != null && !nextPage.getData().isEmpty()) {
                 job.getData().addAll(nextPage.getData());
             }
             current = nextPage;
         }
+        job.setNext(null);
         return job;
     }
 
@@ -1284,10 +2011,14 @@ public class FirecrawlClient {
         }
         MonitorCheckDetail current = check;
         while (current.getNext() != null && !current.getNext().isEmpty()) {
-            MonitorCheckDetail nextPage = extractData(
-                    http.getAbsolute(current.getNext(), Map.class),
-                    MonitorCheckDetail.class
-            );
+            JfrEvents.PageFetchEvent event = JfrEvents.beginPageFetch();
+            MonitorCheckResponse response = nextPage(current.getNext(), MonitorCheckResponse.class);
+            if (response == null) {
+                check.setNext(current.getNext());
+                return check;
+            }
+            MonitorCheckDetail nextPage = response.unwrap(http.objectMapper);
+            JfrEvents.commitPageFetch(event, "monitor_check", check.getId(), nextPage.getPages(), nextPage.getNext());
             if (nextPage.getPages() != null && !nextPage.getPages().isEmpty()) {
                 check.getPages().addAll(nextPage.getPages());
             }
@@ -1297,6 +2028,25 @@ public class FirecrawlClient {
         return check;
     }
 
+    /**
+     * Fetches the page behind a {@code next} cursor, or returns null when the
+     * deadline has run out so that pagination can stop with the cursor intact.
+     */
+    private <T> T nextPage(String next, Class<T> type) {
+        Deadline deadline = http.deadline();
+        if (deadline == null) {
+            return http.getAbsolute(next, type);
+        }
+        if (deadline.isExpired()) {
+            return null;
+        }
+        try {
+            return http.getAbsolute(next, type);
+        } catch (DeadlineExceededException e) {
+            return null;
+        }
+    }
+
     // ================================================================
     // INTERNAL UTILITIES
     // ================================================================
@@ -1376,15 +2126,81 @@ public class FirecrawlClient {
         body.putAll(optionsMap);
     }
 
-    private void sleep(int seconds) {
+    void sleep(int seconds) {
+        long millis = seconds * 1000L;
+        Deadline deadline = http.deadline();
+        if (deadline != null && deadline.remainingMillis() <= millis) {
+            // The next poll would start after the deadline
+            throw new DeadlineExceededException(deadline.getTimeoutMillis(), null);
+        }
         try {
-            Thread.sleep(seconds * 1000L);
+            Thread.sleep(millis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FirecrawlException("Polling interrupted", e);
         }
     }
 
+    /**
+     * A {@code {"success": ..., "data": ...}} response read straight into the
+     * typed {@code data}, without building it as maps first. Like
+     * {@link #extractData}, it falls back to the top-level fields when a
+     * response has no {@code data}; only then are those fields kept as maps.
+     */
+    private abstract static class DataResponse<T> {
+        private final Class<T> type;
+        private Map<String, Object> topLevel;
+
+        DataResponse(Class<T> type) {
+            this.type = type;
+        }
+
+        abstract T data();
+
+        @JsonAnySetter
+        private void topLevel(String name, Object value) {
+            if (topLevel == null) {
+                topLevel = new LinkedHashMap<>();
+            }
+            topLevel.put(name, value);
+        }
+
+        T unwrap(ObjectMapper mapper) {
+            T data = data();
+            if (data != null) {
+                return data;
+            }
+            // Some endpoints return the data at the top level
+            return mapper.convertValue(topLevel != null ? topLevel : Collections.emptyMap(), type);
+        }
+    }
+
+    /** A monitor check page; its diffs stay buffered until asked for. */
+    private static final class MonitorCheckResponse extends DataResponse<MonitorCheckDetail> {
+        @JsonProperty
+        private MonitorCheckDetail data;
+
+        MonitorCheckResponse() {
+            super(MonitorCheckDetail.class);
+        }
+
+        @Override
+        MonitorCheckDetail data() { return data; }
+    }
+
+    /** The search response envelope; results are decoded directly into their typed form. */
+    private static final class SearchResponse extends DataResponse<SearchData> {
+        @JsonProperty
+        private SearchData data;
+
+        SearchResponse() {
+            super(SearchData.class);
+        }
+
+        @Override
+        SearchData data() { return data; }
+    }
+
     // ================================================================
     // BUILDER
     // ================================================================
@@ -1399,6 +2215,11 @@ public class FirecrawlClient {
         private double backoffFactor = DEFAULT_BACKOFF_FACTOR;
         private Executor asyncExecutor;
         private OkHttpClient httpClient;
+        private MetricsRecorder metricsRecorder = MetricsRecorder.NOOP;
+        private CircuitBreakerConfig circuitBreaker;
+        private HedgingConfig hedging;
+        private SchedulerConfig scheduler;
+        private QuotaConfig quota;
 
         private Builder() {}
 
@@ -1482,6 +2303,66 @@ public class FirecrawlClient {
             return this;
         }
 
+        /**
+         * Sets a recorder for per-request latency, retry, error and throughput
+         * metrics. Default: {@link MetricsRecorder#NOOP}, which disables all
+         * measurement. Use {@link InMemoryMetricsRecorder} for built-in
+         * per-endpoint histograms, or adapt the interface to your metrics library.
+         */
+        public Builder metricsRecorder(MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder != null ? metricsRecorder : MetricsRecorder.NOOP;
+            return this;
+        }
+
+        /**
+         * Enables a per-endpoint circuit breaker. While an endpoint's breaker is open,
+         * calls to it fail immediately with
+         * {@link com.firecrawl.errors.CircuitBreakerOpenException} instead of running
+         * the retry loop, so caller threads are not tied up during API outages.
+         * Default: disabled.
+         *
+         * @param circuitBreaker breaker settings, or null to disable
+         */
+        public Builder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Enables request hedging for latency-sensitive idempotent endpoints (scrape
+         * and search by default): a slow call is duplicated after a learned
+         * percentile delay and the first response wins. Default: disabled.
+         *
+         * @param hedging hedging settings, or null to disable
+         */
+        public Builder hedging(HedgingConfig hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * Caps the HTTP calls in flight and shares the slots fairly across
+         * tenants and priorities; see {@link SchedulerConfig}. Default: disabled.
+         *
+         * @param scheduler scheduler settings, or null to disable
+         */
+        public Builder scheduler(SchedulerConfig scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Shares the team's concurrency limit, and optionally a request rate,
+         * with clients on other nodes through a {@link QuotaCoordinator}; see
+         * {@link QuotaConfig}. Default: disabled.
+         *
+         * @param quota quota settings, or null to disable
+         */
+        public Builder quota(QuotaConfig quota) {
+            this.quota = quota;
+            return this;
+        }
+
         public FirecrawlClient build() {
             String resolvedKey = apiKey;
             if (apiKeyExplicitlySet && (resolvedKey == null || resolvedKey.isBlank())) {
@@ -1508,7 +2389,8 @@ public class FirecrawlClient {
 
             Executor executor = asyncExecutor != null ? asyncExecutor : ForkJoinPool.commonPool();
             FirecrawlHttpClient http = new FirecrawlHttpClient(
-                    resolvedKey, resolvedUrl, timeoutMs, maxRetries, backoffFactor, httpClient);
+                    resolvedKey, resolvedUrl, timeoutMs, maxRetries, backoffFactor, httpClient, metricsRecorder,
+                    circuitBreaker, hedging, scheduler, quota);
             return new FirecrawlClient(http, executor);
         }
     }
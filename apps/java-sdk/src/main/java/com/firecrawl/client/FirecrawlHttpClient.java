@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.firecrawl.errors.AuthenticationException;
+import com.firecrawl.errors.CircuitBreakerOpenException;
+import com.firecrawl.errors.DeadlineExceededException;
 import com.firecrawl.errors.FirecrawlException;
 import com.firecrawl.errors.RateLimitException;
 import okhttp3.*;
@@ -17,16 +19,39 @@ import java.util.concurrent.TimeUnit;
 /**
  * Internal HTTP client for making authenticated requests to the Firecrawl API.
  * Handles retry logic with exponential backoff.
+ *
+ * <p>A view created with {@link #withDeadline(Deadline)} shares everything with
+ * its parent but bounds every call, and every retry, by the deadline. Views from
+ * {@link #withTenant(String)} and {@link #withPriority(RequestPriority)} likewise
+ * share everything but queue for the request scheduler under their own flow.
  */
 class FirecrawlHttpClient {
 
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final int HEDGING_MAX_REQUESTS_PER_HOST = 64;
 
     private final OkHttpClient httpClient;
     private final String apiKey;
     private final String baseUrl;
     private final int maxRetries;
     private final double backoffFactor;
+    private final MetricsRecorder metrics;
+    /** False when metrics are disabled, so the request path does no timing or templating work. */
+    private final boolean metricsEnabled;
+    private final CallTimingCollector callTimings;
+    /** Per-endpoint breakers, or null when no circuit breaker is configured. */
+    private final CircuitBreakerRegistry circuitBreakers;
+    /** Hedges slow idempotent calls, or null when hedging is not configured. */
+    private final RequestHedger hedger;
+    /** Bounds the whole logical operation, or null when unbounded. */
+    private final Deadline deadline;
+    /** Limits and orders calls in flight, or null when no scheduler is configured. */
+    private final RequestScheduler scheduler;
+    /** Leases slots of a quota shared with other nodes, or null when not configured. */
+    private final QuotaGate quota;
+    /** Flow this view's calls are scheduled under; the tenant may be null. */
+    private final String tenant;
+    private final RequestPriority priority;
     final ObjectMapper objectMapper;
 
     FirecrawlHttpClient(String apiKey, String baseUrl, long timeoutMs, int maxRetries, double backoffFactor) {
@@ -35,19 +60,46 @@ class FirecrawlHttpClient {
 
     FirecrawlHttpClient(String apiKey, String baseUrl, long timeoutMs, int maxRetries, double backoffFactor,
                          OkHttpClient httpClient) {
+        this(apiKey, baseUrl, timeoutMs, maxRetries, backoffFactor, httpClient, MetricsRecorder.NOOP, null, null,
+                null, null);
+    }
+
+    FirecrawlHttpClient(String apiKey, String baseUrl, long timeoutMs, int maxRetries, double backoffFactor,
+                         OkHttpClient httpClient, MetricsRecorder metrics, CircuitBreakerConfig circuitBreaker,
+                         HedgingConfig hedging, SchedulerConfig scheduler, QuotaConfig quota) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
         this.maxRetries = maxRetries;
         this.backoffFactor = backoffFactor;
+        this.metrics = metrics != null ? metrics : MetricsRecorder.NOOP;
+        this.metricsEnabled = this.metrics != MetricsRecorder.NOOP;
+        this.circuitBreakers = circuitBreaker != null ? new CircuitBreakerRegistry(circuitBreaker) : null;
+        this.hedger = hedging != null ? new RequestHedger(hedging) : null;
+        this.callTimings = new CallTimingCollector();
+        this.deadline = null;
+        this.scheduler = scheduler != null ? new RequestScheduler(scheduler) : null;
+        this.quota = quota != null ? new QuotaGate(quota) : null;
+        this.tenant = null;
+        this.priority = RequestPriority.INTERACTIVE;
 
         if (httpClient != null) {
             this.httpClient = httpClient;
         } else {
-            this.httpClient = new OkHttpClient.Builder()
+            OkHttpClient.Builder builder = new OkHttpClient.Builder()
                     .connectTimeout(timeoutMs, TimeUnit.MILLISECONDS)
                     .readTimeout(timeoutMs, TimeUnit.MILLISECONDS)
                     .writeTimeout(timeoutMs, TimeUnit.MILLISECONDS)
-                    .build();
+                    .eventListenerFactory(CallTimingListener.factory(
+                            callTimings, this.metricsEnabled ? this.metrics : null));
+            if (hedging != null) {
+                // Hedged calls go through the async dispatcher, whose default cap of
+                // 5 calls per host would otherwise queue them behind each other.
+                Dispatcher dispatcher = new Dispatcher();
+                dispatcher.setMaxRequestsPerHost(HEDGING_MAX_REQUESTS_PER_HOST);
+                dispatcher.setMaxRequests(HEDGING_MAX_REQUESTS_PER_HOST);
+                builder.dispatcher(dispatcher);
+            }
+            this.httpClient = builder.build();
         }
 
         this.objectMapper = new ObjectMapper()
@@ -55,6 +107,61 @@ class FirecrawlHttpClient {
                 .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
+    private FirecrawlHttpClient(FirecrawlHttpClient parent, Deadline deadline, String tenant,
+                                RequestPriority priority) {
+        this.httpClient = parent.httpClient;
+        this.apiKey = parent.apiKey;
+        this.baseUrl = parent.baseUrl;
+        this.maxRetries = parent.maxRetries;
+        this.backoffFactor = parent.backoffFactor;
+        this.metrics = parent.metrics;
+        this.metricsEnabled = parent.metricsEnabled;
+        this.callTimings = parent.callTimings;
+        this.circuitBreakers = parent.circuitBreakers;
+        this.hedger = parent.hedger;
+        this.objectMapper = parent.objectMapper;
+        this.deadline = deadline;
+        this.scheduler = parent.scheduler;
+        this.quota = parent.quota;
+        this.tenant = tenant;
+        this.priority = priority;
+    }
+
+    /**
+     * A view of this client whose requests are bounded by {@code deadline}, or
+     * by this client's own deadline if that comes first.
+     */
+    FirecrawlHttpClient withDeadline(Deadline deadline) {
+        return new FirecrawlHttpClient(this, deadline.earlierOf(this.deadline), tenant, priority);
+    }
+
+    /** A view of this client whose requests are scheduled for {@code tenant}. */
+    FirecrawlHttpClient withTenant(String tenant) {
+        return new FirecrawlHttpClient(this, deadline, tenant, priority);
+    }
+
+    /** A view of this client whose requests are scheduled at {@code priority}. */
+    FirecrawlHttpClient withPriority(RequestPriority priority) {
+        return new FirecrawlHttpClient(this, deadline, tenant, priority);
+    }
+
+    /** The scheduler's current state, or null when no scheduler is configured. */
+    SchedulerStats schedulerStats() {
+        return scheduler != null ? scheduler.stats() : null;
+    }
+
+    /** The deadline bounding this client's requests, or null. */
+    Deadline deadline() {
+        return deadline;
+    }
+
+    /**
+     * Phase timings of the calls made so far; empty when a custom OkHttpClient was supplied.
+     */
+    ConnectionStats connectionStats() {
+        return callTimings.snapshot();
+    }
+
     /**
      * Adds the Authorization header only when an API key is configured. Omitting
      * it entirely (rather than sending an empty Bearer) lets scrape/search/interact
@@ -78,12 +185,14 @@ class FirecrawlHttpClient {
      */
     <T> T post(String path, Object body, Class<T> responseType, Map<String, String> extraHeaders) {
         String url = baseUrl + path;
+        long serializeStart = metricsEnabled ? System.nanoTime() : 0;
         String json;
         try {
             json = objectMapper.writeValueAsString(body);
         } catch (JsonProcessingException e) {
             throw new FirecrawlException("Failed to serialize request body", e);
         }
+        long serializeNanos = metricsEnabled ? System.nanoTime() - serializeStart : -1;
         RequestBody requestBody = RequestBody.create(json, JSON);
         Request.Builder builder = new Request.Builder()
                 .url(url)
@@ -94,7 +203,7 @@ class FirecrawlHttpClient {
             builder.header(entry.getKey(), entry.getValue());
         }
         Request request = builder.build();
-        return executeWithRetry(request, responseType);
+        return executeWithRetry(request, responseType, serializeNanos);
     }
 
     /**
@@ -102,12 +211,14 @@ class FirecrawlHttpClient {
      */
     <T> T patch(String path, Object body, Class<T> responseType) {
         String url = baseUrl + path;
+        long serializeStart = metricsEnabled ? System.nanoTime() : 0;
         String json;
         try {
             json = objectMapper.writeValueAsString(body);
         } catch (JsonProcessingException e) {
             throw new FirecrawlException("Failed to serialize request body", e);
         }
+        long serializeNanos = metricsEnabled ? System.nanoTime() - serializeStart : -1;
         RequestBody requestBody = RequestBody.create(json, JSON);
         Request.Builder builder = new Request.Builder()
                 .url(url)
@@ -115,7 +226,7 @@ class FirecrawlHttpClient {
                 .patch(requestBody);
         applyAuth(builder);
         Request request = builder.build();
-        return executeWithRetry(request, responseType);
+        return executeWithRetry(request, responseType, serializeNanos);
     }
 
     /**
@@ -207,59 +318,272 @@ class FirecrawlHttpClient {
     }
 
     private <T> T executeWithRetry(Request request, Class<T> responseType) {
+        return executeWithRetry(request, responseType, -1);
+    }
+
+    /**
+     * @param serializationNanos time spent serializing the request body, or -1 when
+     *                           there was none or metrics are disabled
+     */
+    private <T> T executeWithRetry(Request request, Class<T> responseType, long serializationNanos) {
+        String endpoint = metricsEnabled || circuitBreakers != null || hedger != null
+                ? Endpoints.template(request.method(), request.url().encodedPath())
+                : null;
+        CircuitBreaker breaker = circuitBreakers != null ? circuitBreakers.get(endpoint) : null;
+        long requestBytes = -1;
+        if (metricsEnabled) {
+            if (serializationNanos >= 0) {
+                metrics.recordSerialization(endpoint, serializationNanos);
+            }
+            requestBytes = contentLength(request.body());
+        }
         int attempt = 0;
         while (true) {
+            if (deadline != null && deadline.isExpired()) {
+                throw failed(endpoint, 0, null, deadlineExceeded(null));
+            }
+            RequestScheduler.Permit permit = acquireSlot(endpoint);
+            if (breaker != null && !breaker.tryAcquire()) {
+                permit.close();
+                throw failed(endpoint, 0, null, new CircuitBreakerOpenException(endpoint, breaker.remainingOpenMillis()));
+            }
+            long start = endpoint != null ? System.nanoTime() : 0;
+            boolean recorded = false;
+            JfrEvents.RequestEvent event = new JfrEvents.RequestEvent();
+            event.begin();
             try {
-                try (Response response = httpClient.newCall(request).execute()) {
+                try (Response response = execute(request, endpoint)) {
                     ResponseBody responseBody = response.body();
                     String bodyStr = responseBody != null ? responseBody.string() : "";
+                    // The slot is free once the body is read, so backoff does not hold it
+                    permit.close();
+                    int code = response.code();
+                    long elapsed = endpoint != null ? System.nanoTime() - start : 0;
+                    recorded = true;
+                    commitRequestEvent(event, request, code, attempt, bodyStr);
+                    if (breaker != null) {
+                        breaker.onResult(code >= 500 || code == 408, elapsed);
+                    }
+                    if (metricsEnabled) {
+                        metrics.recordRequest(endpoint, code, attempt, elapsed, requestBytes, utf8Length(bodyStr));
+                    }
 
                     if (response.isSuccessful()) {
                         if (responseType == Void.class || responseType == void.class) {
                             return null;
                         }
-                        return objectMapper.readValue(bodyStr, responseType);
+                        if (!metricsEnabled) {
+                            return objectMapper.readValue(bodyStr, responseType);
+                        }
+                        long parseStart = System.nanoTime();
+                        T value = objectMapper.readValue(bodyStr, responseType);
+                        metrics.recordDeserialization(endpoint, System.nanoTime() - parseStart);
+                        return value;
                     }
 
-                    int code = response.code();
-
                     // Parse error details from response
                     String errorMessage = extractErrorMessage(bodyStr, code);
                     String errorCode = extractErrorCode(bodyStr);
 
                     // Non-retryable client errors
                     if (code == 401) {
-                        throw new AuthenticationException(errorMessage, errorCode, null);
+                        throw failed(endpoint, code, errorCode, new AuthenticationException(errorMessage, errorCode, null));
                     }
                     if (code == 429) {
-                        throw new RateLimitException(errorMessage, errorCode, null);
+                        throw failed(endpoint, code, errorCode, new RateLimitException(errorMessage, errorCode, null));
                     }
                     if (code >= 400 && code < 500 && code != 408 && code != 409) {
-                        throw new FirecrawlException(errorMessage, code, errorCode, null);
+                        throw failed(endpoint, code, errorCode, new FirecrawlException(errorMessage, code, errorCode, null));
                     }
 
                     // Retryable errors: 408, 409, 502, 5xx
-                    if (attempt < maxRetries) {
+                    if (attempt < maxRetries && !isOpen(breaker)) {
+                        if (!retryFitsDeadline(attempt + 1)) {
+                            throw failed(endpoint, code, errorCode, deadlineExceeded(
+                                    new FirecrawlException(errorMessage, code, errorCode, null)));
+                        }
                         attempt++;
-                        sleepWithBackoff(attempt);
+                        if (metricsEnabled) {
+                            metrics.recordRetry(endpoint, attempt, code);
+                        }
+                        sleepWithBackoff(request, attempt, code);
                         continue;
                     }
 
-                    throw new FirecrawlException(errorMessage, code, errorCode, null);
+                    throw failed(endpoint, code, errorCode, new FirecrawlException(errorMessage, code, errorCode, null));
                 }
             } catch (FirecrawlException e) {
                 throw e;
             } catch (IOException e) {
-                if (attempt < maxRetries) {
+                permit.close();
+                if (!recorded) {
+                    recorded = true;
+                    long elapsed = endpoint != null ? System.nanoTime() - start : 0;
+                    commitRequestEvent(event, request, 0, attempt, null);
+                    if (breaker != null) {
+                        breaker.onResult(true, elapsed);
+                    }
+                    if (metricsEnabled) {
+                        metrics.recordRequest(endpoint, 0, attempt, elapsed, requestBytes, 0);
+                    }
+                }
+                if (deadline != null && deadline.isExpired()) {
+                    throw failed(endpoint, 0, null, deadlineExceeded(e));
+                }
+                if (attempt < maxRetries && !isOpen(breaker)) {
+                    if (!retryFitsDeadline(attempt + 1)) {
+                        throw failed(endpoint, 0, null, deadlineExceeded(e));
+                    }
                     attempt++;
-                    sleepWithBackoff(attempt);
+                    if (metricsEnabled) {
+                        metrics.recordRetry(endpoint, attempt, 0);
+                    }
+                    sleepWithBackoff(request, attempt, 0);
                     continue;
                 }
-                throw new FirecrawlException("Request failed: " + e.getMessage(), e);
+                throw failed(endpoint, 0, null, new FirecrawlException("Request failed: " + e.getMessage(), e));
+            } finally {
+                permit.close();
+                // Release a half-open trial permit if the attempt ended without an outcome
+                if (breaker != null && !recorded) {
+                    breaker.onResult(true, System.nanoTime() - start);
+                }
             }
         }
     }
 
+    /**
+     * Waits for a scheduler slot and then for a shared quota slot; the waits
+     * count against the deadline. The local slot comes first so that the
+     * scheduler, not the race between polling threads, decides who goes next.
+     */
+    private RequestScheduler.Permit acquireSlot(String endpoint) {
+        if (scheduler == null && quota == null) {
+            return RequestScheduler.NONE;
+        }
+        RequestScheduler.Permit local = RequestScheduler.NONE;
+        try {
+            if (scheduler != null) {
+                RequestScheduler.Permit slot = scheduler.acquire(tenant, priority, remainingNanos());
+                if (slot == null) {
+                    throw failed(endpoint, 0, null, deadlineExceeded(null));
+                }
+                local = slot;
+            }
+            if (quota == null) {
+                return local;
+            }
+            RequestScheduler.Permit shared = quota.acquire(remainingNanos());
+            if (shared == null) {
+                local.close();
+                if (deadline != null) {
+                    throw failed(endpoint, 0, null, deadlineExceeded(null));
+                }
+                throw failed(endpoint, 0, null, new FirecrawlException(
+                        "Timed out waiting for a shared quota slot"));
+            }
+            RequestScheduler.Permit held = local;
+            return () -> {
+                shared.close();
+                held.close();
+            };
+        } catch (InterruptedException e) {
+            local.close();
+            Thread.currentThread().interrupt();
+            throw failed(endpoint, 0, null, new FirecrawlException("Interrupted while waiting for a request slot", e));
+        } catch (RuntimeException e) {
+            local.close();
+            throw e;
+        }
+    }
+
+    /** Time left before the deadline, or -1 when unbounded. */
+    private long remainingNanos() {
+        return deadline != null ? TimeUnit.MILLISECONDS.toNanos(deadline.remainingMillis()) : -1;
+    }
+
+    private Response execute(Request request, String endpoint) throws IOException {
+        // Never 0 here, which OkHttp would read as "no call timeout"
+        long callTimeoutMs = deadline != null ? Math.max(1, deadline.remainingMillis()) : 0;
+        if (hedger != null && hedger.applies(endpoint)) {
+            return hedger.execute(httpClient, request, endpoint, callTimeoutMs);
+        }
+        Call call = httpClient.newCall(request);
+        if (callTimeoutMs > 0) {
+            call.timeout().timeout(callTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        return call.execute();
+    }
+
+    /** Whether the backoff before {@code attempt} ends while the deadline still has time left. */
+    private boolean retryFitsDeadline(int attempt) {
+        return deadline == null || backoffMillis(attempt) < deadline.remainingMillis();
+    }
+
+    private DeadlineExceededException deadlineExceeded(Throwable cause) {
+        return new DeadlineExceededException(deadline.getTimeoutMillis(), cause);
+    }
+
+    private long backoffMillis(int attempt) {
+        return (long) (backoffFactor * 1000 * Math.pow(2, attempt - 1));
+    }
+
+    /** An open breaker means the next attempt would be rejected, so skip the backoff sleep. */
+    private static boolean isOpen(CircuitBreaker breaker) {
+        return breaker != null && breaker.state() == CircuitBreaker.State.OPEN;
+    }
+
+    private static void commitRequestEvent(JfrEvents.RequestEvent event, Request request, int statusCode,
+                                           int attempt, String body) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.method();
+            event.path = request.url().encodedPath();
+            event.statusCode = statusCode;
+            event.attempt = attempt;
+            event.requestBytes = contentLength(request.body());
+            event.responseBytes = body != null ? utf8Length(body) : 0;
+            event.commit();
+        }
+    }
+
+    private FirecrawlException failed(String endpoint, int statusCode, String errorCode, FirecrawlException error) {
+        if (metricsEnabled) {
+            metrics.recordError(endpoint, statusCode, errorCode);
+        }
+        return error;
+    }
+
+    private static long contentLength(RequestBody body) {
+        if (body == null) {
+            return 0;
+        }
+        try {
+            return body.contentLength();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /** UTF-8 encoded size of {@code s}, computed without encoding it. */
+    static long utf8Length(String s) {
+        long bytes = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
     @SuppressWarnings("unchecked")
     private String extractErrorMessage(String body, int statusCode) {
         try {
@@ -286,13 +610,24 @@ class FirecrawlHttpClient {
         return null;
     }
 
-    private void sleepWithBackoff(int attempt) {
-        long delayMs = (long) (backoffFactor * 1000 * Math.pow(2, attempt - 1));
+    private void sleepWithBackoff(Request request, int attempt, int statusCode) {
+        long delayMs = backoffMillis(attempt);
+        JfrEvents.RetryBackoffEvent event = new JfrEvents.RetryBackoffEvent();
+        event.begin();
         try {
             Thread.sleep(delayMs);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new FirecrawlException("Request interrupted during retry backoff", e);
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = request.method();
+            event.path = request.url().encodedPath();
+            event.statusCode = statusCode;
+            event.attempt = attempt;
+            event.plannedDelay = delayMs;
+            event.commit();
+        }
     }
 }
@@ -0,0 +1,143 @@
+package com.firecrawl.client;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Settings for opt-in request hedging on latency-sensitive, idempotent endpoints.
+ *
+ * <p>When a hedged request has not answered within the configured percentile
+ * of that endpoint's observed latency, an identical second request is sent.
+ * The first response wins and the other call is cancelled. A token budget
+ * caps the extra load: each request earns {@link Builder#budgetPercent
+ * budgetPercent}/100 of a token, up to {@link Builder#maxBurst maxBurst}
+ * tokens, and each hedge spends one.
+ *
+ * <p>Only {@code POST /v2/scrape}, {@code POST /v2/search}, {@code POST /v2/map}
+ * and GET endpoints can be hedged. Note that a hedged scrape or search that
+ * reaches the API is billed like any other request.
+ *
+ * <p>Hedged calls run on OkHttp's async dispatcher. The SDK's default client
+ * raises the dispatcher's per-host limit when hedging is on. If you supply your
+ * own {@code OkHttpClient}, give its dispatcher enough
+ * {@code maxRequestsPerHost} for your concurrency.
+ *
+ * <pre>{@code
+ * FirecrawlClient client = FirecrawlClient.builder()
+ *     .hedging(HedgingConfig.builder().percentile(95).budgetPercent(5).build())
+ *     .build();
+ * }</pre>
+ */
+public final class HedgingConfig {
+
+    /** Endpoint templates that are safe to send twice. */
+    private static final Set<String> IDEMPOTENT_POSTS = Set.of("POST /v2/scrape", "POST /v2/search", "POST /v2/map");
+
+    private final Set<String> endpoints;
+    private final double percentile;
+    private final long initialDelayMs;
+    private final long minDelayMs;
+    private final int minSamples;
+    private final double budgetPercent;
+    private final int maxBurst;
+
+    private HedgingConfig(Builder builder) {
+        this.endpoints = Collections.unmodifiableSet(new LinkedHashSet<>(builder.endpoints));
+        this.percentile = builder.percentile;
+        this.initialDelayMs = builder.initialDelayMs;
+        this.minDelayMs = builder.minDelayMs;
+        this.minSamples = builder.minSamples;
+        this.budgetPercent = builder.budgetPercent;
+        this.maxBurst = builder.maxBurst;
+    }
+
+    public Set<String> getEndpoints() { return endpoints; }
+    public double getPercentile() { return percentile; }
+    public long getInitialDelayMs() { return initialDelayMs; }
+    public long getMinDelayMs() { return minDelayMs; }
+    public int getMinSamples() { return minSamples; }
+    public double getBudgetPercent() { return budgetPercent; }
+    public int getMaxBurst() { return maxBurst; }
+
+    static boolean isIdempotent(String endpoint) {
+        return endpoint.startsWith("GET ") || IDEMPOTENT_POSTS.contains(endpoint);
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    public static final class Builder {
+        private Set<String> endpoints = new LinkedHashSet<>(Set.of("POST /v2/scrape", "POST /v2/search"));
+        private double percentile = 95;
+        private long initialDelayMs = 1_000;
+        private long minDelayMs = 20;
+        private int minSamples = 20;
+        private double budgetPercent = 10;
+        private int maxBurst = 5;
+
+        private Builder() {}
+
+        /**
+         * Endpoint templates to hedge, e.g. {@code "POST /v2/scrape"}. Default:
+         * scrape and search. Throws if a non-idempotent endpoint is given.
+         */
+        public Builder endpoints(Set<String> endpoints) {
+            for (String endpoint : endpoints) {
+                if (!isIdempotent(endpoint)) {
+                    throw new IllegalArgumentException("Endpoint is not idempotent and cannot be hedged: " + endpoint);
+                }
+            }
+            this.endpoints = new LinkedHashSet<>(endpoints);
+            return this;
+        }
+
+        /** Latency percentile (50-99.9) after which the hedge is sent. Default: 95. */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /** Hedge delay used until {@link #minSamples(int)} latencies are observed. Default: 1000. */
+        public Builder initialDelayMs(long initialDelayMs) {
+            this.initialDelayMs = initialDelayMs;
+            return this;
+        }
+
+        /** Lower bound on the learned hedge delay. Default: 20. */
+        public Builder minDelayMs(long minDelayMs) {
+            this.minDelayMs = minDelayMs;
+            return this;
+        }
+
+        /** Observed latencies required before the percentile is trusted. Default: 20. */
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /** Hedges allowed per 100 hedgeable requests, sustained. Default: 10. */
+        public Builder budgetPercent(double budgetPercent) {
+            this.budgetPercent = budgetPercent;
+            return this;
+        }
+
+        /** Hedges that may be sent back to back before the budget has to refill. Default: 5. */
+        public Builder maxBurst(int maxBurst) {
+            this.maxBurst = maxBurst;
+            return this;
+        }
+
+        public HedgingConfig build() {
+            if (percentile < 50 || percentile >= 100) {
+                throw new IllegalArgumentException("percentile must be in [50, 100)");
+            }
+            if (initialDelayMs < 0 || minDelayMs < 0 || minSamples < 0) {
+                throw new IllegalArgumentException("initialDelayMs, minDelayMs and minSamples must not be negative");
+            }
+            if (budgetPercent < 0 || budgetPercent > 100 || maxBurst < 1) {
+                throw new IllegalArgumentException("budgetPercent must be in [0, 100] and maxBurst at least 1");
+            }
+            return new HedgingConfig(this);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.firecrawl.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-durable {@link CheckpointStore} that keeps checkpoints in memory.
+ * Useful for tests and for resuming within a single process.
+ */
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+    private final Map<String, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public Checkpoint load(String key) {
+        return checkpoints.get(key);
+    }
+
+    @Override
+    public void save(String key, Checkpoint checkpoint) {
+        checkpoints.put(key, checkpoint);
+    }
+
+    @Override
+    public void delete(String key) {
+        checkpoints.remove(key);
+    }
+}
@@ -0,0 +1,140 @@
+package com.firecrawl.client;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free {@link MetricsRecorder} that aggregates per-endpoint counters and
+ * latency histograms in memory.
+ *
+ * <p>Recording uses only {@link LongAdder}s and atomic arrays, so it is safe
+ * and cheap under heavy concurrency. Call {@link #snapshot()} at any time for
+ * a consistent-enough view with p50/p90/p99 latencies, retry and error counts,
+ * byte throughput and JSON (de)serialization time.
+ */
+public final class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    private final ConcurrentHashMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    @Override
+    public void recordRequest(String endpoint, int statusCode, int attempt, long networkNanos,
+                              long requestBytes, long responseBytes) {
+        EndpointMetrics metrics = metrics(endpoint);
+        metrics.requests.increment();
+        metrics.statusClasses.incrementAndGet(Math.max(0, Math.min(5, statusCode / 100)));
+        metrics.latency.record(networkNanos / 1000);
+        if (requestBytes > 0) {
+            metrics.bytesSent.add(requestBytes);
+        }
+        if (responseBytes > 0) {
+            metrics.bytesReceived.add(responseBytes);
+        }
+    }
+
+    @Override
+    public void recordRetry(String endpoint, int attempt, int statusCode) {
+        metrics(endpoint).retries.increment();
+    }
+
+    @Override
+    public void recordError(String endpoint, int statusCode, String errorCode) {
+        EndpointMetrics metrics = metrics(endpoint);
+        metrics.errors.increment();
+        if (errorCode != null) {
+            metrics.errorCodes.computeIfAbsent(errorCode, k -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void recordCallTimings(String endpoint, CallTimings timings) {
+        metrics(endpoint).callTimings().record(timings);
+    }
+
+    @Override
+    public void recordSerialization(String endpoint, long nanos) {
+        EndpointMetrics metrics = metrics(endpoint);
+        metrics.serializations.increment();
+        metrics.serializationNanos.add(nanos);
+    }
+
+    @Override
+    public void recordDeserialization(String endpoint, long nanos) {
+        EndpointMetrics metrics = metrics(endpoint);
+        metrics.deserializations.increment();
+        metrics.deserializationNanos.add(nanos);
+    }
+
+    /**
+     * Returns an immutable copy of everything recorded since construction or the
+     * last {@link #reset()}.
+     */
+    public MetricsSnapshot snapshot() {
+        long elapsed = System.nanoTime() - startNanos;
+        Map<String, MetricsSnapshot.EndpointStats> stats = new TreeMap<>();
+        for (Map.Entry<String, EndpointMetrics> entry : endpoints.entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().snapshot(elapsed));
+        }
+        return new MetricsSnapshot(elapsed, stats);
+    }
+
+    /** Discards all recorded data. */
+    public void reset() {
+        endpoints.clear();
+        startNanos = System.nanoTime();
+    }
+
+    private EndpointMetrics metrics(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics != null ? metrics : endpoints.computeIfAbsent(endpoint, k -> new EndpointMetrics());
+    }
+
+    private static final class EndpointMetrics {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder requests = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LongAdder serializations = new LongAdder();
+        final LongAdder serializationNanos = new LongAdder();
+        final LongAdder deserializations = new LongAdder();
+        final LongAdder deserializationNanos = new LongAdder();
+        /** Index 0 counts network failures; 1-5 count 1xx-5xx responses. */
+        final AtomicLongArray statusClasses = new AtomicLongArray(6);
+        final ConcurrentHashMap<String, LongAdder> errorCodes = new ConcurrentHashMap<>();
+        /** Created on first use, since only the default OkHttpClient reports call timings. */
+        final AtomicReference<CallTimingCollector> callTimings = new AtomicReference<>();
+
+        CallTimingCollector callTimings() {
+            CallTimingCollector collector = callTimings.get();
+            if (collector == null) {
+                callTimings.compareAndSet(null, new CallTimingCollector());
+                collector = callTimings.get();
+            }
+            return collector;
+        }
+
+        MetricsSnapshot.EndpointStats snapshot(long elapsedNanos) {
+            long[] classes = new long[6];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = statusClasses.get(i);
+            }
+            Map<String, Long> codes = new TreeMap<>();
+            errorCodes.forEach((code, count) -> codes.put(code, count.sum()));
+            CallTimingCollector collector = callTimings.get();
+            return new MetricsSnapshot.EndpointStats(
+                    requests.sum(), retries.sum(), errors.sum(), classes, codes,
+                    bytesSent.sum(), bytesReceived.sum(),
+                    latency.snapshotCounts(), latency.count(), latency.sum(), latency.max(),
+                    serializations.sum(), serializationNanos.sum(),
+                    deserializations.sum(), deserializationNanos.sum(),
+                    collector != null ? collector.snapshot() : null,
+                    elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.firecrawl.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QuotaCoordinator} kept in memory. Clients built in the same JVM can
+ * share one instance; useful for tests and for splitting a quota across
+ * several clients in one process.
+ */
+public class InMemoryQuotaCoordinator implements QuotaCoordinator {
+
+    private final Map<String, Long> leases = new LinkedHashMap<>();
+    private double tokens = Double.NaN;
+    private long refilledAt;
+
+    @Override
+    public synchronized QuotaLease tryAcquire(String holder, int limit, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        expire(now);
+        if (leases.size() >= limit) {
+            return null;
+        }
+        QuotaLease lease = new QuotaLease(UUID.randomUUID().toString(), holder, now + ttlMillis);
+        leases.put(lease.getId(), lease.getExpiresAtMillis());
+        return lease;
+    }
+
+    @Override
+    public synchronized boolean renew(QuotaLease lease, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        expire(now);
+        return leases.replace(lease.getId(), now + ttlMillis) != null;
+    }
+
+    @Override
+    public synchronized void release(QuotaLease lease) {
+        leases.remove(lease.getId());
+    }
+
+    @Override
+    public synchronized long reserveToken(double permitsPerSecond, int burst) {
+        long now = System.currentTimeMillis();
+        double millisPerPermit = TimeUnit.SECONDS.toMillis(1) / permitsPerSecond;
+        tokens = Double.isNaN(tokens) ? burst : Math.min(burst, tokens + (now - refilledAt) / millisPerPermit);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * millisPerPermit);
+    }
+
+    @Override
+    public synchronized int activeLeases() {
+        expire(System.currentTimeMillis());
+        return leases.size();
+    }
+
+    private void expire(long now) {
+        for (Iterator<Long> it = leases.values().iterator(); it.hasNext(); ) {
+            if (it.next() <= now) {
+                it.remove();
+            }
+        }
+    }
+}
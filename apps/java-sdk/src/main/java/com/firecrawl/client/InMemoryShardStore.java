@@ -0,0 +1,19 @@
+package com.firecrawl.client;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link ShardStore} kept in memory. Useful for tests and for spreading
+ * one job over several consumers in a single process.
+ */
+public class InMemoryShardStore implements ShardStore {
+
+    private final Map<String, String> tables = new ConcurrentHashMap<>();
+
+    @Override
+    public String update(String key, UnaryOperator<String> change) {
+        return tables.compute(key, (k, current) -> change.apply(current));
+    }
+}
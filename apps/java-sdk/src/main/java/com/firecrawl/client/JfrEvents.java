@@ -0,0 +1,171 @@
+package com.firecrawl.client;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.List;
+
+/**
+ * JDK Flight Recorder events emitted by the SDK.
+ *
+ * <p>Each type can be turned on and off separately in a JFR settings file or on
+ * the command line by name, e.g.
+ * {@code -XX:StartFlightRecording:com.firecrawl.Request#enabled=true,com.firecrawl.Poll#threshold=100ms}.
+ * When a type is disabled, emitting it costs one enabled check: the fields are
+ * only filled in after {@link Event#shouldCommit()} returns true.
+ *
+ * <ul>
+ *   <li>{@code com.firecrawl.Request}: one HTTP attempt, from send to reading the body</li>
+ *   <li>{@code com.firecrawl.RetryBackoff}: the sleep before retrying a failed attempt</li>
+ *   <li>{@code com.firecrawl.Poll}: one status check of a crawl, batch scrape or agent job</li>
+ *   <li>{@code com.firecrawl.PageFetch}: one follow-up result page fetched through a {@code next} cursor</li>
+ * </ul>
+ */
+final class JfrEvents {
+
+    private static final String CATEGORY = "Firecrawl";
+
+    private JfrEvents() {}
+
+    @Name("com.firecrawl.Request")
+    @Label("Firecrawl Request")
+    @Description("One HTTP attempt against the Firecrawl API")
+    @Category({CATEGORY, "HTTP"})
+    @StackTrace(false)
+    static final class RequestEvent extends Event {
+        @Label("Method")
+        String method;
+
+        @Label("Path")
+        String path;
+
+        @Label("Status Code")
+        @Description("HTTP status, or 0 when no response was received")
+        int statusCode;
+
+        @Label("Attempt")
+        @Description("0 for the first attempt, incremented on each retry")
+        int attempt;
+
+        @Label("Request Bytes")
+        @DataAmount
+        long requestBytes;
+
+        @Label("Response Bytes")
+        @DataAmount
+        long responseBytes;
+    }
+
+    @Name("com.firecrawl.RetryBackoff")
+    @Label("Firecrawl Retry Backoff")
+    @Description("Sleep before retrying a failed request")
+    @Category({CATEGORY, "HTTP"})
+    @StackTrace(false)
+    static final class RetryBackoffEvent extends Event {
+        @Label("Method")
+        String method;
+
+        @Label("Path")
+        String path;
+
+        @Label("Status Code")
+        @Description("Status of the failed attempt, or 0 for a network error")
+        int statusCode;
+
+        @Label("Attempt")
+        @Description("The attempt that follows the sleep")
+        int attempt;
+
+        @Label("Planned Delay")
+        @Timespan(Timespan.MILLISECONDS)
+        long plannedDelay;
+    }
+
+    @Name("com.firecrawl.Poll")
+    @Label("Firecrawl Job Poll")
+    @Description("One status check of an asynchronous job")
+    @Category({CATEGORY, "Jobs"})
+    @StackTrace(false)
+    static final class PollEvent extends Event {
+        @Label("Job Type")
+        String jobType;
+
+        @Label("Job ID")
+        String jobId;
+
+        @Label("Status")
+        String status;
+
+        @Label("Completed")
+        int completed;
+
+        @Label("Total")
+        int total;
+
+        @Label("New Items")
+        @Description("Documents received by this poll")
+        int newItems;
+    }
+
+    @Name("com.firecrawl.PageFetch")
+    @Label("Firecrawl Page Fetch")
+    @Description("One result page fetched by following a next cursor")
+    @Category({CATEGORY, "Jobs"})
+    @StackTrace(false)
+    static final class PageFetchEvent extends Event {
+        @Label("Job Type")
+        String jobType;
+
+        @Label("Job ID")
+        String jobId;
+
+        @Label("Items")
+        int items;
+
+        @Label("Has Next")
+        boolean hasNext;
+    }
+
+    static PollEvent beginPoll() {
+        PollEvent event = new PollEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitPoll(PollEvent event, String jobType, String jobId, String status,
+                           int completed, int total, int newItems) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobType = jobType;
+            event.jobId = jobId;
+            event.status = status;
+            event.completed = completed;
+            event.total = total;
+            event.newItems = newItems;
+            event.commit();
+        }
+    }
+
+    static PageFetchEvent beginPageFetch() {
+        PageFetchEvent event = new PageFetchEvent();
+        event.begin();
+        return event;
+    }
+
+    static void commitPageFetch(PageFetchEvent event, String jobType, String jobId, List<?> items, String next) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.jobType = jobType;
+            event.jobId = jobId;
+            event.items = items != null ? items.size() : 0;
+            event.hasNext = next != null && !next.isEmpty();
+            event.commit();
+        }
+    }
+}
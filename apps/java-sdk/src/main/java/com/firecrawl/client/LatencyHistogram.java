@@ -0,0 +1,96 @@
+package com.firecrawl.client;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram (HdrHistogram-style bucketing).
+ *
+ * <p>Values are recorded in microseconds. Values below {@value #SUB_BUCKETS}
+ * get one bucket each; above that, every power of two is split into
+ * {@code SUB_BUCKETS / 2} linear sub-buckets, which bounds the relative error
+ * of reported percentiles to about 3% while keeping the whole histogram in one
+ * fixed-size {@link AtomicLongArray}. Recording never allocates.
+ */
+final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Largest trackable value is {@code 2^MAX_BITS - 1} µs (~13 days); larger values are clamped. */
+    private static final int MAX_BITS = 40;
+    static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_BITS - SUB_BUCKET_BITS) * (SUB_BUCKETS >>> 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /** Records one value in microseconds. */
+    void record(long micros) {
+        long value = Math.max(0, Math.min(micros, (1L << MAX_BITS) - 1));
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    long count() { return count.sum(); }
+    long sum() { return sum.sum(); }
+    long max() { return max.get(); }
+
+    /** Copies the bucket counts. */
+    long[] snapshotCounts() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    /** Value (µs) at the given percentile (0-100) of live data, or 0 when empty. */
+    long percentile(double percentile) {
+        return percentile(snapshotCounts(), percentile);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        int sub = (int) (value >>> shift) - (SUB_BUCKETS >>> 1);
+        return SUB_BUCKETS + (shift - 1) * (SUB_BUCKETS >>> 1) + sub;
+    }
+
+    /** Highest value (µs) that falls into the bucket. */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int half = SUB_BUCKETS >>> 1;
+        int shift = (index - SUB_BUCKETS) / half + 1;
+        long sub = (index - SUB_BUCKETS) % half + half;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /** Value (µs) at the given percentile (0-100) of a {@link #snapshotCounts()} copy, or 0 when empty. */
+    static long percentile(long[] counts, double percentile) {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(counts.length - 1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.firecrawl.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Atomic writes and read-modify-write of small files shared between
+ * processes, possibly on other hosts. Each update holds an exclusive lock
+ * on a sibling {@code .lock} file and atomically replaces the file, so a
+ * process that crashes mid-write never leaves a truncated file behind.
+ * Durable writes also flush the file and its directory to disk; state that
+ * is only ever short-lived can skip that cost.
+ */
+final class LockedFiles {
+
+    /** One JVM cannot hold two locks on the same file, so its threads queue here first. */
+    private static final Map<Path, ReentrantLock> LOCAL_LOCKS = new ConcurrentHashMap<>();
+
+    private LockedFiles() {}
+
+    /**
+     * Durably replaces the content of {@code file} with {@code change} applied
+     * to it. The change gets null when the file does not exist. Returning the
+     * same instance skips the write, and returning null deletes the file.
+     *
+     * @return the new content
+     */
+    static String update(Path file, UnaryOperator<String> change) throws IOException {
+        return update(file, true, change);
+    }
+
+    /**
+     * Like {@link #update(Path, UnaryOperator)}, but when {@code durable} is
+     * false the file is still replaced atomically, without flushing it to disk.
+     */
+    static String update(Path file, boolean durable, UnaryOperator<String> change) throws IOException {
+        Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+        ReentrantLock local = LOCAL_LOCKS.computeIfAbsent(lockFile.toAbsolutePath().normalize(),
+                path -> new ReentrantLock());
+        local.lock();
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            FileLock fileLock = channel.lock();
+            try {
+                return apply(file, durable, change);
+            } finally {
+                fileLock.release();
+            }
+        } finally {
+            local.unlock();
+        }
+    }
+
+    /** The read-modify-write itself; the caller holds both locks. */
+    private static String apply(Path file, boolean durable, UnaryOperator<String> change) throws IOException {
+        String current = read(file);
+        String updated = change.apply(current);
+        if (updated == null) {
+            if (Files.deleteIfExists(file) && durable) {
+                syncDirectory(file.getParent());
+            }
+        } else if (updated != current) {
+            write(file, updated.getBytes(StandardCharsets.UTF_8), durable);
+        }
+        return updated;
+    }
+
+    private static String read(Path file) throws IOException {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Atomically replaces {@code file} with {@code content}: the bytes go to a
+     * temporary file that is flushed to disk and then moved into place, and
+     * the directory is flushed afterwards so the rename survives a power loss.
+     * Takes no lock; use {@link #update} when several writers share the file.
+     */
+    static void write(Path file, byte[] content) throws IOException {
+        write(file, content, true);
+    }
+
+    private static void write(Path file, byte[] content, boolean durable) throws IOException {
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (durable) {
+                    // Flush the content before the rename can make it visible
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        if (durable) {
+            syncDirectory(file.getParent());
+        }
+    }
+
+    /** Persists renames and deletions in {@code directory}. Best effort: not every platform can open a directory. */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // e.g. Windows; the file content is already durable
+        }
+    }
+
+    /** {@code key} with characters unsafe in file names replaced, plus {@code .json}. */
+    static String fileName(String key) {
+        StringBuilder name = new StringBuilder(key.length() + 5);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            boolean safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            name.append(safe ? c : '_');
+        }
+        return name.append(".json").toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.firecrawl.client;
+
+/**
+ * Receives per-request telemetry from {@link FirecrawlClient}.
+ *
+ * <p>Endpoints are reported as low-cardinality templates combining method and
+ * path, e.g. {@code "POST /v2/scrape"} or {@code "GET /v2/crawl/{id}"}; job IDs
+ * and query strings never appear in endpoint names.
+ *
+ * <p>Every method has an empty default, so implementations only override what
+ * they need. Callbacks run synchronously on the calling thread and must be
+ * cheap and thread-safe. When no recorder is configured the client uses
+ * {@link #NOOP} and skips all measurement work.
+ *
+ * <pre>{@code
+ * InMemoryMetricsRecorder metrics = new InMemoryMetricsRecorder();
+ * FirecrawlClient client = FirecrawlClient.builder()
+ *     .metricsRecorder(metrics)
+ *     .build();
+ * // ...
+ * metrics.snapshot().getEndpoints().forEach((endpoint, stats) ->
+ *     System.out.println(endpoint + " p99=" + stats.getLatencyMillis(99) + "ms"));
+ * }</pre>
+ */
+public interface MetricsRecorder {
+
+    /** Recorder that discards everything; the client default. */
+    MetricsRecorder NOOP = new MetricsRecorder() { };
+
+    /**
+     * Called once per HTTP attempt, including attempts that are retried.
+     *
+     * @param endpoint      endpoint template, e.g. {@code "GET /v2/crawl/{id}"}
+     * @param statusCode    HTTP status, or 0 when no response was received
+     * @param attempt       0 for the first attempt, incremented on each retry
+     * @param networkNanos  time from sending the request to reading the full response body
+     * @param requestBytes  request body size in bytes, or -1 if unknown
+     * @param responseBytes response body size in bytes (0 when no response was received)
+     */
+    default void recordRequest(String endpoint, int statusCode, int attempt, long networkNanos,
+                               long requestBytes, long responseBytes) {
+    }
+
+    /**
+     * Called when a failed attempt is about to be retried.
+     *
+     * @param endpoint   endpoint template
+     * @param attempt    the attempt number that will be made next (1 for the first retry)
+     * @param statusCode status of the failed attempt, or 0 for a network error
+     */
+    default void recordRetry(String endpoint, int attempt, int statusCode) {
+    }
+
+    /**
+     * Called when a request finally fails and an exception is thrown to the caller.
+     *
+     * @param endpoint   endpoint template
+     * @param statusCode final HTTP status, or 0 for a network error
+     * @param errorCode  API error code from the response body, may be null
+     */
+    default void recordError(String endpoint, int statusCode, String errorCode) {
+    }
+
+    /** Time spent serializing a JSON request body. */
+    default void recordSerialization(String endpoint, long nanos) {
+    }
+
+    /** Time spent deserializing a successful JSON response body. */
+    default void recordDeserialization(String endpoint, long nanos) {
+    }
+
+    /**
+     * Phase breakdown of one HTTP call (DNS, connect, TLS, request write, time to
+     * first byte, body read) and whether it reused a pooled connection. Only
+     * reported when the client uses its default OkHttpClient.
+     */
+    default void recordCallTimings(String endpoint, CallTimings timings) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.firecrawl.client;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point-in-time copy of the metrics collected by an {@link InMemoryMetricsRecorder}.
+ */
+public final class MetricsSnapshot {
+
+    private final long elapsedNanos;
+    private final Map<String, EndpointStats> endpoints;
+
+    MetricsSnapshot(long elapsedNanos, Map<String, EndpointStats> endpoints) {
+        this.elapsedNanos = elapsedNanos;
+        this.endpoints = Collections.unmodifiableMap(endpoints);
+    }
+
+    /** Time covered by this snapshot, since the recorder was created or reset. */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /** Stats keyed by endpoint template, e.g. {@code "GET /v2/crawl/{id}"}, sorted by name. */
+    public Map<String, EndpointStats> getEndpoints() { return endpoints; }
+
+    /** Stats for one endpoint template, or null if it was never called. */
+    public EndpointStats get(String endpoint) { return endpoints.get(endpoint); }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{elapsedMs=" + elapsedNanos / 1_000_000 + ", endpoints=" + endpoints + "}";
+    }
+
+    /**
+     * Aggregated stats for one endpoint template. Latencies cover network time
+     * per attempt: from sending the request until the response body is read.
+     */
+    public static final class EndpointStats {
+        private final long requests;
+        private final long retries;
+        private final long errors;
+        private final long[] statusClasses;
+        private final Map<String, Long> errorCodes;
+        private final long bytesSent;
+        private final long bytesReceived;
+        private final long[] latencyCounts;
+        private final long latencyCount;
+        private final long latencySumMicros;
+        private final long latencyMaxMicros;
+        private final long serializations;
+        private final long serializationNanos;
+        private final long deserializations;
+        private final long deserializationNanos;
+        private final ConnectionStats connectionStats;
+        private final long elapsedNanos;
+
+        EndpointStats(long requests, long retries, long errors, long[] statusClasses, Map<String, Long> errorCodes,
+                      long bytesSent, long bytesReceived,
+                      long[] latencyCounts, long latencyCount, long latencySumMicros, long latencyMaxMicros,
+                      long serializations, long serializationNanos,
+                      long deserializations, long deserializationNanos,
+                      ConnectionStats connectionStats, long elapsedNanos) {
+            this.requests = requests;
+            this.retries = retries;
+            this.errors = errors;
+            this.statusClasses = statusClasses;
+            this.errorCodes = Collections.unmodifiableMap(errorCodes);
+            this.bytesSent = bytesSent;
+            this.bytesReceived = bytesReceived;
+            this.latencyCounts = latencyCounts;
+            this.latencyCount = latencyCount;
+            this.latencySumMicros = latencySumMicros;
+            this.latencyMaxMicros = latencyMaxMicros;
+            this.serializations = serializations;
+            this.serializationNanos = serializationNanos;
+            this.deserializations = deserializations;
+            this.deserializationNanos = deserializationNanos;
+            this.connectionStats = connectionStats;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** HTTP attempts, including retried ones. */
+        public long getRequests() { return requests; }
+
+        /** Attempts that were retried. */
+        public long getRetries() { return retries; }
+
+        /** Calls that finally failed with an exception. */
+        public long getErrors() { return errors; }
+
+        /** Attempts that got no HTTP response (connection or I/O failure). */
+        public long getNetworkFailures() { return statusClasses[0]; }
+
+        /**
+         * Attempts whose status falls in the given class.
+         *
+         * @param statusClass 1-5 for 1xx-5xx responses
+         */
+        public long getStatusClassCount(int statusClass) {
+            if (statusClass < 1 || statusClass > 5) {
+                throw new IllegalArgumentException("statusClass must be between 1 and 5");
+            }
+            return statusClasses[statusClass];
+        }
+
+        /** Final failures keyed by the API error code. */
+        public Map<String, Long> getErrorCodes() { return errorCodes; }
+
+        public long getBytesSent() { return bytesSent; }
+        public long getBytesReceived() { return bytesReceived; }
+
+        /** Attempts per second over the snapshot's elapsed time. */
+        public double getRequestsPerSecond() {
+            return elapsedNanos > 0 ? requests * 1e9 / elapsedNanos : 0.0;
+        }
+
+        /**
+         * Network latency at the given percentile, accurate to about 3%.
+         *
+         * @param percentile 0-100, e.g. 50, 90, 99
+         */
+        public double getLatencyMillis(double percentile) {
+            return LatencyHistogram.percentile(latencyCounts, percentile) / 1000.0;
+        }
+
+        public double getMeanLatencyMillis() {
+            return latencyCount > 0 ? latencySumMicros / 1000.0 / latencyCount : 0.0;
+        }
+
+        public double getMaxLatencyMillis() { return latencyMaxMicros / 1000.0; }
+
+        /** Number of request bodies serialized. */
+        public long getSerializations() { return serializations; }
+
+        /** Total time spent serializing request bodies. */
+        public long getSerializationNanos() { return serializationNanos; }
+
+        /** Number of response bodies deserialized. */
+        public long getDeserializations() { return deserializations; }
+
+        /** Total time spent deserializing response bodies. */
+        public long getDeserializationNanos() { return deserializationNanos; }
+
+        /**
+         * Phase timing breakdown for this endpoint, or null when no call timings were
+         * reported (e.g. the client was built with a custom OkHttpClient).
+         */
+        public ConnectionStats getConnectionStats() { return connectionStats; }
+
+        @Override
+        public String toString() {
+            return "EndpointStats{requests=" + requests
+                    + ", retries=" + retries
+                    + ", errors=" + errors
+                    + ", p50=" + getLatencyMillis(50) + "ms"
+                    + ", p90=" + getLatencyMillis(90) + "ms"
+                    + ", p99=" + getLatencyMillis(99) + "ms"
+                    + ", bytesSent=" + bytesSent
+                    + ", bytesReceived=" + bytesReceived + "}";
+        }
+    }
+}
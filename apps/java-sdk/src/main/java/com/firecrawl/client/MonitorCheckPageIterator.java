@@ -0,0 +1,93 @@
+package com.firecrawl.client;
+
+import com.firecrawl.models.MonitorCheckDetail;
+import com.firecrawl.models.MonitorCheckPage;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the pages of a monitor check, fetching one result page at a
+ * time and following its {@code next} cursor only when the current one has
+ * been consumed.
+ *
+ * <p>Only the current result page is referenced, and each entry is released
+ * from it once returned, so memory use does not grow with the size of the check.
+ */
+final class MonitorCheckPageIterator implements Iterator<MonitorCheckPage> {
+
+    /**
+     * Notified when the caller comes back for more after every entry of a result
+     * page has been returned, i.e. once the page has been fully processed.
+     */
+    interface PageListener {
+        void onPageConsumed(String next, int entries);
+    }
+
+    private final FirecrawlClient client;
+    private final String monitorId;
+    private final String checkId;
+    private final Integer limit;
+    private final String status;
+    private final PageListener listener;
+
+    private List<MonitorCheckPage> entries = Collections.emptyList();
+    private int index;
+    private boolean started;
+    /** True while the current page has not been reported to the listener. */
+    private boolean unreported;
+    private String next;
+
+    /**
+     * @param cursor {@code next} cursor to start from, or null to start at the first page
+     */
+    MonitorCheckPageIterator(FirecrawlClient client, String monitorId, String checkId, Integer limit,
+                             String status, String cursor, PageListener listener) {
+        this.client = client;
+        this.monitorId = monitorId;
+        this.checkId = checkId;
+        this.limit = limit;
+        this.status = status;
+        this.listener = listener;
+        this.started = cursor != null;
+        this.next = cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index >= entries.size()) {
+            if (unreported) {
+                unreported = false;
+                if (listener != null) {
+                    listener.onPageConsumed(next, entries.size());
+                }
+            }
+            if (started && (next == null || next.isEmpty())) {
+                return false;
+            }
+            MonitorCheckDetail page = started
+                    ? client.getMonitorCheckPage(checkId, next)
+                    : client.getMonitorCheck(monitorId, checkId, limit, null, status, false);
+            started = true;
+            entries = page.getPages() != null ? page.getPages() : Collections.emptyList();
+            index = 0;
+            next = page.getNext();
+            unreported = true;
+        }
+        return true;
+    }
+
+    @Override
+    public MonitorCheckPage next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MonitorCheckPage entry = entries.get(index);
+        // Drop the reference so a consumed diff or snapshot can be collected
+        entries.set(index, null);
+        index++;
+        return entry;
+    }
+}
@@ -0,0 +1,274 @@
+package com.firecrawl.client;
+
+import com.firecrawl.models.Monitor;
+import com.firecrawl.models.MonitorCheck;
+import com.firecrawl.models.MonitorCheckPage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers the results of monitor checks that finished since the last sync,
+ * across many monitors at once.
+ *
+ * <p>Monitors are synced in parallel, up to {@link Builder#concurrency(int)} at
+ * a time. For each monitor, only checks newer than the last synced one are
+ * listed; their pages are fetched oldest check first and handed to a
+ * {@link PageSink}. A {@link Checkpoint} is saved after every page, so an
+ * interrupted sync resumes mid-check and a page is redelivered only if the
+ * sink threw on it (at-least-once). Queued and running checks are left for a
+ * later sync, together with any check newer than them.
+ *
+ * <pre>{@code
+ * MonitorSync sync = MonitorSync.builder(client)
+ *     .checkpointStore(new FileCheckpointStore(Paths.get("monitor-sync")))
+ *     .pageStatus("changed")
+ *     .concurrency(32)
+ *     .build();
+ * MonitorSync.Result result = sync.sync((monitor, check, page) ->
+ *     System.out.println(monitor.getName() + " " + page.getUrl() + " " + page.getStatus()));
+ * }</pre>
+ */
+public final class MonitorSync {
+
+    /** Checkpoint key prefix; the checkpoint's job ID is the last check synced for the monitor. */
+    private static final String KEY_PREFIX = "monitor-";
+    /** Small first listing page: a monitor with nothing new costs one cheap request. */
+    private static final int FIRST_LIST_PAGE = 10;
+    private static final int LIST_PAGE = 100;
+    private static final Set<String> IN_PROGRESS = Set.of("queued", "running");
+
+    /**
+     * Receives the pages of newly finished checks. Pages of one monitor arrive
+     * in order on one thread at a time; different monitors are delivered
+     * concurrently, so implementations must be thread-safe.
+     */
+    @FunctionalInterface
+    public interface PageSink {
+        void accept(Monitor monitor, MonitorCheck check, MonitorCheckPage page);
+    }
+
+    private final FirecrawlClient client;
+    private final CheckpointStore checkpointStore;
+    private final int concurrency;
+    private final int pageSize;
+    private final String pageStatus;
+
+    private MonitorSync(Builder builder) {
+        this.client = builder.client;
+        this.checkpointStore = builder.checkpointStore;
+        this.concurrency = builder.concurrency;
+        this.pageSize = builder.pageSize;
+        this.pageStatus = builder.pageStatus;
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Syncs every monitor of the team.
+     */
+    public Result sync(PageSink sink) {
+        Objects.requireNonNull(sink, "Page sink is required");
+        List<Monitor> monitors = new ArrayList<>();
+        int offset = 0;
+        while (true) {
+            List<Monitor> batch = client.listMonitors(LIST_PAGE, offset);
+            monitors.addAll(batch);
+            if (batch.size() < LIST_PAGE) {
+                break;
+            }
+            offset += batch.size();
+        }
+        return sync(monitors, sink);
+    }
+
+    /**
+     * Syncs the given monitors. A monitor that fails is reported in
+     * {@link Result#getFailures()} and does not stop the others.
+     */
+    public Result sync(List<Monitor> monitors, PageSink sink) {
+        Objects.requireNonNull(monitors, "Monitors are required");
+        Objects.requireNonNull(sink, "Page sink is required");
+        long start = System.nanoTime();
+        LongAdder checks = new LongAdder();
+        LongAdder pages = new LongAdder();
+        Map<Monitor, RuntimeException> failed = FanOut.forEach(monitors, concurrency, "monitor-sync",
+                monitor -> syncMonitor(monitor, sink, checks, pages));
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        failed.forEach((monitor, error) -> failures.put(monitor.getId(), error));
+        return new Result(monitors.size() - failures.size(), checks.sum(), pages.sum(), failures,
+                System.nanoTime() - start);
+    }
+
+    private void syncMonitor(Monitor monitor, PageSink sink, LongAdder checks, LongAdder pages) {
+        String key = KEY_PREFIX + monitor.getId();
+        Checkpoint checkpoint = checkpointStore.load(key);
+        String lastCheckId = checkpoint != null ? checkpoint.getJobId() : null;
+
+        // Checks are listed newest first: collect until the last synced one
+        List<MonitorCheck> newer = new ArrayList<>();
+        MonitorCheck last = null;
+        Set<String> seen = new HashSet<>();
+        int offset = 0;
+        int limit = FIRST_LIST_PAGE;
+        listing:
+        while (true) {
+            List<MonitorCheck> batch = client.listMonitorChecks(monitor.getId(), limit, offset);
+            for (MonitorCheck check : batch) {
+                if (check.getId().equals(lastCheckId)) {
+                    last = check;
+                    break listing;
+                }
+                // A check created while listing shifts offsets; skip the repeat
+                if (seen.add(check.getId())) {
+                    newer.add(check);
+                }
+            }
+            if (batch.size() < limit) {
+                break;
+            }
+            offset += batch.size();
+            limit = LIST_PAGE;
+        }
+        Collections.reverse(newer);
+
+        if (last != null && !checkpoint.isCompleted()) {
+            consumeCheck(key, monitor, last, checkpoint, sink, pages);
+        }
+        for (MonitorCheck check : newer) {
+            if (IN_PROGRESS.contains(check.getStatus())) {
+                break;
+            }
+            consumeCheck(key, monitor, check, null, sink, pages);
+            checks.increment();
+        }
+    }
+
+    /**
+     * Delivers the pages of one check, starting from {@code checkpoint}'s cursor
+     * or, when it is null, from the first page.
+     */
+    private void consumeCheck(String key, Monitor monitor, MonitorCheck check, Checkpoint checkpoint,
+                              PageSink sink, LongAdder pages) {
+        Checkpoint initial = checkpoint != null ? checkpoint : new Checkpoint(check.getId(), null, 0, 0, false, 0);
+        if (checkpoint == null && check.getStatus() != null && check.getStatus().startsWith("skipped")) {
+            // Skipped checks never scraped anything
+            checkpointStore.save(key, initial.advance(null, 0));
+            return;
+        }
+        Checkpoint[] current = {initial};
+        MonitorCheckPageIterator entries = new MonitorCheckPageIterator(client, monitor.getId(), check.getId(),
+                pageSize, pageStatus, initial.getNext(), (next, count) -> {
+                    current[0] = current[0].advance(next, count);
+                    checkpointStore.save(key, current[0]);
+                });
+        while (entries.hasNext()) {
+            sink.accept(monitor, check, entries.next());
+            pages.increment();
+        }
+    }
+
+    /**
+     * Outcome of one {@link #sync(PageSink)} run.
+     */
+    public static final class Result {
+        private final int monitorsSynced;
+        private final long checks;
+        private final long pages;
+        private final Map<String, RuntimeException> failures;
+        private final long elapsedNanos;
+
+        Result(int monitorsSynced, long checks, long pages, Map<String, RuntimeException> failures,
+               long elapsedNanos) {
+            this.monitorsSynced = monitorsSynced;
+            this.checks = checks;
+            this.pages = pages;
+            this.failures = Collections.unmodifiableMap(failures);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** Monitors synced without error. */
+        public int getMonitorsSynced() { return monitorsSynced; }
+
+        /** Newly finished checks delivered in full. */
+        public long getChecks() { return checks; }
+
+        /** Check pages handed to the sink. */
+        public long getPages() { return pages; }
+
+        /** The error that stopped each failed monitor, keyed by monitor ID. */
+        public Map<String, RuntimeException> getFailures() { return failures; }
+
+        public boolean isSuccessful() { return failures.isEmpty(); }
+
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        @Override
+        public String toString() {
+            return "MonitorSync.Result{monitorsSynced=" + monitorsSynced + ", checks=" + checks
+                    + ", pages=" + pages + ", failures=" + failures.size() + "}";
+        }
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private CheckpointStore checkpointStore = new InMemoryCheckpointStore();
+        private int concurrency = 8;
+        private int pageSize = 100;
+        private String pageStatus;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /**
+         * Where the last synced check of each monitor is kept. Default: in memory,
+         * so only repeated syncs on the same instance are incremental.
+         */
+        public Builder checkpointStore(CheckpointStore checkpointStore) {
+            this.checkpointStore = checkpointStore;
+            return this;
+        }
+
+        /** Monitors synced in parallel. Default: 8. */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /** Check pages requested per call, 1-100. Default: 100. */
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Only deliver pages with this status: {@code same}, {@code new},
+         * {@code changed}, {@code removed} or {@code error}. Default: all pages.
+         */
+        public Builder pageStatus(String pageStatus) {
+            this.pageStatus = pageStatus;
+            return this;
+        }
+
+        public MonitorSync build() {
+            Objects.requireNonNull(checkpointStore, "Checkpoint store is required");
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be at least 1");
+            }
+            if (pageSize < 1 || pageSize > 100) {
+                throw new IllegalArgumentException("pageSize must be in [1, 100]");
+            }
+            return new MonitorSync(this);
+        }
+    }
+}
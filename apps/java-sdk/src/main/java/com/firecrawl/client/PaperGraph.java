@@ -0,0 +1,146 @@
+package com.firecrawl.client;
+
+import com.firecrawl.models.ResearchModels;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A neighbourhood of related papers built by {@link PaperGraphExpander}.
+ *
+ * <p>Nodes are paper IDs; a directed edge {@code a -> b} means {@code b} was
+ * returned by {@code relatedPapers(a, intent)}. The graph is filled in while
+ * the expansion runs and may be read concurrently; every getter returns a
+ * snapshot.
+ */
+public final class PaperGraph {
+
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final Map<String, RuntimeException> failures = new LinkedHashMap<>();
+    private int edgeCount;
+
+    PaperGraph() {}
+
+    /** A related-papers edge. */
+    public static final class Edge {
+        private final String from;
+        private final String to;
+        private final Double score;
+
+        Edge(String from, String to, Double score) {
+            this.from = from;
+            this.to = to;
+            this.score = score;
+        }
+
+        public String getFrom() { return from; }
+        public String getTo() { return to; }
+
+        /** Similarity score reported for {@code to}, or null if none was given. */
+        public Double getScore() { return score; }
+
+        @Override
+        public String toString() {
+            return from + " -> " + to + (score != null ? " (" + score + ")" : "");
+        }
+    }
+
+    private static final class Node {
+        final int depth;
+        final ResearchModels.PaperResult paper;
+        final List<Edge> edges = new ArrayList<>();
+        boolean expanded;
+
+        Node(int depth, ResearchModels.PaperResult paper) {
+            this.depth = depth;
+            this.paper = paper;
+        }
+    }
+
+    /** All paper IDs in the order they were discovered, seeds first. */
+    public synchronized List<String> getPapers() {
+        return new ArrayList<>(nodes.keySet());
+    }
+
+    public synchronized boolean contains(String paperId) {
+        return nodes.containsKey(paperId);
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    public synchronized int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /** Hops from the nearest seed, or -1 if the paper is not in the graph. */
+    public synchronized int getDepth(String paperId) {
+        Node node = nodes.get(paperId);
+        return node != null ? node.depth : -1;
+    }
+
+    /**
+     * The search result through which the paper was first discovered, or null
+     * for seeds and papers not in the graph.
+     */
+    public synchronized ResearchModels.PaperResult getPaper(String paperId) {
+        Node node = nodes.get(paperId);
+        return node != null ? node.paper : null;
+    }
+
+    /** Whether the paper's related papers have been fetched. */
+    public synchronized boolean isExpanded(String paperId) {
+        Node node = nodes.get(paperId);
+        return node != null && node.expanded;
+    }
+
+    /** Outgoing edges of a paper, best first as returned by the API. */
+    public synchronized List<Edge> getEdges(String paperId) {
+        Node node = nodes.get(paperId);
+        return node != null ? new ArrayList<>(node.edges) : Collections.emptyList();
+    }
+
+    /** The whole adjacency list, keyed by paper ID in discovery order. */
+    public synchronized Map<String, List<String>> getAdjacency() {
+        Map<String, List<String>> adjacency = new LinkedHashMap<>();
+        for (Map.Entry<String, Node> entry : nodes.entrySet()) {
+            List<String> targets = new ArrayList<>(entry.getValue().edges.size());
+            for (Edge edge : entry.getValue().edges) {
+                targets.add(edge.to);
+            }
+            adjacency.put(entry.getKey(), targets);
+        }
+        return adjacency;
+    }
+
+    /** The error for each paper whose related papers could not be fetched. */
+    public synchronized Map<String, RuntimeException> getFailures() {
+        return new LinkedHashMap<>(failures);
+    }
+
+    synchronized boolean addNode(String paperId, int depth, ResearchModels.PaperResult paper) {
+        return nodes.putIfAbsent(paperId, new Node(depth, paper)) == null;
+    }
+
+    synchronized void addEdge(Edge edge) {
+        nodes.get(edge.from).edges.add(edge);
+        edgeCount++;
+    }
+
+    synchronized void markExpanded(String paperId) {
+        nodes.get(paperId).expanded = true;
+    }
+
+    synchronized void addFailure(String paperId, RuntimeException error) {
+        failures.put(paperId, error);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "PaperGraph{papers=" + nodes.size() + ", edges=" + edgeCount + ", failures=" + failures.size() + "}";
+    }
+}
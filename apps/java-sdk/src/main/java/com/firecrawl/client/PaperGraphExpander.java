@@ -0,0 +1,287 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.ResearchModels;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Builds the neighbourhood of a set of seed papers by following
+ * {@code relatedPapers} breadth-first.
+ *
+ * <p>Up to {@link Builder#concurrency(int)} papers are expanded at a time.
+ * The frontier is ordered by depth and then by similarity score, so
+ * shallower papers go first and, within a level, the closest matches are
+ * expanded before weaker ones. Each paper is fetched at most once per
+ * expansion. Papers deeper than {@link Builder#maxDepth(int)} are not
+ * reached, and discovery stops once the graph holds
+ * {@link Builder#maxPapers(int)} papers. An optional rate limit spaces the
+ * requests out, and is shared by all expansions that use this instance.
+ *
+ * <pre>{@code
+ * PaperGraphExpander expander = PaperGraphExpander.builder(client)
+ *     .intent("methods for efficient attention")
+ *     .maxDepth(2)
+ *     .maxPapers(300)
+ *     .requestsPerSecond(5)
+ *     .build();
+ * PaperGraph graph = expander.expand(List.of("arxiv:1706.03762"), (paperId, edges) ->
+ *     System.out.println(paperId + " -> " + edges.size() + " related"));
+ * }</pre>
+ */
+public final class PaperGraphExpander {
+
+    /** Frontier order: shallow first, then best score first, then discovery order. */
+    private static final Comparator<Candidate> FRONTIER_ORDER = Comparator
+            .comparingInt((Candidate c) -> c.depth)
+            .thenComparingDouble(c -> -c.score)
+            .thenComparingLong(c -> c.sequence);
+
+    /**
+     * Notified after each paper is expanded. Calls come from worker threads,
+     * possibly concurrently, so implementations must be thread-safe. An
+     * exception thrown here is recorded as a failure of that paper.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onExpanded(String paperId, List<PaperGraph.Edge> edges);
+    }
+
+    private final FirecrawlClient client;
+    private final String intent;
+    private final ResearchModels.RelatedPapersOptions options;
+    private final int maxDepth;
+    private final int maxPapers;
+    private final int concurrency;
+    private final TokenBucket rateLimit;
+
+    private PaperGraphExpander(Builder builder) {
+        this.client = builder.client;
+        this.intent = builder.intent;
+        this.options = builder.options;
+        this.maxDepth = builder.maxDepth;
+        this.maxPapers = builder.maxPapers;
+        this.concurrency = builder.concurrency;
+        this.rateLimit = builder.requestsPerSecond > 0
+                ? new TokenBucket(builder.requestsPerSecond, (int) Math.max(1, Math.ceil(builder.requestsPerSecond)))
+                : null;
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    public PaperGraph expand(Collection<String> seeds) {
+        return expand(seeds, null);
+    }
+
+    /**
+     * Expands from the seeds and returns once the frontier is exhausted. Seeds
+     * are always part of the graph. A paper whose related papers could not be
+     * fetched is recorded in {@link PaperGraph#getFailures()} and the
+     * expansion continues without it.
+     *
+     * @param seeds    paper IDs to start from
+     * @param listener notified as each paper is expanded, or null
+     */
+    public PaperGraph expand(Collection<String> seeds, Listener listener) {
+        Objects.requireNonNull(seeds, "Seeds are required");
+        return new Run(listener).execute(new LinkedHashSet<>(seeds));
+    }
+
+    private static final class Candidate {
+        final String paperId;
+        final int depth;
+        final double score;
+        final long sequence;
+
+        Candidate(String paperId, int depth, double score, long sequence) {
+            this.paperId = paperId;
+            this.depth = depth;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+
+    /** State of one expansion. The frontier and in-flight count are guarded by {@link #lock}. */
+    private final class Run {
+        private final Listener listener;
+        private final PaperGraph graph = new PaperGraph();
+        private final PriorityQueue<Candidate> frontier = new PriorityQueue<>(FRONTIER_ORDER);
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition finished = lock.newCondition();
+        private int inFlight;
+        private long sequence;
+
+        Run(Listener listener) {
+            this.listener = listener;
+        }
+
+        PaperGraph execute(Set<String> seeds) {
+            for (String seed : seeds) {
+                Objects.requireNonNull(seed, "Paper ID is required");
+                if (graph.addNode(seed, 0, null) && maxDepth > 0) {
+                    frontier.add(new Candidate(seed, 0, Double.POSITIVE_INFINITY, sequence++));
+                }
+            }
+            ExecutorService pool = FanOut.newPool(concurrency, "paper-graph");
+            lock.lock();
+            try {
+                while (true) {
+                    while (inFlight < concurrency && !frontier.isEmpty()) {
+                        Candidate next = frontier.poll();
+                        inFlight++;
+                        pool.execute(() -> expandOne(next));
+                    }
+                    if (inFlight == 0) {
+                        return graph;
+                    }
+                    finished.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FirecrawlException("Interrupted while expanding paper graph", e);
+            } finally {
+                lock.unlock();
+                pool.shutdownNow();
+            }
+        }
+
+        private void expandOne(Candidate candidate) {
+            try {
+                if (rateLimit != null) {
+                    rateLimit.acquire();
+                }
+                ResearchModels.SimilarPapersResponse response =
+                        client.relatedPapers(candidate.paperId, intent, options);
+                List<PaperGraph.Edge> edges = link(candidate,
+                        response.results != null ? response.results : Collections.emptyList());
+                if (listener != null) {
+                    listener.onExpanded(candidate.paperId, edges);
+                }
+            } catch (RuntimeException e) {
+                graph.addFailure(candidate.paperId, e);
+            } finally {
+                lock.lock();
+                try {
+                    inFlight--;
+                    finished.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        /** Adds the results as edges, and new papers as nodes and frontier entries. */
+        private List<PaperGraph.Edge> link(Candidate from, List<ResearchModels.PaperResult> results) {
+            int depth = from.depth + 1;
+            List<PaperGraph.Edge> edges = new ArrayList<>(results.size());
+            Set<String> linked = new HashSet<>();
+            lock.lock();
+            try {
+                for (ResearchModels.PaperResult result : results) {
+                    String to = result != null ? result.paperId : null;
+                    if (to == null || to.equals(from.paperId) || !linked.add(to)) {
+                        continue;
+                    }
+                    if (!graph.contains(to)) {
+                        if (graph.size() >= maxPapers) {
+                            continue;
+                        }
+                        graph.addNode(to, depth, result);
+                        if (depth < maxDepth) {
+                            double score = result.score != null ? result.score : Double.NEGATIVE_INFINITY;
+                            frontier.add(new Candidate(to, depth, score, sequence++));
+                        }
+                    }
+                    PaperGraph.Edge edge = new PaperGraph.Edge(from.paperId, to, result.score);
+                    graph.addEdge(edge);
+                    edges.add(edge);
+                }
+                graph.markExpanded(from.paperId);
+            } finally {
+                lock.unlock();
+            }
+            return edges;
+        }
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private String intent;
+        private ResearchModels.RelatedPapersOptions options;
+        private int maxDepth = 2;
+        private int maxPapers = 500;
+        private int concurrency = 8;
+        private double requestsPerSecond;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /** What the papers should be related by; passed to every {@code relatedPapers} call. Required. */
+        public Builder intent(String intent) {
+            this.intent = intent;
+            return this;
+        }
+
+        /** Options passed to every {@code relatedPapers} call. Default: none. */
+        public Builder options(ResearchModels.RelatedPapersOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        /** Hops to follow from the seeds; 0 returns only the seeds. Default: 2. */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /** Papers the graph may hold, seeds included. Default: 500. */
+        public Builder maxPapers(int maxPapers) {
+            this.maxPapers = maxPapers;
+            return this;
+        }
+
+        /** Papers expanded in parallel. Default: 8. */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /** Upper bound on {@code relatedPapers} calls per second; 0 for no limit. Default: no limit. */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        public PaperGraphExpander build() {
+            Objects.requireNonNull(intent, "Intent is required");
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("maxDepth must not be negative");
+            }
+            if (maxPapers < 1) {
+                throw new IllegalArgumentException("maxPapers must be at least 1");
+            }
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be at least 1");
+            }
+            if (requestsPerSecond < 0 || Double.isNaN(requestsPerSecond)) {
+                throw new IllegalArgumentException("requestsPerSecond must not be negative");
+            }
+            return new PaperGraphExpander(this);
+        }
+    }
+}
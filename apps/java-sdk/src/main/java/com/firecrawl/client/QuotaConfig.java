@@ -0,0 +1,163 @@
+package com.firecrawl.client;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Settings for sharing one team quota across SDK clients on many nodes
+ * through a {@link QuotaCoordinator}.
+ *
+ * <p>Each HTTP attempt leases one of {@code maxConcurrency - headroom}
+ * cluster-wide slots and holds it until the response body is read. With a
+ * {@link Builder#requestsPerSecond(double) rate} set, it first takes a
+ * token from a bucket shared by the whole cluster. Leases are renewed in
+ * the background while calls run, so the slots of a crashed node come back
+ * after one {@link Builder#leaseTtl(Duration) lease TTL}.
+ *
+ * <pre>{@code
+ * int teamLimit = probe.getConcurrency().getMaxConcurrency();
+ * FirecrawlClient client = FirecrawlClient.builder()
+ *     .quota(QuotaConfig.builder()
+ *         .coordinator(new FileQuotaCoordinator(Paths.get("/mnt/shared/firecrawl-quota.json")))
+ *         .maxConcurrency(teamLimit)
+ *         .headroom(2)
+ *         .build())
+ *     .build();
+ * }</pre>
+ */
+public final class QuotaConfig {
+
+    private final QuotaCoordinator coordinator;
+    private final String nodeId;
+    private final int maxConcurrency;
+    private final int headroom;
+    private final double requestsPerSecond;
+    private final int burst;
+    private final Duration leaseTtl;
+    private final Duration maxWait;
+
+    private QuotaConfig(Builder builder) {
+        this.coordinator = builder.coordinator;
+        this.nodeId = builder.nodeId;
+        this.maxConcurrency = builder.maxConcurrency;
+        this.headroom = builder.headroom;
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.burst = builder.burst > 0 ? builder.burst : (int) Math.max(1, Math.ceil(builder.requestsPerSecond));
+        this.leaseTtl = builder.leaseTtl;
+        this.maxWait = builder.maxWait;
+    }
+
+    public QuotaCoordinator getCoordinator() { return coordinator; }
+    public String getNodeId() { return nodeId; }
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public int getHeadroom() { return headroom; }
+    public double getRequestsPerSecond() { return requestsPerSecond; }
+    public int getBurst() { return burst; }
+    public Duration getLeaseTtl() { return leaseTtl; }
+    public Duration getMaxWait() { return maxWait; }
+
+    /** Slots the cluster may lease at once. */
+    public int getSlotLimit() { return maxConcurrency - headroom; }
+
+    public static Builder builder() { return new Builder(); }
+
+    public static final class Builder {
+        private QuotaCoordinator coordinator;
+        private String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        private int maxConcurrency;
+        private int headroom = 1;
+        private double requestsPerSecond;
+        private int burst;
+        private Duration leaseTtl = Duration.ofSeconds(30);
+        private Duration maxWait = Duration.ofMinutes(2);
+
+        private Builder() {}
+
+        /** The shared store. Required. */
+        public Builder coordinator(QuotaCoordinator coordinator) {
+            this.coordinator = coordinator;
+            return this;
+        }
+
+        /** Names this node on its leases. Default: the JVM's {@code pid@host}. */
+        public Builder nodeId(String nodeId) {
+            this.nodeId = nodeId;
+            return this;
+        }
+
+        /**
+         * The team's concurrency limit, as reported by
+         * {@code getConcurrency().getMaxConcurrency()}. Required.
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Slots left unused, so calls made outside the coordinated clients
+         * do not push the team over its limit. Default: 1.
+         */
+        public Builder headroom(int headroom) {
+            this.headroom = headroom;
+            return this;
+        }
+
+        /** Cluster-wide request rate, or 0 for no rate limit. Default: 0. */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /** Requests allowed in a burst above the rate. Default: one second's worth. */
+        public Builder burst(int burst) {
+            this.burst = burst;
+            return this;
+        }
+
+        /**
+         * How long a lease outlives its node. Renewals run every third of
+         * this. Default: 30 seconds.
+         */
+        public Builder leaseTtl(Duration leaseTtl) {
+            this.leaseTtl = leaseTtl;
+            return this;
+        }
+
+        /**
+         * Longest wait for a slot before the call fails, when it has no
+         * deadline of its own. Default: 2 minutes.
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public QuotaConfig build() {
+            Objects.requireNonNull(coordinator, "Quota coordinator is required");
+            Objects.requireNonNull(nodeId, "Node id is required");
+            Objects.requireNonNull(leaseTtl, "Lease TTL is required");
+            Objects.requireNonNull(maxWait, "Max wait is required");
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1");
+            }
+            if (headroom < 0 || headroom >= maxConcurrency) {
+                throw new IllegalArgumentException("headroom must be at least 0 and less than maxConcurrency");
+            }
+            if (requestsPerSecond < 0 || Double.isNaN(requestsPerSecond)) {
+                throw new IllegalArgumentException("requestsPerSecond must not be negative");
+            }
+            if (burst < 0) {
+                throw new IllegalArgumentException("burst must not be negative");
+            }
+            if (leaseTtl.toMillis() < 1000) {
+                throw new IllegalArgumentException("leaseTtl must be at least 1 second");
+            }
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative");
+            }
+            return new QuotaConfig(this);
+        }
+    }
+}
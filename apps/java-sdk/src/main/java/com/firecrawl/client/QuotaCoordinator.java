@@ -0,0 +1,66 @@
+package com.firecrawl.client;
+
+/**
+ * Pluggable shared store that lets SDK clients on many JVMs split one team
+ * quota. Each HTTP call leases a concurrency slot from the store for its
+ * duration, and optionally takes a token from a shared rate bucket first.
+ *
+ * <p>Every lease has an expiry time. A client renews the leases it holds
+ * while their calls run, so the slots of a crashed node become free again
+ * once their leases expire. Times are wall-clock milliseconds, so nodes
+ * sharing a store need reasonably synchronized clocks; the lease TTL must
+ * be well above the clock skew.
+ *
+ * <p>Implementations must be safe for concurrent use, and each method must
+ * act atomically across all nodes sharing the store.
+ *
+ * @see FileQuotaCoordinator
+ * @see InMemoryQuotaCoordinator
+ * @see QuotaConfig
+ */
+public interface QuotaCoordinator {
+
+    /**
+     * Leases one slot if fewer than {@code limit} unexpired leases exist.
+     *
+     * @param holder    identifies the node taking the lease, for diagnostics
+     * @param limit     the most leases allowed at once
+     * @param ttlMillis how long the lease lasts unless renewed
+     * @return the lease, or null if all slots are taken
+     */
+    QuotaLease tryAcquire(String holder, int limit, long ttlMillis);
+
+    /**
+     * Extends a lease to {@code ttlMillis} from now.
+     *
+     * @param lease     a lease from {@link #tryAcquire(String, int, long)}
+     * @param ttlMillis the new time to live
+     * @return false if the lease had already expired or been released
+     */
+    boolean renew(QuotaLease lease, long ttlMillis);
+
+    /**
+     * Gives a lease back. Releasing a lease that expired or was already
+     * released has no effect.
+     *
+     * @param lease a lease from {@link #tryAcquire(String, int, long)}
+     */
+    void release(QuotaLease lease);
+
+    /**
+     * Takes one token from the shared bucket, which refills at
+     * {@code permitsPerSecond} up to {@code burst}. The token is taken even
+     * if the bucket is empty; the caller then waits the returned time
+     * before using it, so callers are served in the order they ask.
+     *
+     * @param permitsPerSecond cluster-wide refill rate
+     * @param burst            bucket capacity
+     * @return milliseconds to wait before the token may be used, 0 if none
+     */
+    long reserveToken(double permitsPerSecond, int burst);
+
+    /**
+     * The number of unexpired leases, across all nodes.
+     */
+    int activeLeases();
+}
@@ -0,0 +1,107 @@
+package com.firecrawl.client;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Leases cluster-wide call slots from a {@link QuotaCoordinator} and keeps
+ * the leases this client holds alive until they are released.
+ */
+final class QuotaGate {
+
+    private static final long MIN_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 250;
+
+    private final QuotaConfig config;
+    private final QuotaCoordinator coordinator;
+    private final long ttlMillis;
+    private final Set<QuotaLease> held = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService renewer;
+
+    QuotaGate(QuotaConfig config) {
+        this.config = config;
+        this.coordinator = config.getCoordinator();
+        this.ttlMillis = config.getLeaseTtl().toMillis();
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "firecrawl-quota-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = ttlMillis / 3;
+        renewer.scheduleWithFixedDelay(this::renewAll, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Waits for a rate token, if a rate is set, and then for a slot.
+     *
+     * @param timeoutNanos longest wait, or a negative value to wait up to the configured max wait
+     * @return the slot, or null if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    RequestScheduler.Permit acquire(long timeoutNanos) throws InterruptedException {
+        long limitNanos = timeoutNanos >= 0 ? timeoutNanos : config.getMaxWait().toNanos();
+        long deadline = System.nanoTime() + limitNanos;
+        if (config.getRequestsPerSecond() > 0) {
+            long waitMillis = coordinator.reserveToken(config.getRequestsPerSecond(), config.getBurst());
+            if (TimeUnit.MILLISECONDS.toNanos(waitMillis) > deadline - System.nanoTime()) {
+                return null;
+            }
+            TimeUnit.MILLISECONDS.sleep(waitMillis);
+        }
+        long pollMillis = MIN_POLL_MILLIS;
+        while (true) {
+            QuotaLease lease = coordinator.tryAcquire(config.getNodeId(), config.getSlotLimit(), ttlMillis);
+            if (lease != null) {
+                held.add(lease);
+                return new Held(lease);
+            }
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            // Jitter keeps nodes that were turned away together from polling together
+            long sleepMillis = ThreadLocalRandom.current().nextLong(pollMillis / 2, pollMillis + 1);
+            TimeUnit.NANOSECONDS.sleep(Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(sleepMillis)));
+            pollMillis = Math.min(MAX_POLL_MILLIS, pollMillis * 2);
+        }
+    }
+
+    private final class Held implements RequestScheduler.Permit {
+        private final QuotaLease lease;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Held(QuotaLease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                held.remove(lease);
+                try {
+                    coordinator.release(lease);
+                } catch (RuntimeException e) {
+                    // The lease expires on its own once it is no longer renewed
+                }
+            }
+        }
+    }
+
+    private void renewAll() {
+        for (QuotaLease lease : held) {
+            try {
+                if (!coordinator.renew(lease, ttlMillis)) {
+                    // Expired before it could be renewed; the call finishes, but the slot is already counted free
+                    held.remove(lease);
+                }
+            } catch (RuntimeException e) {
+                // Store unavailable; retried next period, and the lease TTL covers the gap
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.firecrawl.client;
+
+import java.util.Objects;
+
+/**
+ * A concurrency slot leased from a {@link QuotaCoordinator}.
+ */
+public final class QuotaLease {
+
+    private final String id;
+    private final String holder;
+    private final long expiresAtMillis;
+
+    /**
+     * @param id              unique within the coordinator's store
+     * @param holder          the node that took the lease
+     * @param expiresAtMillis wall-clock expiry time, in epoch milliseconds
+     */
+    public QuotaLease(String id, String holder, long expiresAtMillis) {
+        this.id = Objects.requireNonNull(id, "Lease id is required");
+        this.holder = holder;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getId() { return id; }
+    public String getHolder() { return holder; }
+
+    /** Expiry time when the lease was taken; renewals do not update this object. */
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof QuotaLease && id.equals(((QuotaLease) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "QuotaLease{id=" + id + ", holder=" + holder + "}";
+    }
+}
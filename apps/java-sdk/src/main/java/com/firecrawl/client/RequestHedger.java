@@ -0,0 +1,173 @@
+package com.firecrawl.client;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends a second copy of a slow idempotent request and keeps whichever
+ * response arrives first; see {@link HedgingConfig}.
+ *
+ * <p>Both copies run asynchronously through OkHttp's dispatcher. The caller
+ * waits for the first response, up to the hedge delay. If none has arrived
+ * and the budget allows, it sends the hedge and waits for the first of
+ * either. The losing call is cancelled.
+ */
+final class RequestHedger {
+
+    private static final long MILLI_TOKENS = 1000;
+
+    private final HedgingConfig config;
+    private final ConcurrentHashMap<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    /** Hedge budget in thousandths of a token; starts full. */
+    private final AtomicLong budget;
+    private final long maxBudget;
+    private final long earnPerRequest;
+    private final AtomicLong hedgesSent = new AtomicLong();
+
+    RequestHedger(HedgingConfig config) {
+        this.config = config;
+        this.maxBudget = config.getMaxBurst() * MILLI_TOKENS;
+        this.earnPerRequest = Math.round(config.getBudgetPercent() * MILLI_TOKENS / 100.0);
+        this.budget = new AtomicLong(maxBudget);
+    }
+
+    boolean applies(String endpoint) {
+        return config.getEndpoints().contains(endpoint);
+    }
+
+    long hedgesSent() {
+        return hedgesSent.get();
+    }
+
+    /** Current hedge delay for the endpoint, learned from its latency histogram. */
+    long delayMillis(String endpoint) {
+        LatencyHistogram histogram = latencies.get(endpoint);
+        if (histogram == null || histogram.count() < config.getMinSamples()) {
+            return config.getInitialDelayMs();
+        }
+        return Math.max(config.getMinDelayMs(), histogram.percentile(config.getPercentile()) / 1000);
+    }
+
+    /**
+     * Executes the request, hedging it if it is slow. Blocks like
+     * {@link Call#execute()}; the returned response must be closed by the caller.
+     *
+     * @param callTimeoutMs OkHttp call timeout applied to each copy, or 0 for none
+     */
+    Response execute(OkHttpClient client, Request request, String endpoint, long callTimeoutMs) throws IOException {
+        earn();
+        LatencyHistogram histogram = latencies.computeIfAbsent(endpoint, k -> new LatencyHistogram());
+        CompletableFuture<Outcome> winner = new CompletableFuture<>();
+        List<Call> calls = new CopyOnWriteArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long delayMs = delayMillis(endpoint);
+        send(client, request, callTimeoutMs, histogram, winner, calls, inFlight);
+        try {
+            try {
+                return winner.get(delayMs, TimeUnit.MILLISECONDS).response;
+            } catch (TimeoutException slow) {
+                if (trySpend()) {
+                    hedgesSent.incrementAndGet();
+                    // The hedge must not outlive the primary's deadline
+                    long hedgeTimeoutMs = callTimeoutMs > 0 ? Math.max(1, callTimeoutMs - delayMs) : 0;
+                    send(client, request, hedgeTimeoutMs, histogram, winner, calls, inFlight);
+                }
+                return winner.get().response;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for hedged request");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            Outcome won = winner.getNow(null);
+            for (Call call : calls) {
+                if (won == null || call != won.call) {
+                    call.cancel();
+                }
+            }
+        }
+    }
+
+    private void send(OkHttpClient client, Request request, long callTimeoutMs, LatencyHistogram histogram,
+                      CompletableFuture<Outcome> winner, List<Call> calls, AtomicInteger inFlight) {
+        Call call = client.newCall(request);
+        if (callTimeoutMs > 0) {
+            call.timeout().timeout(callTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        calls.add(call);
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (winner.complete(new Outcome(call, response))) {
+                    histogram.record((System.nanoTime() - start) / 1000);
+                } else {
+                    response.close();
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (inFlight.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    private void earn() {
+        if (earnPerRequest == 0) {
+            return;
+        }
+        long current;
+        do {
+            current = budget.get();
+            if (current >= maxBudget) {
+                return;
+            }
+        } while (!budget.compareAndSet(current, Math.min(maxBudget, current + earnPerRequest)));
+    }
+
+    private boolean trySpend() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < MILLI_TOKENS) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - MILLI_TOKENS));
+        return true;
+    }
+
+    private static final class Outcome {
+        final Call call;
+        final Response response;
+
+        Outcome(Call call, Response response) {
+            this.call = call;
+            this.response = response;
+        }
+    }
+}
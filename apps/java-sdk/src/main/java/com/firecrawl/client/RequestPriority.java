@@ -0,0 +1,12 @@
+package com.firecrawl.client;
+
+/**
+ * Priority class of a request when a {@link SchedulerConfig scheduler} is
+ * configured. See {@link FirecrawlClient#withPriority(RequestPriority)}.
+ */
+public enum RequestPriority {
+    /** Latency-sensitive calls, such as a single scrape a user is waiting on. The default. */
+    INTERACTIVE,
+    /** Throughput work, such as batch pipelines, that can wait behind interactive calls. */
+    BULK
+}
@@ -0,0 +1,195 @@
+package com.firecrawl.client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out HTTP call slots by self-clocked weighted fair queuing.
+ *
+ * <p>Each waiting call gets a finish tag of {@code max(virtualTime,
+ * lastTagOfItsFlow) + 1 / weight}, and free slots go to the smallest tag.
+ * The virtual time is the tag of the call most recently let through, so a
+ * flow that was idle rejoins level with the busy ones instead of cashing
+ * in its idle time.
+ */
+final class RequestScheduler {
+
+    /** Idle flows are forgotten once there are more than this many. */
+    private static final int MAX_IDLE_FLOWS = 1024;
+
+    /** Indexes into each priority's counters. */
+    private static final int SUBMITTED = 0;
+    private static final int DISPATCHED = 1;
+
+    private static final Comparator<Waiter> ORDER = Comparator
+            .comparingDouble((Waiter w) -> w.tag)
+            .thenComparingLong(w -> w.sequence);
+
+    /** A held slot; closing it more than once has no further effect. */
+    interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    static final Permit NONE = () -> { };
+
+    private final SchedulerConfig config;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(ORDER);
+    private final Map<String, Double> lastTags = new HashMap<>();
+    private final Map<RequestPriority, LatencyHistogram> waits = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, long[]> counters = new EnumMap<>(RequestPriority.class);
+    private double virtualTime;
+    private long sequence;
+    private int inFlight;
+    private int peakQueued;
+    private long timedOut;
+
+    RequestScheduler(SchedulerConfig config) {
+        this.config = config;
+        for (RequestPriority priority : RequestPriority.values()) {
+            waits.put(priority, new LatencyHistogram());
+            counters.put(priority, new long[2]);
+        }
+    }
+
+    private final class Waiter {
+        final String tenant;
+        final RequestPriority priority;
+        final double tag;
+        final long sequence;
+        final long enqueuedAt = System.nanoTime();
+        final Condition granted = lock.newCondition();
+        boolean dispatched;
+
+        Waiter(String tenant, RequestPriority priority, double tag, long sequence) {
+            this.tenant = tenant;
+            this.priority = priority;
+            this.tag = tag;
+            this.sequence = sequence;
+        }
+    }
+
+    private final class Slot implements Permit {
+        private boolean released;
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (!released) {
+                    released = true;
+                    inFlight--;
+                    dispatch();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Waits for a slot.
+     *
+     * @param timeoutNanos longest wait, or a negative value to wait indefinitely
+     * @return the slot, or null if the timeout elapsed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    Permit acquire(String tenant, RequestPriority priority, long timeoutNanos) throws InterruptedException {
+        String key = tenant != null ? tenant : "";
+        lock.lock();
+        try {
+            String flow = priority.name() + '\u0000' + key;
+            double start = Math.max(virtualTime, lastTags.getOrDefault(flow, 0.0));
+            double tag = start + 1.0 / (config.weight(priority) * config.weight(key));
+            lastTags.put(flow, tag);
+            Waiter waiter = new Waiter(key, priority, tag, sequence++);
+            queue.add(waiter);
+            counters.get(priority)[SUBMITTED]++;
+            peakQueued = Math.max(peakQueued, queue.size());
+            dispatch();
+
+            long remaining = timeoutNanos;
+            try {
+                while (!waiter.dispatched) {
+                    if (timeoutNanos < 0) {
+                        waiter.granted.await();
+                    } else if (remaining <= 0) {
+                        queue.remove(waiter);
+                        timedOut++;
+                        return null;
+                    } else {
+                        remaining = waiter.granted.awaitNanos(remaining);
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (waiter.dispatched) {
+                    inFlight--;
+                    dispatch();
+                } else {
+                    queue.remove(waiter);
+                }
+                throw e;
+            }
+            return new Slot();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Lets waiting calls through while slots are free. Called with the lock held. */
+    private void dispatch() {
+        while (inFlight < config.getMaxConcurrentRequests() && !queue.isEmpty()) {
+            Waiter next = queue.poll();
+            next.dispatched = true;
+            inFlight++;
+            virtualTime = Math.max(virtualTime, next.tag);
+            counters.get(next.priority)[DISPATCHED]++;
+            waits.get(next.priority).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - next.enqueuedAt));
+            next.granted.signal();
+        }
+        if (lastTags.size() > MAX_IDLE_FLOWS) {
+            // A flow whose last tag is behind the virtual time restarts from it anyway
+            for (Iterator<Double> it = lastTags.values().iterator(); it.hasNext(); ) {
+                if (it.next() <= virtualTime) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    SchedulerStats stats() {
+        lock.lock();
+        try {
+            Map<RequestPriority, Integer> queuedByPriority = new EnumMap<>(RequestPriority.class);
+            Map<String, Integer> queuedByTenant = new HashMap<>();
+            for (RequestPriority priority : RequestPriority.values()) {
+                queuedByPriority.put(priority, 0);
+            }
+            for (Waiter waiter : queue) {
+                queuedByPriority.merge(waiter.priority, 1, Integer::sum);
+                queuedByTenant.merge(waiter.tenant, 1, Integer::sum);
+            }
+            List<SchedulerStats.PriorityStats> priorities = new ArrayList<>();
+            for (RequestPriority priority : RequestPriority.values()) {
+                LatencyHistogram histogram = waits.get(priority);
+                priorities.add(new SchedulerStats.PriorityStats(priority, queuedByPriority.get(priority),
+                        counters.get(priority)[SUBMITTED], counters.get(priority)[DISPATCHED],
+                        histogram.count(), histogram.sum(), histogram.max(), histogram.snapshotCounts()));
+            }
+            return new SchedulerStats(config.getMaxConcurrentRequests(), inFlight, queue.size(), peakQueued,
+                    timedOut, queuedByTenant, priorities);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.firecrawl.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.ResearchModels;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Looks up many research papers at once, with bounded concurrency and a
+ * shared cache.
+ *
+ * <p>Each batch method takes a collection of paper IDs, fetches the ones not
+ * already cached on up to {@link Builder#concurrency(int)} threads, and
+ * returns a {@link Result} keyed by paper ID in input order. Duplicate IDs
+ * are fetched once.
+ *
+ * <p>Responses are cached for {@link Builder#cacheTtl(Duration)}. Within that
+ * time a repeated lookup does not reach the network, including when the
+ * same lookup is already in flight on another thread. Paper metadata is
+ * cached by paper ID alone; {@link #read} responses also fill the metadata
+ * cache, so inspecting a paper that was just read is free. Failed lookups
+ * are not cached.
+ *
+ * <pre>{@code
+ * ResearchBatch research = ResearchBatch.builder(client)
+ *     .concurrency(16)
+ *     .cacheTtl(Duration.ofHours(1))
+ *     .build();
+ * ResearchBatch.Result<ResearchModels.PaperMetadata> papers = research.inspect(paperIds);
+ * papers.getResults().forEach((id, paper) -> System.out.println(id + ": " + paper.title));
+ * }</pre>
+ */
+public final class ResearchBatch {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final FirecrawlClient client;
+    private final int concurrency;
+    private final TtlCache<String, ResearchModels.PaperMetadata> metadata;
+    private final TtlCache<String, ResearchModels.ReadPaperResponse> passages;
+    private final TtlCache<String, ResearchModels.SimilarPapersResponse> related;
+
+    private ResearchBatch(Builder builder) {
+        this.client = builder.client;
+        this.concurrency = builder.concurrency;
+        long ttlNanos = builder.cacheTtl.toNanos();
+        this.metadata = new TtlCache<>(ttlNanos, builder.maxCachedEntries);
+        this.passages = new TtlCache<>(ttlNanos, builder.maxCachedEntries);
+        this.related = new TtlCache<>(ttlNanos, builder.maxCachedEntries);
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Fetches the metadata of each paper.
+     *
+     * @see FirecrawlClient#inspectPaper(String)
+     */
+    public Result<ResearchModels.PaperMetadata> inspect(Collection<String> paperIds) {
+        return run(paperIds, metadata, Function.identity(), id -> {
+            ResearchModels.PaperMetadataResponse response = client.inspectPaper(id);
+            if (response.paper == null) {
+                throw new FirecrawlException("No metadata returned for paper " + id);
+            }
+            return response.paper;
+        });
+    }
+
+    /**
+     * Finds the passages of each paper that answer {@code query}.
+     *
+     * @see FirecrawlClient#readPaper(String, String, ResearchModels.ReadPaperOptions)
+     */
+    public Result<ResearchModels.ReadPaperResponse> read(Collection<String> paperIds, String query,
+                                                         ResearchModels.ReadPaperOptions options) {
+        Objects.requireNonNull(query, "Query is required");
+        String suffix = keySuffix(query, options);
+        return run(paperIds, passages, id -> id + suffix, id -> {
+            ResearchModels.ReadPaperResponse response = client.readPaper(id, query, options);
+            if (response.paper != null) {
+                metadata.put(id, response.paper);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Finds papers related to each paper for the given {@code intent}.
+     *
+     * @see FirecrawlClient#relatedPapers(String, String, ResearchModels.RelatedPapersOptions)
+     */
+    public Result<ResearchModels.SimilarPapersResponse> related(Collection<String> paperIds, String intent,
+                                                               ResearchModels.RelatedPapersOptions options) {
+        Objects.requireNonNull(intent, "Intent is required");
+        String suffix = keySuffix(intent, options);
+        return run(paperIds, related, id -> id + suffix, id -> client.relatedPapers(id, intent, options));
+    }
+
+    /** Drops the cached metadata of a paper, so the next {@link #inspect} fetches it again. */
+    public void invalidate(String paperId) {
+        metadata.invalidate(paperId);
+    }
+
+    /** Drops all cached responses. */
+    public void clearCache() {
+        metadata.clear();
+        passages.clear();
+        related.clear();
+    }
+
+    private <T> Result<T> run(Collection<String> paperIds, TtlCache<String, T> cache,
+                              Function<String, String> keyOf, Function<String, T> fetcher) {
+        Objects.requireNonNull(paperIds, "Paper IDs are required");
+        long start = System.nanoTime();
+        List<String> ids = new ArrayList<>(new LinkedHashSet<>(paperIds));
+        Map<String, T> found = new ConcurrentHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            Objects.requireNonNull(id, "Paper ID is required");
+            T cached = cache.getIfPresent(keyOf.apply(id));
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        LongAdder fetched = new LongAdder();
+        Map<String, RuntimeException> failures = FanOut.forEach(misses, concurrency, "research",
+                id -> found.put(id, cache.get(keyOf.apply(id), key -> {
+                    fetched.increment();
+                    return fetcher.apply(id);
+                })));
+        Map<String, T> results = new LinkedHashMap<>();
+        for (String id : ids) {
+            T value = found.get(id);
+            if (value != null) {
+                results.put(id, value);
+            }
+        }
+        return new Result<>(results, failures, fetched.intValue(), System.nanoTime() - start);
+    }
+
+    private static String keySuffix(String text, Object options) {
+        try {
+            return "\n" + text + "\n" + (options != null ? MAPPER.writeValueAsString(options) : "");
+        } catch (JsonProcessingException e) {
+            throw new FirecrawlException("Failed to serialize research options", e);
+        }
+    }
+
+    /**
+     * The outcome of one batch call.
+     */
+    public static final class Result<T> {
+        private final Map<String, T> results;
+        private final Map<String, RuntimeException> failures;
+        private final int fetched;
+        private final long elapsedNanos;
+
+        Result(Map<String, T> results, Map<String, RuntimeException> failures, int fetched, long elapsedNanos) {
+            this.results = Collections.unmodifiableMap(results);
+            this.failures = Collections.unmodifiableMap(failures);
+            this.fetched = fetched;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** The response for each paper that was found, keyed by paper ID in input order. */
+        public Map<String, T> getResults() { return results; }
+
+        /** The error for each paper that could not be looked up, keyed by paper ID. */
+        public Map<String, RuntimeException> getFailures() { return failures; }
+
+        public boolean isSuccessful() { return failures.isEmpty(); }
+
+        /** Requests this call sent; the rest were served from the cache. */
+        public int getFetched() { return fetched; }
+
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        @Override
+        public String toString() {
+            return "ResearchBatch.Result{results=" + results.size() + ", failures=" + failures.size()
+                    + ", fetched=" + fetched + "}";
+        }
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private int concurrency = 8;
+        private Duration cacheTtl = Duration.ofMinutes(10);
+        private int maxCachedEntries = 10_000;
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /** Papers looked up in parallel. Default: 8. */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /** How long a response is served from the cache. Default: 10 minutes. */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Upper bound on cached responses of each kind; the least recently used
+         * are dropped first. Default: 10000.
+         */
+        public Builder maxCachedEntries(int maxCachedEntries) {
+            this.maxCachedEntries = maxCachedEntries;
+            return this;
+        }
+
+        public ResearchBatch build() {
+            Objects.requireNonNull(cacheTtl, "Cache TTL is required");
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be at least 1");
+            }
+            if (cacheTtl.isNegative()) {
+                throw new IllegalArgumentException("cacheTtl must not be negative");
+            }
+            if (maxCachedEntries < 1) {
+                throw new IllegalArgumentException("maxCachedEntries must be at least 1");
+            }
+            return new ResearchBatch(this);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.firecrawl.client;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Settings for the opt-in request scheduler, which caps the number of HTTP
+ * calls in flight and decides who goes next when more are waiting.
+ *
+ * <p>Waiting calls are ordered by weighted fair queuing. Every
+ * combination of {@link RequestPriority} and tenant is a separate flow
+ * whose weight is the priority's weight times the tenant's weight. Busy
+ * flows share the free slots in proportion to their weights. With the
+ * defaults, interactive calls get eight slots for every bulk one, and
+ * tenants within a priority share equally. A tenant queueing thousands of
+ * bulk calls therefore delays another tenant's interactive call by at
+ * most a few slots, and bulk work still progresses.
+ *
+ * <p>Tenants and priorities are set per client view with
+ * {@link FirecrawlClient#forTenant(String)} and
+ * {@link FirecrawlClient#withPriority(RequestPriority)}. Each attempt of a
+ * request, retries included, waits for its own slot. The slot is not
+ * held during retry backoff.
+ *
+ * <pre>{@code
+ * FirecrawlClient client = FirecrawlClient.builder()
+ *     .scheduler(SchedulerConfig.builder()
+ *         .maxConcurrentRequests(50)
+ *         .tenantWeight("enterprise-customer", 4)
+ *         .build())
+ *     .build();
+ * FirecrawlClient acme = client.forTenant("acme");
+ * acme.scrape(url, options);                                               // interactive
+ * acme.withPriority(RequestPriority.BULK).batchScrape(urls, batchOptions); // bulk
+ * }</pre>
+ */
+public final class SchedulerConfig {
+
+    private final int maxConcurrentRequests;
+    private final double interactiveWeight;
+    private final double bulkWeight;
+    private final double defaultTenantWeight;
+    private final Map<String, Double> tenantWeights;
+
+    private SchedulerConfig(Builder builder) {
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.interactiveWeight = builder.interactiveWeight;
+        this.bulkWeight = builder.bulkWeight;
+        this.defaultTenantWeight = builder.defaultTenantWeight;
+        this.tenantWeights = Collections.unmodifiableMap(new HashMap<>(builder.tenantWeights));
+    }
+
+    public int getMaxConcurrentRequests() { return maxConcurrentRequests; }
+    public double getInteractiveWeight() { return interactiveWeight; }
+    public double getBulkWeight() { return bulkWeight; }
+    public double getDefaultTenantWeight() { return defaultTenantWeight; }
+    public Map<String, Double> getTenantWeights() { return tenantWeights; }
+
+    double weight(RequestPriority priority) {
+        return priority == RequestPriority.BULK ? bulkWeight : interactiveWeight;
+    }
+
+    double weight(String tenant) {
+        return tenantWeights.getOrDefault(tenant, defaultTenantWeight);
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    public static final class Builder {
+        private int maxConcurrentRequests;
+        private double interactiveWeight = 8;
+        private double bulkWeight = 1;
+        private double defaultTenantWeight = 1;
+        private final Map<String, Double> tenantWeights = new HashMap<>();
+
+        private Builder() {}
+
+        /**
+         * HTTP calls allowed in flight at once across all tenants. Required;
+         * {@code getConcurrency().getMaxConcurrency()} is a good starting point.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /** Share of interactive flows. Default: 8. */
+        public Builder interactiveWeight(double interactiveWeight) {
+            this.interactiveWeight = interactiveWeight;
+            return this;
+        }
+
+        /** Share of bulk flows. Default: 1. */
+        public Builder bulkWeight(double bulkWeight) {
+            this.bulkWeight = bulkWeight;
+            return this;
+        }
+
+        /** Share of a tenant without its own weight, including calls with no tenant. Default: 1. */
+        public Builder defaultTenantWeight(double defaultTenantWeight) {
+            this.defaultTenantWeight = defaultTenantWeight;
+            return this;
+        }
+
+        /** Share of one tenant, relative to the default tenant weight. */
+        public Builder tenantWeight(String tenant, double weight) {
+            tenantWeights.put(Objects.requireNonNull(tenant, "Tenant is required"), weight);
+            return this;
+        }
+
+        public SchedulerConfig build() {
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("maxConcurrentRequests must be at least 1");
+            }
+            if (!(interactiveWeight > 0) || !(bulkWeight > 0) || !(defaultTenantWeight > 0)) {
+                throw new IllegalArgumentException("Weights must be positive");
+            }
+            for (Map.Entry<String, Double> entry : tenantWeights.entrySet()) {
+                if (!(entry.getValue() > 0)) {
+                    throw new IllegalArgumentException("Weight of tenant " + entry.getKey() + " must be positive");
+                }
+            }
+            return new SchedulerConfig(this);
+        }
+    }
+}
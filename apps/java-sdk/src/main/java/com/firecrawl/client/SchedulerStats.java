@@ -0,0 +1,121 @@
+package com.firecrawl.client;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Point-in-time view of the request scheduler: how many calls are in
+ * flight and queued, and how long calls of each priority waited for a slot.
+ */
+public final class SchedulerStats {
+
+    private final int maxConcurrentRequests;
+    private final int inFlight;
+    private final int queued;
+    private final int peakQueued;
+    private final long timedOut;
+    private final Map<String, Integer> queuedByTenant;
+    private final Map<RequestPriority, PriorityStats> priorities = new EnumMap<>(RequestPriority.class);
+
+    SchedulerStats(int maxConcurrentRequests, int inFlight, int queued, int peakQueued, long timedOut,
+                   Map<String, Integer> queuedByTenant, List<PriorityStats> priorities) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.inFlight = inFlight;
+        this.queued = queued;
+        this.peakQueued = peakQueued;
+        this.timedOut = timedOut;
+        this.queuedByTenant = Collections.unmodifiableMap(new HashMap<>(queuedByTenant));
+        for (PriorityStats stats : priorities) {
+            this.priorities.put(stats.priority, stats);
+        }
+    }
+
+    /** Wait statistics for one priority class. */
+    public static final class PriorityStats {
+        private final RequestPriority priority;
+        private final int queued;
+        private final long submitted;
+        private final long dispatched;
+        private final long waitSamples;
+        private final long waitSumMicros;
+        private final long maxWaitMicros;
+        private final long[] waitCounts;
+
+        PriorityStats(RequestPriority priority, int queued, long submitted, long dispatched,
+                      long waitSamples, long waitSumMicros, long maxWaitMicros, long[] waitCounts) {
+            this.priority = priority;
+            this.queued = queued;
+            this.submitted = submitted;
+            this.dispatched = dispatched;
+            this.waitSamples = waitSamples;
+            this.waitSumMicros = waitSumMicros;
+            this.maxWaitMicros = maxWaitMicros;
+            this.waitCounts = waitCounts;
+        }
+
+        public RequestPriority getPriority() { return priority; }
+
+        /** Calls of this priority waiting for a slot now. */
+        public int getQueued() { return queued; }
+
+        /** Calls of this priority that asked for a slot, including those still waiting. */
+        public long getSubmitted() { return submitted; }
+
+        /** Calls of this priority that were given a slot. */
+        public long getDispatched() { return dispatched; }
+
+        /**
+         * Time from asking for a slot to getting it, at the given percentile,
+         * accurate to about 3%.
+         *
+         * @param percentile 0-100, e.g. 50, 90, 99
+         */
+        public double getWaitMillis(double percentile) {
+            return LatencyHistogram.percentile(waitCounts, percentile) / 1000.0;
+        }
+
+        public double getMeanWaitMillis() {
+            return waitSamples > 0 ? waitSumMicros / 1000.0 / waitSamples : 0.0;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitMicros / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return priority + "{queued=" + queued + ", dispatched=" + dispatched
+                    + ", wait.p50=" + getWaitMillis(50) + "ms, wait.p99=" + getWaitMillis(99) + "ms}";
+        }
+    }
+
+    public int getMaxConcurrentRequests() { return maxConcurrentRequests; }
+
+    /** Calls holding a slot now. */
+    public int getInFlight() { return inFlight; }
+
+    /** Calls waiting for a slot now, across all priorities. */
+    public int getQueued() { return queued; }
+
+    /** The longest the queue has been. */
+    public int getPeakQueued() { return peakQueued; }
+
+    /** Calls that gave up waiting because their deadline ran out. */
+    public long getTimedOut() { return timedOut; }
+
+    /** Calls waiting now, per tenant; calls without a tenant are under {@code ""}. */
+    public Map<String, Integer> getQueuedByTenant() { return queuedByTenant; }
+
+    public PriorityStats getPriority(RequestPriority priority) {
+        return priorities.get(priority);
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerStats{inFlight=" + inFlight + "/" + maxConcurrentRequests + ", queued=" + queued
+                + ", " + priorities.values() + "}";
+    }
+}
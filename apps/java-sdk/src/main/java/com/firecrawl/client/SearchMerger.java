@@ -0,0 +1,155 @@
+package com.firecrawl.client;
+
+import com.firecrawl.models.ImageResult;
+import com.firecrawl.models.NewsResult;
+import com.firecrawl.models.SearchData;
+import com.firecrawl.models.SearchResult;
+import com.firecrawl.models.WebResult;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Merges the results of several searches into one {@link SearchData}.
+ *
+ * <p>Each source (web, news, images) is merged separately. Results are
+ * deduplicated by normalized URL and ranked by reciprocal rank fusion: a
+ * result at 0-based position {@code i} of a query's list scores
+ * {@code 1 / (60 + i + 1)}, and scores add up across the queries that
+ * returned it. Ties, and which copy of a duplicate is kept, are decided by
+ * query order and then position, so the outcome does not depend on which
+ * query answered first. The merged lists reference the original result
+ * objects; nothing is copied.
+ */
+final class SearchMerger {
+
+    /** The usual RRF constant; damps the advantage of the very top positions. */
+    private static final int RRF_K = 60;
+
+    private final Source<WebResult> web = new Source<>(SearchResult::getUrl);
+    private final Source<NewsResult> news = new Source<>(SearchResult::getUrl);
+    private final Source<ImageResult> images = new Source<>(ImageResult::getImageUrl);
+
+    /**
+     * @param queryIndex position of the query in the caller's list
+     */
+    synchronized void add(int queryIndex, SearchData data) {
+        web.add(queryIndex, data.getWebResults());
+        news.add(queryIndex, data.getNewsResults());
+        images.add(queryIndex, data.getImageResults());
+    }
+
+    synchronized SearchData result() {
+        SearchData merged = new SearchData();
+        merged.setWebResults(web.ranked());
+        merged.setNewsResults(news.ranked());
+        merged.setImageResults(images.ranked());
+        return merged;
+    }
+
+    /**
+     * Normalizes a URL for deduplication. The scheme, a leading {@code www.},
+     * default ports, the fragment and a trailing slash are dropped, and the
+     * host is lowercased. The query string is kept as is.
+     */
+    static String normalizeUrl(String url) {
+        try {
+            URI uri = new URI(url.trim());
+            if (uri.getHost() == null) {
+                return url.trim();
+            }
+            String scheme = uri.getScheme() != null ? uri.getScheme().toLowerCase(Locale.ROOT) : "http";
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+            int port = uri.getPort();
+            boolean defaultPort = port == -1 || (port == 80 && scheme.equals("http"))
+                    || (port == 443 && scheme.equals("https"));
+            String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            // http and https copies of a page are the same result
+            StringBuilder key = new StringBuilder(url.length()).append(host);
+            if (!defaultPort) {
+                key.append(':').append(port);
+            }
+            key.append(path);
+            if (uri.getRawQuery() != null) {
+                key.append('?').append(uri.getRawQuery());
+            }
+            return key.toString();
+        } catch (URISyntaxException e) {
+            return url.trim();
+        }
+    }
+
+    private static final class Source<T extends SearchResult> {
+        private final Function<T, String> urlOf;
+        private final Map<String, Ranked<T>> byUrl = new HashMap<>();
+        private final List<Ranked<T>> all = new ArrayList<>();
+
+        Source(Function<T, String> urlOf) {
+            this.urlOf = urlOf;
+        }
+
+        void add(int queryIndex, List<T> results) {
+            if (results == null) {
+                return;
+            }
+            for (int i = 0; i < results.size(); i++) {
+                T result = results.get(i);
+                double score = 1.0 / (RRF_K + i + 1);
+                String url = urlOf.apply(result);
+                String key = url != null ? normalizeUrl(url) : null;
+                Ranked<T> ranked = key != null ? byUrl.get(key) : null;
+                if (ranked == null) {
+                    ranked = new Ranked<>(result, queryIndex, i);
+                    all.add(ranked);
+                    if (key != null) {
+                        byUrl.put(key, ranked);
+                    }
+                } else if (queryIndex < ranked.query || (queryIndex == ranked.query && i < ranked.position)) {
+                    ranked.result = result;
+                    ranked.query = queryIndex;
+                    ranked.position = i;
+                }
+                ranked.score += score;
+            }
+        }
+
+        List<T> ranked() {
+            List<Ranked<T>> sorted = new ArrayList<>(all);
+            sorted.sort(Comparator.comparingDouble((Ranked<T> r) -> -r.score)
+                    .thenComparingInt(r -> r.query)
+                    .thenComparingInt(r -> r.position));
+            List<T> results = new ArrayList<>(sorted.size());
+            for (Ranked<T> ranked : sorted) {
+                results.add(ranked.result);
+            }
+            return results;
+        }
+    }
+
+    private static final class Ranked<T> {
+        T result;
+        /** Earliest query, and position within it, that returned this result. */
+        int query;
+        int position;
+        double score;
+
+        Ranked(T result, int query, int position) {
+            this.result = result;
+            this.query = query;
+            this.position = position;
+        }
+    }
+}
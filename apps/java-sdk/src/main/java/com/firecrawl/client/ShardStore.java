@@ -0,0 +1,32 @@
+package com.firecrawl.client;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Pluggable shared storage for the shard table of a
+ * {@link ShardedJobConsumer}: which offset ranges of a job's results
+ * exist, who is working on each, and how far each has been consumed.
+ *
+ * <p>The table is an opaque string that the consumer reads and rewrites as
+ * a whole, so an implementation only has to provide an atomic update.
+ * Workers on every node sharing a job must use stores that see the same
+ * state.
+ *
+ * @see FileShardStore
+ * @see InMemoryShardStore
+ */
+public interface ShardStore {
+
+    /**
+     * Atomically replaces the value stored under {@code key} with
+     * {@code change} applied to it. Implementations may call {@code change}
+     * more than once, for example to retry a failed compare-and-set, and
+     * must store only the result of the last call.
+     *
+     * @param key    the table key
+     * @param change gets the current value, or null if none is stored, and
+     *               returns the new value, or null to remove it
+     * @return the value now stored, or null
+     */
+    String update(String key, UnaryOperator<String> change);
+}
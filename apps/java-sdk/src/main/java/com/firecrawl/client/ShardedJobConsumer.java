@@ -0,0 +1,546 @@
+package com.firecrawl.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.Document;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Spreads the consumption of one large crawl or batch scrape job's results
+ * over many threads and processes.
+ *
+ * <p>Once the job is done, the first worker to arrive splits its results
+ * into offset ranges of {@link Builder#shardSize(int)} documents and writes
+ * them to a shared {@link ShardStore}. Every worker thread then loops:
+ * lease a free range, fetch its pages through the status endpoint's
+ * {@code skip} offset, hand each page to the consumer, and record the new
+ * offset in the store. A thread that finds no free range steals the back
+ * half of the busy range with the most left, so the job drains evenly even
+ * when nodes join late or run at different speeds.
+ *
+ * <p>A range whose lease is not renewed within {@link Builder#leaseTtl(Duration)}
+ * is handed to another worker, which continues from the last recorded
+ * offset. Delivery is therefore at least once: a page whose consumer
+ * threw, or whose worker died before recording it, is delivered again.
+ * Each page must be consumed within the lease TTL. Lease times are
+ * wall-clock, so nodes' clocks should be synchronized to well within it.
+ *
+ * <pre>{@code
+ * // on every worker node
+ * ShardedJobConsumer consumer = ShardedJobConsumer.builder(client)
+ *     .store(new FileShardStore(Paths.get("/mnt/shared/firecrawl-shards")))
+ *     .threads(4)
+ *     .build();
+ * ShardedJobConsumer.Result result = consumer.consumeCrawl(jobId, docs -> persist(docs));
+ * }</pre>
+ */
+public final class ShardedJobConsumer {
+
+    private final FirecrawlClient client;
+    private final ShardStore store;
+    private final String workerId;
+    private final int threads;
+    private final int shardSize;
+    private final int minStealSize;
+    private final long leaseTtlMillis;
+    private final long idleMillis;
+    private final int pollIntervalSec;
+    private final int jobTimeoutSec;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private ShardedJobConsumer(Builder builder) {
+        this.client = builder.client;
+        this.store = builder.store;
+        this.workerId = builder.workerId;
+        this.threads = builder.threads;
+        this.shardSize = builder.shardSize;
+        this.minStealSize = builder.minStealSize;
+        this.leaseTtlMillis = builder.leaseTtl.toMillis();
+        this.idleMillis = Math.max(10, Math.min(1_000, leaseTtlMillis / 10));
+        this.pollIntervalSec = (int) Math.max(1, builder.pollInterval.getSeconds());
+        this.jobTimeoutSec = (int) Math.max(1, builder.jobTimeout.getSeconds());
+    }
+
+    public static Builder builder(FirecrawlClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Consumes this worker's share of a crawl job's results, returning once
+     * every range has been consumed by some worker.
+     *
+     * @param jobId        the crawl job ID
+     * @param pageConsumer receives documents, a page or part of one at a
+     *                     time; called concurrently from this worker's threads
+     * @return what this worker consumed
+     */
+    public Result consumeCrawl(String jobId, Consumer<List<Document>> pageConsumer) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        return consume("crawl-" + jobId, jobId,
+                () -> client.awaitCrawl(jobId, pollIntervalSec, jobTimeoutSec).getCompleted(),
+                skip -> client.getCrawlStatus(jobId, skip).getData(),
+                pageConsumer);
+    }
+
+    /**
+     * Consumes this worker's share of a batch scrape job's results; see
+     * {@link #consumeCrawl(String, Consumer)}.
+     *
+     * @param jobId        the batch scrape job ID
+     * @param pageConsumer receives documents, a page or part of one at a
+     *                     time; called concurrently from this worker's threads
+     * @return what this worker consumed
+     */
+    public Result consumeBatchScrape(String jobId, Consumer<List<Document>> pageConsumer) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        return consume("batch-" + jobId, jobId,
+                () -> client.awaitBatchScrape(jobId, pollIntervalSec, jobTimeoutSec).getCompleted(),
+                skip -> client.getBatchScrapeStatus(jobId, skip).getData(),
+                pageConsumer);
+    }
+
+    /** What one worker consumed of a sharded job. */
+    public static final class Result {
+        private final String jobId;
+        private final long total;
+        private final long documents;
+        private final long pages;
+        private final long shards;
+        private final long steals;
+
+        Result(String jobId, long total, long documents, long pages, long shards, long steals) {
+            this.jobId = jobId;
+            this.total = total;
+            this.documents = documents;
+            this.pages = pages;
+            this.shards = shards;
+            this.steals = steals;
+        }
+
+        public String getJobId() { return jobId; }
+
+        /** Documents in the job, across all workers. */
+        public long getTotal() { return total; }
+
+        /** Documents this worker handed to its consumer. */
+        public long getDocuments() { return documents; }
+
+        /** Pages this worker fetched and consumed. */
+        public long getPages() { return pages; }
+
+        /** Ranges this worker leased, including stolen ones. */
+        public long getShards() { return shards; }
+
+        /** Ranges this worker split off another worker's. */
+        public long getSteals() { return steals; }
+
+        @Override
+        public String toString() {
+            return "ShardedJobConsumer.Result{jobId=" + jobId + ", documents=" + documents + "/" + total
+                    + ", pages=" + pages + ", shards=" + shards + ", steals=" + steals + "}";
+        }
+    }
+
+    // ================================================================
+    // WORKERS
+    // ================================================================
+
+    private Result consume(String key, String jobId, LongSupplier total,
+                           IntFunction<List<Document>> fetch, Consumer<List<Document>> pageConsumer) {
+        Objects.requireNonNull(pageConsumer, "Page consumer is required");
+        if (store.update(key, json -> json) == null) {
+            long documents = total.getAsLong();
+            Table fresh = Table.split(documents, shardSize);
+            store.update(key, json -> json != null ? json : write(fresh));
+        }
+        Counters counters = new Counters();
+        List<Integer> slots = IntStream.range(0, threads).boxed().collect(Collectors.toList());
+        Map<Integer, RuntimeException> failures = FanOut.forEach(slots, threads, "shards",
+                slot -> work(key, workerId + "#" + slot, fetch, pageConsumer, counters));
+        if (!failures.isEmpty()) {
+            throw failures.values().iterator().next();
+        }
+        long documents = update(key, table -> table.total);
+        return new Result(jobId, documents, counters.documents.get(), counters.pages.get(),
+                counters.shards.get(), counters.steals.get());
+    }
+
+    private static final class Counters {
+        final AtomicLong documents = new AtomicLong();
+        final AtomicLong pages = new AtomicLong();
+        final AtomicLong shards = new AtomicLong();
+        final AtomicLong steals = new AtomicLong();
+    }
+
+    private void work(String key, String worker, IntFunction<List<Document>> fetch,
+                      Consumer<List<Document>> pageConsumer, Counters counters) {
+        while (true) {
+            Claim claim = update(key, table -> table.claim(worker, System.currentTimeMillis(), leaseTtlMillis,
+                    minStealSize));
+            if (claim == Claim.FINISHED) {
+                return;
+            }
+            if (claim == null) {
+                // Every range is leased and too small to split; wait for one to free up or expire
+                sleep(idleMillis);
+                continue;
+            }
+            counters.shards.incrementAndGet();
+            if (claim.stolen) {
+                counters.steals.incrementAndGet();
+            }
+            try {
+                drain(key, worker, claim, fetch, pageConsumer, counters);
+            } catch (RuntimeException e) {
+                try {
+                    update(key, table -> table.release(claim.id, worker));
+                } catch (RuntimeException ignored) {
+                    // the lease expires on its own
+                }
+                throw e;
+            }
+        }
+    }
+
+    /** Consumes one leased range page by page until it is done, stolen down to nothing, or lost. */
+    private void drain(String key, String worker, Claim claim, IntFunction<List<Document>> fetch,
+                       Consumer<List<Document>> pageConsumer, Counters counters) {
+        long next = claim.next;
+        while (true) {
+            List<Document> page = fetch.apply(Math.toIntExact(next));
+            int count = page != null ? page.size() : 0;
+            long from = next;
+            // Reserving the page first keeps a thief from splitting inside it
+            long limit = update(key, table -> table.reserve(claim.id, worker, from, count,
+                    System.currentTimeMillis(), leaseTtlMillis));
+            if (limit <= next) {
+                return;
+            }
+            List<Document> documents = page.subList(0, (int) (limit - next));
+            pageConsumer.accept(documents);
+            counters.pages.incrementAndGet();
+            counters.documents.addAndGet(documents.size());
+            if (!update(key, table -> table.commit(claim.id, worker, limit, System.currentTimeMillis(),
+                    leaseTtlMillis))) {
+                return;
+            }
+            next = limit;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FirecrawlException("Interrupted while waiting for a shard", e);
+        }
+    }
+
+    // ================================================================
+    // SHARD TABLE
+    // ================================================================
+
+    /** Applies {@code change} to the stored table, saving it only if it changed. */
+    private <T> T update(String key, Function<Table, T> change) {
+        AtomicReference<T> result = new AtomicReference<>();
+        store.update(key, json -> {
+            if (json == null) {
+                throw new FirecrawlException("Shard table " + key + " is missing");
+            }
+            Table table = read(json);
+            result.set(change.apply(table));
+            return table.changed ? write(table) : json;
+        });
+        return result.get();
+    }
+
+    private Table read(String json) {
+        try {
+            return objectMapper.readValue(json, Table.class);
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to read shard table", e);
+        }
+    }
+
+    private String write(Table table) {
+        try {
+            return objectMapper.writeValueAsString(table);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Claim {
+        static final Claim FINISHED = new Claim(-1, -1, false);
+
+        final long id;
+        final long next;
+        final boolean stolen;
+
+        Claim(long id, long next, boolean stolen) {
+            this.id = id;
+            this.next = next;
+            this.stolen = stolen;
+        }
+    }
+
+    /**
+     * The shared state of one job: the ranges not yet consumed. Ranges are
+     * dropped once done, so the table shrinks as the job drains.
+     */
+    static final class Table {
+        public long total;
+        public long consumed;
+        public long nextId;
+        public long steals;
+        public List<Range> ranges = new ArrayList<>();
+        @JsonIgnore
+        boolean changed;
+
+        static Table split(long total, int shardSize) {
+            Table table = new Table();
+            table.total = total;
+            for (long start = 0; start < total; start += shardSize) {
+                Range range = new Range();
+                range.id = table.nextId++;
+                range.next = start;
+                range.reserved = start;
+                range.end = Math.min(total, start + shardSize);
+                table.ranges.add(range);
+            }
+            return table;
+        }
+
+        /**
+         * Leases a free or expired range, or else splits the busy range with
+         * the most left. Returns {@link Claim#FINISHED} when no ranges remain
+         * and null when none can be had right now.
+         */
+        Claim claim(String worker, long now, long ttlMillis, int minStealSize) {
+            if (ranges.isEmpty()) {
+                return Claim.FINISHED;
+            }
+            for (Range range : ranges) {
+                if (range.owner == null || range.leaseUntil <= now) {
+                    // An expired holder's reservation was never committed
+                    range.owner = worker;
+                    range.leaseUntil = now + ttlMillis;
+                    range.reserved = range.next;
+                    changed = true;
+                    return new Claim(range.id, range.next, false);
+                }
+            }
+            Range victim = null;
+            long most = 0;
+            for (Range range : ranges) {
+                long left = range.end - Math.max(range.next, range.reserved);
+                if (left > most) {
+                    victim = range;
+                    most = left;
+                }
+            }
+            if (victim == null || most < 2L * minStealSize) {
+                return null;
+            }
+            long split = Math.max(victim.next, victim.reserved) + most / 2;
+            Range stolen = new Range();
+            stolen.id = nextId++;
+            stolen.next = split;
+            stolen.reserved = split;
+            stolen.end = victim.end;
+            stolen.owner = worker;
+            stolen.leaseUntil = now + ttlMillis;
+            victim.end = split;
+            ranges.add(stolen);
+            steals++;
+            changed = true;
+            return new Claim(stolen.id, stolen.next, true);
+        }
+
+        /**
+         * Reserves up to {@code count} documents from {@code from} and renews
+         * the lease. Returns the end of the reservation, or a value not past
+         * {@code from} if the range is done or no longer this worker's.
+         */
+        long reserve(long id, String worker, long from, int count, long now, long ttlMillis) {
+            Range range = find(id);
+            if (range == null || !worker.equals(range.owner) || range.next != from) {
+                return -1;
+            }
+            long limit = Math.min(range.end, from + count);
+            if (limit <= from) {
+                // An empty page, or the rest of the range was stolen
+                ranges.remove(range);
+                changed = true;
+                return from;
+            }
+            range.reserved = limit;
+            range.leaseUntil = now + ttlMillis;
+            changed = true;
+            return limit;
+        }
+
+        /** Records the range as consumed up to {@code upTo}; false if it is done or no longer this worker's. */
+        boolean commit(long id, String worker, long upTo, long now, long ttlMillis) {
+            Range range = find(id);
+            if (range == null || !worker.equals(range.owner)) {
+                return false;
+            }
+            consumed += upTo - range.next;
+            range.next = upTo;
+            range.reserved = upTo;
+            range.leaseUntil = now + ttlMillis;
+            changed = true;
+            if (upTo >= range.end) {
+                ranges.remove(range);
+                return false;
+            }
+            return true;
+        }
+
+        /** Gives a range back so that another worker can continue it at once. */
+        Void release(long id, String worker) {
+            Range range = find(id);
+            if (range != null && worker.equals(range.owner)) {
+                range.owner = null;
+                range.reserved = range.next;
+                changed = true;
+            }
+            return null;
+        }
+
+        private Range find(long id) {
+            for (Range range : ranges) {
+                if (range.id == id) {
+                    return range;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** Documents {@code [next, end)} of the job's results, leased to {@code owner} until {@code leaseUntil}. */
+    static final class Range {
+        public long id;
+        public long next;
+        public long reserved;
+        public long end;
+        public String owner;
+        public long leaseUntil;
+    }
+
+    public static final class Builder {
+        private final FirecrawlClient client;
+        private ShardStore store;
+        private String workerId = ManagementFactory.getRuntimeMXBean().getName();
+        private int threads = 4;
+        private int shardSize = 1_000;
+        private int minStealSize = 100;
+        private Duration leaseTtl = Duration.ofMinutes(5);
+        private Duration pollInterval = Duration.ofSeconds(2);
+        private Duration jobTimeout = Duration.ofMinutes(5);
+
+        private Builder(FirecrawlClient client) {
+            this.client = Objects.requireNonNull(client, "Client is required");
+        }
+
+        /** Where the shard table is shared between workers. Required. */
+        public Builder store(ShardStore store) {
+            this.store = store;
+            return this;
+        }
+
+        /**
+         * Names this worker on its leases; must differ between nodes.
+         * Default: the JVM's {@code pid@host}.
+         */
+        public Builder workerId(String workerId) {
+            this.workerId = workerId;
+            return this;
+        }
+
+        /** Ranges this worker consumes at once. Default: 4. */
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        /** Documents per range when the job is first split. Default: 1000. */
+        public Builder shardSize(int shardSize) {
+            this.shardSize = shardSize;
+            return this;
+        }
+
+        /**
+         * Smallest part an idle worker splits off a busy range; ranges with
+         * less than twice this left are not split. Default: 100.
+         */
+        public Builder minStealSize(int minStealSize) {
+            this.minStealSize = minStealSize;
+            return this;
+        }
+
+        /** How long a range stays leased without progress. Default: 5 minutes. */
+        public Builder leaseTtl(Duration leaseTtl) {
+            this.leaseTtl = leaseTtl;
+            return this;
+        }
+
+        /** Time between status checks while the job is still running. Default: 2 seconds. */
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /** Longest wait for the job to finish before it is split. Default: 5 minutes. */
+        public Builder jobTimeout(Duration jobTimeout) {
+            this.jobTimeout = jobTimeout;
+            return this;
+        }
+
+        public ShardedJobConsumer build() {
+            Objects.requireNonNull(store, "Shard store is required");
+            Objects.requireNonNull(workerId, "Worker id is required");
+            if (threads < 1) {
+                throw new IllegalArgumentException("threads must be at least 1");
+            }
+            if (shardSize < 1) {
+                throw new IllegalArgumentException("shardSize must be at least 1");
+            }
+            if (minStealSize < 1) {
+                throw new IllegalArgumentException("minStealSize must be at least 1");
+            }
+            if (leaseTtl == null || leaseTtl.toMillis() < 100) {
+                throw new IllegalArgumentException("leaseTtl must be at least 100 milliseconds");
+            }
+            if (pollInterval == null || pollInterval.isNegative()) {
+                throw new IllegalArgumentException("pollInterval must not be negative");
+            }
+            if (jobTimeout == null || jobTimeout.isNegative() || jobTimeout.isZero()) {
+                throw new IllegalArgumentException("jobTimeout must be positive");
+            }
+            return new ShardedJobConsumer(this);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.firecrawl.client;
+
+import com.firecrawl.errors.FirecrawlException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token-bucket rate limiter. Tokens are added continuously at
+ * {@code permitsPerSecond} up to {@code burst}; {@link #acquire()} takes one,
+ * waiting for it if the bucket is empty.
+ *
+ * <p>Waiters reserve their token before sleeping, so callers are served in
+ * the order they arrive and the long-run rate never exceeds the limit.
+ */
+final class TokenBucket {
+
+    private final double nanosPerPermit;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /** Takes a token, blocking until one is available. */
+    void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FirecrawlException("Interrupted while waiting for rate limit", e);
+            }
+        }
+    }
+
+    /** Takes a token, possibly going into debt, and returns how long to wait for it. */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) / nanosPerPermit);
+        refilledAt = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * nanosPerPermit);
+    }
+}
@@ -0,0 +1,126 @@
+package com.firecrawl.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * A bounded, least-recently-used cache whose entries expire a fixed time
+ * after they were loaded.
+ *
+ * <p>Concurrent {@link #get} calls for a key that is not cached share one
+ * load: the first caller runs the loader and the others wait for its result.
+ * A failed load is not cached; its exception is thrown to every waiter.
+ * Eviction never drops a key that is still loading, so the cache may hold
+ * more than {@code maxSize} entries until those loads finish.
+ */
+final class TtlCache<K, V> {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    /** In access order, so the least recently used entry comes first. */
+    private final Map<K, Slot<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    TtlCache(long ttlNanos, int maxSize) {
+        this.ttlNanos = ttlNanos;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, loading it if it is missing or
+     * expired. Load failures propagate unchanged.
+     */
+    V get(K key, Function<? super K, ? extends V> loader) {
+        Slot<V> slot;
+        boolean owner = false;
+        synchronized (this) {
+            slot = entries.get(key);
+            if (slot == null || slot.isExpired(System.nanoTime())) {
+                slot = new Slot<>();
+                entries.put(key, slot);
+                owner = true;
+            }
+        }
+        if (owner) {
+            V value;
+            try {
+                value = loader.apply(key);
+            } catch (RuntimeException | Error e) {
+                synchronized (this) {
+                    entries.remove(key, slot);
+                }
+                slot.future.completeExceptionally(e);
+                throw e;
+            }
+            synchronized (this) {
+                slot.expiresAt = System.nanoTime() + ttlNanos;
+                slot.future.complete(value);
+                evict();
+            }
+            return value;
+        }
+        try {
+            return slot.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    /** The cached value for {@code key}, or null if it is missing, expired or still loading. */
+    synchronized V getIfPresent(K key) {
+        Slot<V> slot = entries.get(key);
+        if (slot == null || !slot.future.isDone() || slot.isExpired(System.nanoTime())) {
+            return null;
+        }
+        return slot.future.getNow(null);
+    }
+
+    /** Caches a value obtained some other way, unless a load of the key is in progress. */
+    synchronized void put(K key, V value) {
+        Slot<V> current = entries.get(key);
+        if (current != null && !current.future.isDone()) {
+            return;
+        }
+        Slot<V> slot = new Slot<>();
+        slot.expiresAt = System.nanoTime() + ttlNanos;
+        slot.future.complete(value);
+        entries.put(key, slot);
+        evict();
+    }
+
+    /** Drops least recently used entries, skipping loads in progress, until the cache fits {@code maxSize}. */
+    private void evict() {
+        Iterator<Slot<V>> slots = entries.values().iterator();
+        for (int excess = entries.size() - maxSize; excess > 0 && slots.hasNext(); ) {
+            if (slots.next().future.isDone()) {
+                slots.remove();
+                excess--;
+            }
+        }
+    }
+
+    synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    private static final class Slot<V> {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        /** Set before the future completes; guarded by the cache lock. */
+        long expiresAt;
+
+        boolean isExpired(long now) {
+            return future.isDone() && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.firecrawl.errors;
+
+/**
+ * Thrown without contacting the API when the circuit breaker for an endpoint is
+ * open because recent calls to it failed or were too slow.
+ */
+public class CircuitBreakerOpenException extends FirecrawlException {
+
+    private final String endpoint;
+    private final long retryAfterMs;
+
+    public CircuitBreakerOpenException(String endpoint, long retryAfterMs) {
+        super("Circuit breaker open for " + endpoint + "; retry in " + retryAfterMs + " ms");
+        this.endpoint = endpoint;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    /** The endpoint template whose breaker is open, e.g. {@code "POST /v2/scrape"}. */
+    public String getEndpoint() { return endpoint; }
+
+    /** Milliseconds until the breaker lets trial calls through again (0 if trial calls are already in flight). */
+    public long getRetryAfterMs() { return retryAfterMs; }
+}
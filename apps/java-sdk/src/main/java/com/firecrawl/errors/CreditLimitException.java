@@ -0,0 +1,24 @@
+package com.firecrawl.errors;
+
+/**
+ * Thrown without contacting the API when a job is not submitted because its
+ * estimated cost does not fit in the remaining credits or the configured
+ * spend rate.
+ */
+public class CreditLimitException extends FirecrawlException {
+
+    private final long estimatedCredits;
+    private final long availableCredits;
+
+    public CreditLimitException(String message, long estimatedCredits, long availableCredits) {
+        super(message);
+        this.estimatedCredits = estimatedCredits;
+        this.availableCredits = availableCredits;
+    }
+
+    /** The estimated cost of the rejected job. */
+    public long getEstimatedCredits() { return estimatedCredits; }
+
+    /** Credits that were available to it: remaining, minus the reserve and outstanding estimates. */
+    public long getAvailableCredits() { return availableCredits; }
+}
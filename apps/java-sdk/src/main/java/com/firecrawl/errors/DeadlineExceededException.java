@@ -0,0 +1,18 @@
+package com.firecrawl.errors;
+
+/**
+ * Thrown when an operation started through a deadline-bound client view runs
+ * out of time, including while waiting for a retry or the next status poll.
+ */
+public class DeadlineExceededException extends FirecrawlException {
+
+    private final long timeoutMillis;
+
+    public DeadlineExceededException(long timeoutMillis, Throwable cause) {
+        super("Operation did not complete within its " + timeoutMillis + " ms deadline", cause);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /** The deadline's total budget in milliseconds. */
+    public long getTimeoutMillis() { return timeoutMillis; }
+}
@@ -25,6 +25,7 @@ public class CrawlJob {
     public Integer getCreditsUsed() { return creditsUsed; }
     public String getExpiresAt() { return expiresAt; }
     public String getNext() { return next; }
+    public void setNext(String next) { this.next = next; }
     public List<Document> getData() { return data; }
     public void setData(List<Document> data) { this.data = data; }
 
@@ -0,0 +1,45 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * An image search result. {@link #getUrl()} is the page the image was found
+ * on; {@link #getImageUrl()} is the image itself.
+ */
+@JsonDeserialize(using = ImageResult.Deserializer.class)
+public class ImageResult extends SearchResult {
+
+    private String imageUrl;
+    private Integer imageWidth;
+    private Integer imageHeight;
+
+    public String getImageUrl() { return imageUrl; }
+    public Integer getImageWidth() { return imageWidth; }
+    public Integer getImageHeight() { return imageHeight; }
+
+    @Override
+    boolean readField(String name, JsonParser parser) throws IOException {
+        switch (name) {
+            case "imageUrl": imageUrl = text(parser); return true;
+            case "imageWidth": imageWidth = integer(parser); return true;
+            case "imageHeight": imageHeight = integer(parser); return true;
+            default: return super.readField(name, parser);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ImageResult{imageUrl=" + imageUrl + ", url=" + url + "}";
+    }
+
+    static final class Deserializer extends SearchResult.Deserializer<ImageResult> {
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(ImageResult.class, ImageResult::new);
+        }
+    }
+}
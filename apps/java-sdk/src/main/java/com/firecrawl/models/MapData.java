@@ -1,7 +1,9 @@
 package com.firecrawl.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -12,42 +14,182 @@ import java.util.Map;
  *
  * <p>The v2 API may return {@code links} as either plain URL strings or
  * objects with {@code url}, {@code title}, and {@code description} fields.
- * This class normalises both representations into a uniform
+ * Both are stored column by column: one array of URLs, and arrays of
+ * titles and descriptions only when some link has them. The indexed
+ * accessors, {@link #forEachLink(LinkVisitor)} and {@link #asUrlList()}
+ * read these arrays directly and allocate nothing per link, which matters
+ * for maps with tens of thousands of URLs.
+ *
+ * <p>{@link #getLinks()} offers the same links as a uniform
  * {@code List<Map<String, Object>>} where each entry always contains at
- * least a {@code "url"} key.
+ * least a {@code "url"} key. It is built on first use and then cached.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class MapData {
 
-    private List<Object> links;
+    private static final String[] NONE = new String[0];
+
+    private int size = -1;
+    private String[] urls = NONE;
+    /** Null when no link has a title. */
+    private String[] titles;
+    /** Null when no link has a description. */
+    private String[] descriptions;
+    /** Object links with fields beyond url, title and description, by index; null when there are none. */
+    private Map<String, Object>[] originals;
+
+    private List<String> urlList;
+    private List<Map<String, Object>> normalizedLinks;
+
+    /** Receives one link at a time from {@link #forEachLink(LinkVisitor)}. */
+    @FunctionalInterface
+    public interface LinkVisitor {
+        /**
+         * @param url         the link's URL; null only if the API sent an object without one
+         * @param title       the page title, or null
+         * @param description the page description, or null
+         */
+        void visit(String url, String title, String description);
+    }
+
+    @JsonProperty("links")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void setLinks(List<Object> items) {
+        normalizedLinks = null;
+        urlList = null;
+        titles = null;
+        descriptions = null;
+        originals = null;
+        if (items == null) {
+            size = -1;
+            urls = NONE;
+            return;
+        }
+        urls = new String[items.size()];
+        int count = 0;
+        for (Object item : items) {
+            if (item instanceof String) {
+                urls[count++] = (String) item;
+            } else if (item instanceof Map) {
+                Map<String, Object> link = (Map<String, Object>) item;
+                int index = count++;
+                urls[index] = stringOrNull(link.get("url"));
+                String title = stringOrNull(link.get("title"));
+                if (title != null) {
+                    titles = titles != null ? titles : new String[urls.length];
+                    titles[index] = title;
+                }
+                String description = stringOrNull(link.get("description"));
+                if (description != null) {
+                    descriptions = descriptions != null ? descriptions : new String[urls.length];
+                    descriptions[index] = description;
+                }
+                if (hasOtherFields(link)) {
+                    originals = originals != null ? originals : (Map<String, Object>[]) new Map[urls.length];
+                    originals[index] = link;
+                }
+            }
+        }
+        size = count;
+    }
+
+    private static String stringOrNull(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    private static boolean hasOtherFields(Map<String, Object> link) {
+        for (String key : link.keySet()) {
+            if (!key.equals("url") && !key.equals("title") && !key.equals("description")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Number of links, or 0 when the response had none. */
+    public int size() {
+        return Math.max(size, 0);
+    }
+
+    /** URL of the link at {@code index}. */
+    public String getUrl(int index) {
+        return urls[checkIndex(index)];
+    }
+
+    /** Title of the link at {@code index}, or null. */
+    public String getTitle(int index) {
+        checkIndex(index);
+        return titles != null ? titles[index] : null;
+    }
+
+    /** Description of the link at {@code index}, or null. */
+    public String getDescription(int index) {
+        checkIndex(index);
+        return descriptions != null ? descriptions[index] : null;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return index;
+    }
+
+    /** Hands every link to {@code visitor}, in order. */
+    public void forEachLink(LinkVisitor visitor) {
+        for (int i = 0; i < size(); i++) {
+            visitor.visit(urls[i], titles != null ? titles[i] : null,
+                    descriptions != null ? descriptions[i] : null);
+        }
+    }
+
+    /**
+     * Returns the URLs of all links, in order, as an unmodifiable view
+     * backed by the stored URLs. Empty when the response had no links.
+     */
+    public List<String> asUrlList() {
+        if (urlList == null) {
+            urlList = Collections.unmodifiableList(Arrays.asList(urls).subList(0, size()));
+        }
+        return urlList;
+    }
 
     /**
      * Returns the discovered links, normalised so that every entry is a
      * {@code Map<String, Object>} containing at least a {@code "url"} key.
      * Plain-string entries returned by the API are wrapped as
-     * {@code {"url": "<value>"}}.
+     * {@code {"url": "<value>"}}. The list and its maps are unmodifiable,
+     * and the same list is returned on every call.
      */
-    @SuppressWarnings("unchecked")
     public List<Map<String, Object>> getLinks() {
-        if (links == null) {
+        if (size < 0) {
             return null;
         }
-        List<Map<String, Object>> result = new ArrayList<>(links.size());
-        for (Object item : links) {
-            if (item instanceof Map) {
-                result.add((Map<String, Object>) item);
-            } else if (item instanceof String) {
-                Map<String, Object> wrapped = new LinkedHashMap<>();
-                wrapped.put("url", item);
-                result.add(wrapped);
+        if (normalizedLinks == null) {
+            List<Map<String, Object>> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Map<String, Object> link;
+                if (originals != null && originals[i] != null) {
+                    link = new LinkedHashMap<>(originals[i]);
+                } else {
+                    link = new LinkedHashMap<>(4);
+                    link.put("url", urls[i]);
+                    if (titles != null && titles[i] != null) {
+                        link.put("title", titles[i]);
+                    }
+                    if (descriptions != null && descriptions[i] != null) {
+                        link.put("description", descriptions[i]);
+                    }
+                }
+                result.add(Collections.unmodifiableMap(link));
             }
+            normalizedLinks = Collections.unmodifiableList(result);
         }
-        return Collections.unmodifiableList(result);
+        return normalizedLinks;
     }
 
     @Override
     public String toString() {
-        int count = links != null ? links.size() : 0;
-        return "MapData{links=" + count + "}";
+        return "MapData{links=" + size() + "}";
     }
 }
@@ -0,0 +1,32 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A single line of a {@link MonitorDiffChunk}. {@code type} is {@code "add"},
+ * {@code "del"} or {@code "normal"} (unchanged context). Added and deleted
+ * lines carry {@code ln}, their line number in the current or previous
+ * markdown; context lines carry both {@code ln1} (previous) and {@code ln2}
+ * (current).
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MonitorDiffChange {
+    private String type;
+    private String content;
+    private Integer ln;
+    private Integer ln1;
+    private Integer ln2;
+
+    public String getType() { return type; }
+    /** The diff line including its {@code +}, {@code -} or space prefix. */
+    public String getContent() { return content; }
+    public Integer getLn() { return ln; }
+    public Integer getLn1() { return ln1; }
+    public Integer getLn2() { return ln2; }
+
+    @JsonIgnore
+    public boolean isAdd() { return "add".equals(type); }
+    @JsonIgnore
+    public boolean isDelete() { return "del".equals(type); }
+}
@@ -0,0 +1,19 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * A hunk of a {@link MonitorDiffFile}: its {@code @@ -a,b +c,d @@} header line
+ * and the line-level changes under it.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MonitorDiffChunk {
+    private String content;
+    private List<MonitorDiffChange> changes;
+
+    /** The hunk header line, e.g. {@code "@@ -1,3 +1,4 @@"}. */
+    public String getContent() { return content; }
+    public List<MonitorDiffChange> getChanges() { return changes; }
+}
@@ -0,0 +1,21 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * One file of the {@code parseDiff} AST returned by markdown-mode monitors
+ * (see {@link MonitorPageDiff#getFiles()}). Monitor diffs compare
+ * {@code previous.md} with {@code current.md}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MonitorDiffFile {
+    private String from;
+    private String to;
+    private List<MonitorDiffChunk> chunks;
+
+    public String getFrom() { return from; }
+    public String getTo() { return to; }
+    public List<MonitorDiffChunk> getChunks() { return chunks; }
+}
@@ -0,0 +1,201 @@
+package com.firecrawl.models;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A hunk of a unified diff, viewed in place over the diff text returned by
+ * {@link MonitorPageDiff#getText()}. Nothing is copied: the header, body and
+ * lines are {@link CharSequence} views into the original string.
+ *
+ * @see MonitorPageDiff#hunks()
+ */
+public final class MonitorDiffHunk {
+
+    private final String text;
+    private final int start;
+    private final int bodyStart;
+    private final int end;
+    private final int oldStart;
+    private final int oldLines;
+    private final int newStart;
+    private final int newLines;
+    private final int additions;
+    private final int deletions;
+
+    MonitorDiffHunk(String text, int start, int bodyStart, int end, int[] range, int additions, int deletions) {
+        this.text = text;
+        this.start = start;
+        this.bodyStart = bodyStart;
+        this.end = end;
+        this.oldStart = range[0];
+        this.oldLines = range[1];
+        this.newStart = range[2];
+        this.newLines = range[3];
+        this.additions = additions;
+        this.deletions = deletions;
+    }
+
+    /** The {@code @@ -a,b +c,d @@} line, without its line break. */
+    public CharSequence getHeader() {
+        int headerEnd = bodyStart > start && text.charAt(bodyStart - 1) == '\n' ? bodyStart - 1 : bodyStart;
+        return CharBuffer.wrap(text, start, headerEnd);
+    }
+
+    /** The hunk's lines after the header, including their prefixes and line breaks. */
+    public CharSequence getBody() {
+        return CharBuffer.wrap(text, bodyStart, end);
+    }
+
+    public int getOldStart() { return oldStart; }
+    public int getOldLines() { return oldLines; }
+    public int getNewStart() { return newStart; }
+    public int getNewLines() { return newLines; }
+
+    /** Number of {@code +} lines. */
+    public int getAdditions() { return additions; }
+
+    /** Number of {@code -} lines. */
+    public int getDeletions() { return deletions; }
+
+    /**
+     * The body lines, each including its {@code +}, {@code -} or space prefix
+     * but not its line break.
+     */
+    public Iterable<CharSequence> lines() {
+        return () -> new Iterator<CharSequence>() {
+            private int position = bodyStart;
+
+            @Override
+            public boolean hasNext() {
+                return position < end;
+            }
+
+            @Override
+            public CharSequence next() {
+                if (position >= end) {
+                    throw new NoSuchElementException();
+                }
+                int lineEnd = lineEnd(text, position, end);
+                CharSequence line = CharBuffer.wrap(text, position, lineEnd);
+                position = Math.min(end, lineEnd + 1);
+                return line;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return getHeader().toString();
+    }
+
+    static int lineEnd(String text, int from, int limit) {
+        int newline = text.indexOf('\n', from);
+        return newline < 0 || newline > limit ? limit : newline;
+    }
+
+    /**
+     * Walks the hunks of a unified diff. File headers and other lines outside
+     * hunks are skipped; each hunk ends once its header's line counts are met.
+     */
+    static final class Scanner implements Iterator<MonitorDiffHunk> {
+        private final String text;
+        private int position;
+        private MonitorDiffHunk pending;
+
+        Scanner(String text) {
+            this.text = text != null ? text : "";
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null) {
+                pending = scan();
+            }
+            return pending != null;
+        }
+
+        @Override
+        public MonitorDiffHunk next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            MonitorDiffHunk hunk = pending;
+            pending = null;
+            return hunk;
+        }
+
+        private MonitorDiffHunk scan() {
+            int length = text.length();
+            while (position < length) {
+                int lineStart = position;
+                int lineEnd = lineEnd(text, lineStart, length);
+                position = Math.min(length, lineEnd + 1);
+                int[] range = text.startsWith("@@ ", lineStart) ? parseRange(lineStart, lineEnd) : null;
+                if (range == null) {
+                    continue;
+                }
+                int bodyStart = position;
+                int oldRemaining = range[1];
+                int newRemaining = range[3];
+                int additions = 0;
+                int deletions = 0;
+                while (position < length) {
+                    char marker = text.charAt(position);
+                    if (marker == '\\') {
+                        // "\ No newline at end of file" belongs to the preceding line
+                    } else if (oldRemaining <= 0 && newRemaining <= 0) {
+                        break;
+                    } else if (marker == '+') {
+                        additions++;
+                        newRemaining--;
+                    } else if (marker == '-') {
+                        deletions++;
+                        oldRemaining--;
+                    } else if (marker == ' ' || marker == '\n') {
+                        oldRemaining--;
+                        newRemaining--;
+                    } else {
+                        break;
+                    }
+                    position = Math.min(length, lineEnd(text, position, length) + 1);
+                }
+                return new MonitorDiffHunk(text, lineStart, bodyStart, position, range, additions, deletions);
+            }
+            return null;
+        }
+
+        /** Parses {@code @@ -a[,b] +c[,d] @@}; a missing count means 1. */
+        private int[] parseRange(int from, int to) {
+            int[] range = new int[4];
+            int i = from + 3;
+            for (int part = 0; part < 2; part++) {
+                if (i >= to || text.charAt(i) != (part == 0 ? '-' : '+')) {
+                    return null;
+                }
+                i++;
+                int numberStart = i;
+                int value = 0;
+                while (i < to && Character.isDigit(text.charAt(i))) {
+                    value = value * 10 + (text.charAt(i++) - '0');
+                }
+                if (i == numberStart) {
+                    return null;
+                }
+                range[part * 2] = value;
+                range[part * 2 + 1] = 1;
+                if (i < to && text.charAt(i) == ',') {
+                    i++;
+                    int count = 0;
+                    while (i < to && Character.isDigit(text.charAt(i))) {
+                        count = count * 10 + (text.charAt(i++) - '0');
+                    }
+                    range[part * 2 + 1] = count;
+                }
+                i++; // the space after the range
+            }
+            return range;
+        }
+    }
+}
@@ -1,6 +1,19 @@
 package com.firecrawl.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.firecrawl.errors.FirecrawlException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Diff payload returned alongside a monitor page when its scrape
@@ -19,17 +32,110 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
  *   markdown sidecar.</li>
  * </ul>
  *
- * <p>{@code json} is exposed as {@link Object} because its concrete
- * shape depends on the monitor mode; callers should cast or re-deserialize
- * with Jackson into either a {@code Map<String, MonitorJsonFieldDiff>}
- * (JSON / mixed mode) or a {@code Map<String, Object>} containing the
- * {@code files} key (markdown mode).
+ * <p>{@code json} is kept as buffered JSON tokens and only decoded when
+ * asked for, straight into the requested shape: {@link #getFieldDiffs()}
+ * for JSON and mixed mode, {@link #getFiles()} for markdown mode, or
+ * {@link #getJson()} for the untyped form. Each is decoded once and
+ * cached. {@link #hunks()} walks {@code text} without copying it.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class MonitorPageDiff {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final JavaType UNTYPED = MAPPER.constructType(Object.class);
+    private static final JavaType FIELD_DIFFS = MAPPER.getTypeFactory()
+            .constructMapType(Map.class, String.class, MonitorJsonFieldDiff.class);
+    private static final JavaType FILES = MAPPER.getTypeFactory()
+            .constructCollectionType(List.class, MonitorDiffFile.class);
+
     private String text;
-    private Object json;
+    @JsonProperty("json")
+    private TokenBuffer json;
+
+    private Object untyped;
+    private Map<String, MonitorJsonFieldDiff> fieldDiffs;
+    private List<MonitorDiffFile> files;
+    /** 0 = not inspected yet, 1 = files AST, 2 = field map or other. */
+    private int shape;
 
     public String getText() { return text; }
-    public Object getJson() { return json; }
+
+    /**
+     * The diff as plain maps and lists, shaped as described on this class.
+     */
+    public Object getJson() {
+        if (untyped == null && json != null) {
+            untyped = decode(json, UNTYPED);
+        }
+        return untyped;
+    }
+
+    /**
+     * The per-field diff of a JSON or mixed-mode monitor, keyed by field path,
+     * or null for markdown-mode diffs.
+     */
+    @JsonIgnore
+    public Map<String, MonitorJsonFieldDiff> getFieldDiffs() {
+        if (fieldDiffs == null && json != null && !isFilesShape()) {
+            fieldDiffs = decode(json, FIELD_DIFFS);
+        }
+        return fieldDiffs;
+    }
+
+    /**
+     * The {@code parseDiff} AST of a markdown-mode monitor, or null for JSON
+     * and mixed-mode diffs.
+     */
+    @JsonIgnore
+    public List<MonitorDiffFile> getFiles() {
+        if (files == null && json != null && isFilesShape()) {
+            try (JsonParser parser = json.asParser(MAPPER)) {
+                parser.nextToken(); // {
+                parser.nextToken(); // "files"
+                parser.nextToken(); // [
+                files = MAPPER.readValue(parser, FILES);
+            } catch (IOException e) {
+                throw new FirecrawlException("Failed to decode monitor diff", e);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Iterates over the hunks of the unified diff in {@link #getText()}. Each
+     * hunk is a view into the text, so scanning allocates no copies of it.
+     */
+    public Iterable<MonitorDiffHunk> hunks() {
+        String diff = text;
+        return () -> new MonitorDiffHunk.Scanner(diff);
+    }
+
+    /** Whether the tokens are a single-key {@code {"files": [...]}} object. */
+    private boolean isFilesShape() {
+        if (shape == 0) {
+            shape = 2;
+            try (JsonParser parser = json.asParser(MAPPER)) {
+                if (parser.nextToken() == JsonToken.START_OBJECT
+                        && parser.nextToken() == JsonToken.FIELD_NAME && "files".equals(parser.currentName())
+                        && parser.nextToken() == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    if (parser.nextToken() == JsonToken.END_OBJECT) {
+                        shape = 1;
+                    }
+                }
+            } catch (IOException e) {
+                throw new FirecrawlException("Failed to decode monitor diff", e);
+            }
+        }
+        return shape == 1;
+    }
+
+    private static <T> T decode(TokenBuffer tokens, JavaType type) {
+        try (JsonParser parser = tokens.asParser(MAPPER)) {
+            return MAPPER.readValue(parser, type);
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to decode monitor diff", e);
+        }
+    }
 }
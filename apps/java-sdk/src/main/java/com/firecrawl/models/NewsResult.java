@@ -0,0 +1,49 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * A news search result.
+ */
+@JsonDeserialize(using = NewsResult.Deserializer.class)
+public class NewsResult extends SearchResult {
+
+    private String snippet;
+    private String date;
+    private String imageUrl;
+    private String category;
+
+    public String getSnippet() { return snippet; }
+
+    /** Publication date as reported by the news source, e.g. {@code "2 days ago"}. */
+    public String getDate() { return date; }
+    public String getImageUrl() { return imageUrl; }
+    public String getCategory() { return category; }
+
+    @Override
+    boolean readField(String name, JsonParser parser) throws IOException {
+        switch (name) {
+            case "snippet": snippet = text(parser); return true;
+            case "date": date = text(parser); return true;
+            case "imageUrl": imageUrl = text(parser); return true;
+            case "category": category = text(parser); return true;
+            default: return super.readField(name, parser);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NewsResult{url=" + url + ", title=" + title + "}";
+    }
+
+    static final class Deserializer extends SearchResult.Deserializer<NewsResult> {
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(NewsResult.class, NewsResult::new);
+        }
+    }
+}
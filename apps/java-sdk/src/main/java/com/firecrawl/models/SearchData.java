@@ -1,6 +1,11 @@
 package com.firecrawl.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
 import java.util.Map;
 
@@ -11,21 +16,89 @@ import java.util.Map;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class SearchData {
 
-    private List<Map<String, Object>> web;
-    private List<Map<String, Object>> news;
-    private List<Map<String, Object>> images;
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    private static final TypeReference<List<Map<String, Object>>> MAPS = new TypeReference<List<Map<String, Object>>>() {};
+
+    @JsonProperty("web")
+    private List<WebResult> web;
+    @JsonProperty("news")
+    private List<NewsResult> news;
+    @JsonProperty("images")
+    private List<ImageResult> images;
 
     /** Web search results. */
-    public List<Map<String, Object>> getWeb() { return web; }
-    public void setWeb(List<Map<String, Object>> web) { this.web = web; }
+    @JsonProperty("web")
+    public List<WebResult> getWebResults() { return web; }
+    @JsonProperty("web")
+    public void setWebResults(List<WebResult> web) { this.web = web; }
 
     /** News search results. */
-    public List<Map<String, Object>> getNews() { return news; }
-    public void setNews(List<Map<String, Object>> news) { this.news = news; }
+    @JsonProperty("news")
+    public List<NewsResult> getNewsResults() { return news; }
+    @JsonProperty("news")
+    public void setNewsResults(List<NewsResult> news) { this.news = news; }
 
     /** Image search results. */
-    public List<Map<String, Object>> getImages() { return images; }
-    public void setImages(List<Map<String, Object>> images) { this.images = images; }
+    @JsonProperty("images")
+    public List<ImageResult> getImageResults() { return images; }
+    @JsonProperty("images")
+    public void setImageResults(List<ImageResult> images) { this.images = images; }
+
+    /**
+     * Web search results as plain maps, converted from {@link #getWebResults()}
+     * on every call.
+     *
+     * @deprecated use {@link #getWebResults()}
+     */
+    @Deprecated
+    @JsonIgnore
+    public List<Map<String, Object>> getWeb() { return toMaps(web); }
+
+    /** @deprecated use {@link #setWebResults(List)} */
+    @Deprecated
+    @JsonIgnore
+    public void setWeb(List<Map<String, Object>> web) { this.web = fromMaps(web, WebResult.class); }
+
+    /**
+     * News search results as plain maps, converted from
+     * {@link #getNewsResults()} on every call.
+     *
+     * @deprecated use {@link #getNewsResults()}
+     */
+    @Deprecated
+    @JsonIgnore
+    public List<Map<String, Object>> getNews() { return toMaps(news); }
+
+    /** @deprecated use {@link #setNewsResults(List)} */
+    @Deprecated
+    @JsonIgnore
+    public void setNews(List<Map<String, Object>> news) { this.news = fromMaps(news, NewsResult.class); }
+
+    /**
+     * Image search results as plain maps, converted from
+     * {@link #getImageResults()} on every call.
+     *
+     * @deprecated use {@link #getImageResults()}
+     */
+    @Deprecated
+    @JsonIgnore
+    public List<Map<String, Object>> getImages() { return toMaps(images); }
+
+    /** @deprecated use {@link #setImageResults(List)} */
+    @Deprecated
+    @JsonIgnore
+    public void setImages(List<Map<String, Object>> images) { this.images = fromMaps(images, ImageResult.class); }
+
+    private static List<Map<String, Object>> toMaps(List<? extends SearchResult> results) {
+        return results != null ? MAPPER.convertValue(results, MAPS) : null;
+    }
+
+    private static <T extends SearchResult> List<T> fromMaps(List<Map<String, Object>> maps, Class<T> type) {
+        return maps != null
+                ? MAPPER.convertValue(maps, MAPPER.getTypeFactory().constructCollectionType(List.class, type))
+                : null;
+    }
 
     @Override
     public String toString() {
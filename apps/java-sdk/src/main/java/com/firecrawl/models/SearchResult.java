@@ -0,0 +1,153 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Fields shared by web, news and image search results.
+ *
+ * <p>When the search ran with scrape options, the API merges the scraped
+ * page into the result object. Those fields ({@code markdown},
+ * {@code metadata}, {@code links} and so on) are read straight into
+ * {@link #getDocument()} while the result is parsed; the document is null
+ * when the result carries none of them. Any other field the API sends is
+ * kept in {@link #getAdditionalProperties()}, so newer response fields
+ * survive a round trip through the map views on {@link SearchData}.
+ */
+public abstract class SearchResult {
+
+    String url;
+    String title;
+    Integer position;
+    Document document;
+    private Map<String, Object> additionalProperties;
+
+    public String getUrl() { return url; }
+    public String getTitle() { return title; }
+
+    /** 1-based position in the search engine's ranking, when reported. */
+    public Integer getPosition() { return position; }
+
+    /** The scraped page, or null when the search did not scrape results. */
+    @JsonUnwrapped
+    public Document getDocument() { return document; }
+
+    /** Fields of the result that neither this class nor {@link Document} models; empty when there are none. */
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return additionalProperties != null ? Collections.unmodifiableMap(additionalProperties) : Collections.emptyMap();
+    }
+
+    @JsonAnySetter
+    void setAdditionalProperty(String name, Object value) {
+        if (additionalProperties == null) {
+            additionalProperties = new LinkedHashMap<>();
+        }
+        additionalProperties.put(name, value);
+    }
+
+    /**
+     * Reads the value of field {@code name} if it belongs to this result type.
+     * The parser is positioned on the value.
+     *
+     * @return false if the field is not one of this type's own fields
+     */
+    boolean readField(String name, JsonParser parser) throws IOException {
+        switch (name) {
+            case "url": url = text(parser); return true;
+            case "title": title = text(parser); return true;
+            case "position": position = integer(parser); return true;
+            default: return false;
+        }
+    }
+
+    static String text(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    static Integer integer(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getValueAsInt();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * Streams a result object into its own fields and, for everything else,
+     * into the properties of an embedded {@link Document}. Fields neither
+     * models go to {@link #getAdditionalProperties()}. Known fields are read
+     * once, without an intermediate tree or buffer.
+     */
+    static class Deserializer<T extends SearchResult> extends StdDeserializer<T> implements ResolvableDeserializer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Supplier<T> factory;
+        private BeanDeserializerBase documentProperties;
+
+        Deserializer(Class<T> type, Supplier<T> factory) {
+            super(type);
+            this.factory = factory;
+        }
+
+        @Override
+        public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+            JsonDeserializer<Object> deserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Document.class));
+            if (!(deserializer instanceof BeanDeserializerBase)) {
+                ctxt.reportBadDefinition(ctxt.constructType(Document.class),
+                        "Search results need a bean deserializer for Document");
+            }
+            documentProperties = (BeanDeserializerBase) deserializer;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (T) ctxt.handleUnexpectedToken(handledType(), parser);
+            }
+            T result = factory.get();
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String name = parser.currentName();
+                parser.nextToken();
+                if (result.readField(name, parser)) {
+                    continue;
+                }
+                SettableBeanProperty property = documentProperties.findProperty(name);
+                if (property == null) {
+                    result.setAdditionalProperty(name, ctxt.readValue(parser, Object.class));
+                    continue;
+                }
+                if (result.document == null) {
+                    result.document = new Document();
+                }
+                property.deserializeAndSet(parser, ctxt, result.document);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * A web search result.
+ */
+@JsonDeserialize(using = WebResult.Deserializer.class)
+public class WebResult extends SearchResult {
+
+    private String description;
+    private String category;
+
+    public String getDescription() { return description; }
+
+    /** Result category, such as {@code github} or {@code research}, when the search was filtered by one. */
+    public String getCategory() { return category; }
+
+    @Override
+    boolean readField(String name, JsonParser parser) throws IOException {
+        switch (name) {
+            case "description": description = text(parser); return true;
+            case "category": category = text(parser); return true;
+            default: return super.readField(name, parser);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WebResult{url=" + url + ", title=" + title + "}";
+    }
+
+    static final class Deserializer extends SearchResult.Deserializer<WebResult> {
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(WebResult.class, WebResult::new);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.firecrawl.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A webhook delivery sent by Firecrawl for a crawl, batch scrape, or agent job.
+ *
+ * <p>The {@code type} is {@code "<job>.<event>"}, e.g. {@code "crawl.page"},
+ * {@code "batch_scrape.completed"} or {@code "agent.failed"}. For crawl and
+ * batch scrape {@code page} events, {@link #getDocuments()} holds the
+ * scraped documents carried by the delivery.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WebhookEvent {
+
+    private boolean success;
+    private String type;
+    private String id;
+    private Object data;
+    private Map<String, Object> metadata;
+    private String error;
+    @JsonIgnore
+    private List<Document> documents = Collections.emptyList();
+
+    public boolean isSuccess() { return success; }
+    public String getType() { return type; }
+    /** The ID of the job this event belongs to. */
+    public String getId() { return id; }
+    /** Raw event payload; for page events use {@link #getDocuments()}. */
+    public Object getData() { return data; }
+    /** Metadata supplied in the job's {@link WebhookConfig}. */
+    public Map<String, Object> getMetadata() { return metadata; }
+    public String getError() { return error; }
+    /** Documents delivered with this event (empty for non-page events). */
+    public List<Document> getDocuments() { return documents; }
+    public void setDocuments(List<Document> documents) { this.documents = documents; }
+
+    /** The job kind: "crawl", "batch_scrape", or "agent". */
+    @JsonIgnore
+    public String getJobType() {
+        int dot = type != null ? type.lastIndexOf('.') : -1;
+        return dot >= 0 ? type.substring(0, dot) : null;
+    }
+
+    /** The event name without the job prefix: "started", "page", "completed", "failed", ... */
+    @JsonIgnore
+    public String getEvent() {
+        if (type == null) {
+            return null;
+        }
+        int dot = type.lastIndexOf('.');
+        return dot >= 0 ? type.substring(dot + 1) : type;
+    }
+
+    /** Returns true if this event ends the job (completed, failed, or cancelled). */
+    @JsonIgnore
+    public boolean isTerminal() {
+        String event = getEvent();
+        return "completed".equals(event) || "failed".equals(event) || "cancelled".equals(event);
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookEvent{type=" + type + ", id=" + id + ", documents=" + documents.size() + "}";
+    }
+}
@@ -0,0 +1,320 @@
+package com.firecrawl.webhook;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.Document;
+import com.firecrawl.models.WebhookEvent;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Embeddable HTTP endpoint that receives Firecrawl webhook deliveries, so
+ * callers can react to job progress without polling.
+ *
+ * <p>Each POST is optionally signature-checked (see {@link WebhookSignature}),
+ * parsed into a {@link WebhookEvent}, and dispatched to the registered handlers.
+ * Terminal events ({@code completed}, {@code failed}, {@code cancelled})
+ * also complete the future returned by {@link #awaitCompletion(String)}.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * WebhookReceiver receiver = WebhookReceiver.builder()
+ *     .port(8080)
+ *     .secret(System.getenv("FIRECRAWL_WEBHOOK_SECRET"))
+ *     .onPage(event -> event.getDocuments().forEach(this::index))
+ *     .build()
+ *     .start();
+ *
+ * CrawlJob job = client.crawlAsync("https://example.com",
+ *     CrawlOptions.builder()
+ *         .webhook(WebhookConfig.builder().url("https://my-host.example.com/firecrawl/webhook").build())
+ *         .build(),
+ *     receiver).join();
+ * }</pre>
+ */
+public final class WebhookReceiver implements AutoCloseable {
+
+    private final String host;
+    private final int port;
+    private final String path;
+    private final String secret;
+    private final int maxBufferedCompletions;
+    private final List<Consumer<WebhookEvent>> handlers;
+    private final Map<String, List<Consumer<WebhookEvent>>> eventHandlers;
+    private final ObjectMapper objectMapper;
+    private final CollectionType documentListType;
+
+    /** Futures callers are awaiting, by job ID; never evicted, removed once complete. */
+    private final Map<String, CompletableFuture<WebhookEvent>> waiters = new HashMap<>();
+    /** Terminal events by job ID, least recently used first; bounded so unawaited jobs do not accumulate. */
+    private final Map<String, WebhookEvent> buffered;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private WebhookReceiver(Builder builder) {
+        this.host = builder.host;
+        this.port = builder.port;
+        this.path = builder.path;
+        this.secret = builder.secret;
+        this.maxBufferedCompletions = builder.maxBufferedCompletions;
+        this.handlers = new ArrayList<>(builder.handlers);
+        this.eventHandlers = new LinkedHashMap<>(builder.eventHandlers);
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new Jdk8Module())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.documentListType = objectMapper.getTypeFactory().constructCollectionType(List.class, Document.class);
+        this.buffered = new LinkedHashMap<String, WebhookEvent>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WebhookEvent> eldest) {
+                return size() > maxBufferedCompletions;
+            }
+        };
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Binds the HTTP server and starts accepting deliveries.
+     *
+     * @return this receiver
+     */
+    public synchronized WebhookReceiver start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        } catch (IOException e) {
+            throw new FirecrawlException("Failed to bind webhook receiver on " + host + ":" + port, e);
+        }
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "firecrawl-webhook");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext(path, this::handle);
+        server.start();
+        return this;
+    }
+
+    /** Stops the HTTP server. Pending {@link #awaitCompletion(String)} futures are left untouched. */
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+        }
+    }
+
+    /** The port the receiver is bound to (useful when started on port 0). */
+    public synchronized int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("Webhook receiver is not started");
+        }
+        return server.getAddress().getPort();
+    }
+
+    /** The local URL deliveries should be posted to, e.g. {@code http://127.0.0.1:8080/firecrawl/webhook}. */
+    public String getUrl() {
+        return "http://" + host + ":" + getPort() + path;
+    }
+
+    /**
+     * Returns a future that completes with the terminal event for {@code jobId}.
+     * Terminal events that arrive before this call are buffered (up to
+     * {@link Builder#maxBufferedCompletions(int)} of them), so it is safe to
+     * call after the job has been started. A pending future is never evicted;
+     * bound the wait with {@link CompletableFuture#orTimeout}, which also
+     * releases it.
+     *
+     * @param jobId the job ID
+     * @return a future completed with the job's completed, failed, or cancelled event
+     */
+    public CompletableFuture<WebhookEvent> awaitCompletion(String jobId) {
+        Objects.requireNonNull(jobId, "Job ID is required");
+        CompletableFuture<WebhookEvent> future;
+        synchronized (waiters) {
+            WebhookEvent event = buffered.get(jobId);
+            if (event != null) {
+                return CompletableFuture.completedFuture(event);
+            }
+            future = waiters.computeIfAbsent(jobId, id -> new CompletableFuture<>());
+        }
+        future.whenComplete((event, error) -> {
+            synchronized (waiters) {
+                waiters.remove(jobId, future);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Parses and dispatches one delivery body. Exposed for frameworks that
+     * terminate HTTP themselves (e.g. a servlet) and only need the dispatching.
+     *
+     * @param body      the raw request body
+     * @param signature the {@value WebhookSignature#HEADER} header value, or null
+     * @return the parsed event
+     * @throws FirecrawlException if the signature is invalid or the body is malformed
+     */
+    public WebhookEvent dispatch(byte[] body, String signature) {
+        if (secret != null && !WebhookSignature.verify(secret, body, signature)) {
+            throw new FirecrawlException("Invalid webhook signature", 401);
+        }
+        WebhookEvent event;
+        try {
+            event = objectMapper.readValue(body, WebhookEvent.class);
+        } catch (IOException e) {
+            throw new FirecrawlException("Malformed webhook payload", e);
+        }
+        if ("page".equals(event.getEvent()) && event.getData() instanceof List) {
+            List<Document> documents = objectMapper.convertValue(event.getData(), documentListType);
+            event.setDocuments(Collections.unmodifiableList(documents));
+        }
+        for (Consumer<WebhookEvent> handler : handlers) {
+            handler.accept(event);
+        }
+        List<Consumer<WebhookEvent>> matching = eventHandlers.get(event.getEvent());
+        if (matching != null) {
+            for (Consumer<WebhookEvent> handler : matching) {
+                handler.accept(event);
+            }
+        }
+        List<Consumer<WebhookEvent>> exact = eventHandlers.get(event.getType());
+        if (exact != null) {
+            for (Consumer<WebhookEvent> handler : exact) {
+                handler.accept(event);
+            }
+        }
+        if (event.isTerminal() && event.getId() != null) {
+            CompletableFuture<WebhookEvent> future;
+            synchronized (waiters) {
+                buffered.put(event.getId(), event);
+                future = waiters.remove(event.getId());
+            }
+            if (future != null) {
+                future.complete(event);
+            }
+        }
+        return event;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            int status;
+            try {
+                dispatch(body, exchange.getRequestHeaders().getFirst(WebhookSignature.HEADER));
+                status = 200;
+            } catch (FirecrawlException e) {
+                status = e.getStatusCode() == 401 ? 401 : 400;
+            } catch (RuntimeException e) {
+                // Handler failure: report it so the sender can retry the delivery
+                status = 500;
+            }
+            exchange.sendResponseHeaders(status, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ================================================================
+    // BUILDER
+    // ================================================================
+
+    public static final class Builder {
+
+        private String host = "127.0.0.1";
+        private int port = 0;
+        private String path = "/firecrawl/webhook";
+        private String secret;
+        private int maxBufferedCompletions = 1024;
+        private final List<Consumer<WebhookEvent>> handlers = new ArrayList<>();
+        private final Map<String, List<Consumer<WebhookEvent>>> eventHandlers = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        /** Interface to bind to. Default: 127.0.0.1; use "0.0.0.0" to accept external deliveries. */
+        public Builder host(String host) { this.host = host; return this; }
+
+        /** Port to bind to. Default: 0 (an ephemeral port, see {@link #getPort()}). */
+        public Builder port(int port) { this.port = port; return this; }
+
+        /** Request path deliveries are posted to. Default: /firecrawl/webhook. */
+        public Builder path(String path) { this.path = path; return this; }
+
+        /** Webhook secret; when set, deliveries without a valid signature are rejected with 401. */
+        public Builder secret(String secret) { this.secret = secret; return this; }
+
+        /**
+         * Maximum terminal events buffered for later {@link #awaitCompletion(String)} calls,
+         * least recently used evicted first. Futures already being awaited do not count
+         * against this bound and are never evicted. Default: 1024.
+         */
+        public Builder maxBufferedCompletions(int maxBufferedCompletions) {
+            this.maxBufferedCompletions = maxBufferedCompletions;
+            return this;
+        }
+
+        /** Handler invoked for every event. */
+        public Builder onEvent(Consumer<WebhookEvent> handler) {
+            handlers.add(Objects.requireNonNull(handler, "Handler is required"));
+            return this;
+        }
+
+        /**
+         * Handler invoked for one event, given either as a full type
+         * ({@code "crawl.page"}) or as the event name for every job kind ({@code "page"}).
+         */
+        public Builder on(String event, Consumer<WebhookEvent> handler) {
+            Objects.requireNonNull(event, "Event is required");
+            eventHandlers.computeIfAbsent(event, e -> new ArrayList<>())
+                    .add(Objects.requireNonNull(handler, "Handler is required"));
+            return this;
+        }
+
+        /** Shorthand for {@code on("page", handler)}: streams documents as they are scraped. */
+        public Builder onPage(Consumer<WebhookEvent> handler) { return on("page", handler); }
+
+        public WebhookReceiver build() {
+            if (path == null || !path.startsWith("/")) {
+                throw new IllegalArgumentException("Webhook path must start with '/'");
+            }
+            if (maxBufferedCompletions < 1) {
+                throw new IllegalArgumentException("maxBufferedCompletions must be positive");
+            }
+            return new WebhookReceiver(this);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.firecrawl.webhook;
+
+import com.firecrawl.errors.FirecrawlException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Locale;
+
+/**
+ * HMAC-SHA256 signing and verification of webhook deliveries.
+ *
+ * <p>Firecrawl signs the raw request body with the team's webhook secret and
+ * sends the result in the {@value #HEADER} header as {@code sha256=<hex>}.
+ */
+public final class WebhookSignature {
+
+    /** Header that carries the signature. */
+    public static final String HEADER = "X-Firecrawl-Signature";
+
+    private static final String PREFIX = "sha256=";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private WebhookSignature() {}
+
+    /**
+     * Computes the header value for {@code body}, as Firecrawl would send it.
+     * Useful for fake senders in tests.
+     *
+     * @param secret the webhook secret
+     * @param body   the raw request body
+     * @return the signature header value ({@code sha256=<hex>})
+     */
+    public static String sign(String secret, byte[] body) {
+        byte[] digest = hmac(secret, body);
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return PREFIX + new String(hex);
+    }
+
+    /**
+     * Verifies a signature header against the raw body in constant time.
+     *
+     * @param secret    the webhook secret
+     * @param body      the raw request body
+     * @param signature the received header value, with or without the {@code sha256=} prefix
+     * @return true if the signature matches
+     */
+    public static boolean verify(String secret, byte[] body, String signature) {
+        if (signature == null || signature.isEmpty()) {
+            return false;
+        }
+        String expected = sign(secret, body);
+        String received = signature.trim().toLowerCase(Locale.ROOT);
+        if (!received.startsWith(PREFIX)) {
+            received = PREFIX + received;
+        }
+        return MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.US_ASCII),
+                received.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] hmac(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new FirecrawlException("HmacSHA256 is not available", e);
+        }
+    }
+}
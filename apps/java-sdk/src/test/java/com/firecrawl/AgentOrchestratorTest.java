@@ -0,0 +1,145 @@
+package com.firecrawl;
+
+import com.firecrawl.client.AgentOrchestrator;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.errors.JobTimeoutException;
+import com.firecrawl.models.AgentOptions;
+import com.firecrawl.models.AgentStatusResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the agent job orchestrator.
+ */
+class AgentOrchestratorTest {
+
+    /** A fake agent API; job aN completes after {@code polls} status checks, reporting {@code credits}. */
+    private static final class Agents implements AutoCloseable {
+        final MockApiServer server = new MockApiServer();
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final List<String> finishOrder = Collections.synchronizedList(new ArrayList<>());
+
+        Agents(int polls, int credits) throws Exception {
+            server.on("POST /v2/agent", exchange -> {
+                String id = "a" + started.incrementAndGet();
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                return MockApiServer.json("{\"success\":true,\"id\":\"" + id + "\"}");
+            });
+            for (int i = 1; i <= 10; i++) {
+                String id = "a" + i;
+                AtomicInteger checks = new AtomicInteger();
+                server.on("GET /v2/agent/" + id, exchange -> {
+                    if (polls < 0 || checks.incrementAndGet() < polls) {
+                        return MockApiServer.json("{\"success\":true,\"status\":\"processing\",\"creditsUsed\":5}");
+                    }
+                    running.decrementAndGet();
+                    finishOrder.add(id);
+                    return MockApiServer.json("{\"success\":true,\"status\":\"completed\",\"data\":{\"id\":\"" + id
+                            + "\"},\"creditsUsed\":" + credits + "}");
+                });
+                server.on("DELETE /v2/agent/" + id, MockApiServer.json("{\"success\":true}"));
+            }
+        }
+
+        AgentOrchestrator.Builder orchestrator() {
+            FirecrawlClient client = FirecrawlClient.builder()
+                    .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+            return AgentOrchestrator.builder(client).pollInterval(Duration.ofMillis(20));
+        }
+
+        @Override
+        public void close() {
+            server.close();
+        }
+    }
+
+    private static AgentOptions task(String prompt, Integer maxCredits) {
+        return AgentOptions.builder().prompt(prompt).maxCredits(maxCredits).build();
+    }
+
+    @Test
+    void testConcurrencyIsCappedAndResultsStream() throws Exception {
+        try (Agents agents = new Agents(3, 10)) {
+            List<String> streamed = Collections.synchronizedList(new ArrayList<>());
+            try (AgentOrchestrator orchestrator = agents.orchestrator().maxConcurrentJobs(2)
+                    .listener(job -> streamed.add(job.getJobId())).build()) {
+                List<AgentOrchestrator.Job> jobs = new ArrayList<>();
+                for (int i = 0; i < 6; i++) {
+                    jobs.add(orchestrator.submit(task("task " + i, null)));
+                }
+
+                assertTrue(orchestrator.awaitIdle(Duration.ofSeconds(10)));
+                for (AgentOrchestrator.Job job : jobs) {
+                    AgentStatusResponse status = job.getResult().get(5, TimeUnit.SECONDS);
+                    assertEquals("completed", status.getStatus());
+                    assertEquals(AgentOrchestrator.State.DONE, job.getState());
+                    assertEquals(10, job.getCreditsUsed());
+                }
+                assertEquals(6, agents.started.get());
+                assertEquals(2, agents.peak.get());
+                assertEquals(Set.copyOf(agents.finishOrder), Set.copyOf(streamed));
+                assertEquals(6, streamed.size());
+                assertEquals(60, orchestrator.getCreditsSpent());
+                assertEquals(0, orchestrator.getCreditsReserved());
+            }
+        }
+    }
+
+    @Test
+    void testCreditBudgetHoldsBackAndRejectsJobs() throws Exception {
+        try (Agents agents = new Agents(2, 60);
+             AgentOrchestrator orchestrator = agents.orchestrator().creditBudget(250).build()) {
+            assertThrows(IllegalArgumentException.class, () -> orchestrator.submit(task("unbounded", null)));
+
+            List<AgentOrchestrator.Job> jobs = orchestrator.submitAll(List.of(
+                    task("one", 100), task("two", 100), task("three", 100), task("four", 100)));
+
+            assertTrue(orchestrator.awaitIdle(Duration.ofSeconds(10)));
+            // 100 + 100 reserved, so three waits until both report 60 each; four would exceed 180 + 100
+            assertEquals(2, agents.peak.get());
+            assertEquals(3, agents.started.get());
+            assertEquals("completed", jobs.get(2).getResult().get(5, TimeUnit.SECONDS).getStatus());
+            ExecutionException e = assertThrows(ExecutionException.class, () -> jobs.get(3).getResult().get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof FirecrawlException);
+            assertNull(jobs.get(3).getJobId());
+            assertEquals(180, orchestrator.getCreditsSpent());
+        }
+    }
+
+    @Test
+    void testTimeoutAndCancelStopJobsOnTheApi() throws Exception {
+        try (Agents agents = new Agents(-1, 0);
+             AgentOrchestrator orchestrator = agents.orchestrator().maxConcurrentJobs(1)
+                     .jobTimeout(Duration.ofMillis(200)).creditBudget(1000).build()) {
+            AgentOrchestrator.Job slow = orchestrator.submit(task("slow", 50));
+            AgentOrchestrator.Job queued = orchestrator.submit(task("queued", 50));
+            assertTrue(queued.cancel());
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> slow.getResult().get(5, TimeUnit.SECONDS));
+            JobTimeoutException timeout = (JobTimeoutException) e.getCause();
+            assertEquals("a1", timeout.getJobId());
+            assertTrue(orchestrator.awaitIdle(Duration.ofSeconds(5)));
+            assertEquals(1, agents.started.get());
+            assertEquals(50, orchestrator.getCreditsSpent());
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (agents.server.count("DELETE /v2/agent/a1") == 0) {
+                assertTrue(System.nanoTime() < deadline, "timed out job should be cancelled");
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.firecrawl;
+
+import com.firecrawl.client.BrowserExecutionQueue;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.BrowserExecuteResponse;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for per-session browser execution queues.
+ */
+class BrowserExecutionQueueTest {
+
+    private static final Pattern CODE = Pattern.compile("\"code\":\"([^\"]*)\"");
+
+    /** Runs scripts slowly, records them in arrival order, and fails any script named "fail". */
+    private static final class Sessions {
+        final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+
+        Function<HttpExchange, MockApiServer.Reply> session(String id) {
+            return exchange -> {
+                String code = code(exchange);
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                executed.add(id + ":" + code);
+                return code.equals("fail")
+                        ? MockApiServer.status(400, "{\"success\":false,\"error\":\"bad script\"}")
+                        : MockApiServer.json("{\"success\":true,\"stdout\":\"" + code + "\",\"exitCode\":0}");
+            };
+        }
+
+        List<String> executedBy(String id) {
+            List<String> scripts = new ArrayList<>();
+            synchronized (executed) {
+                for (String entry : executed) {
+                    if (entry.startsWith(id + ":")) {
+                        scripts.add(entry.substring(id.length() + 1));
+                    }
+                }
+            }
+            return scripts;
+        }
+
+        private static String code(HttpExchange exchange) {
+            try {
+                Matcher matcher = CODE.matcher(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                return matcher.find() ? matcher.group(1) : "";
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static FirecrawlClient client(MockApiServer server) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+    }
+
+    @Test
+    void testScriptsRunInOrderPerSessionAndSessionsInParallel() throws Exception {
+        Sessions sessions = new Sessions();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/browser/s1/execute", sessions.session("s1"));
+            server.on("POST /v2/browser/s2/execute", sessions.session("s2"));
+            server.on("POST /v2/scrape/job1/interact", sessions.session("job1"));
+            BrowserExecutionQueue queue = BrowserExecutionQueue.builder(client(server)).executor(executor).build();
+
+            Map<String, List<CompletableFuture<BrowserExecuteResponse>>> futures = queue.submitAll(Map.of(
+                    "s1", List.of("a", "b", "c", "d"),
+                    "s2", List.of("w", "x", "y", "z")), "bash", null);
+            CompletableFuture<BrowserExecuteResponse> interacted = queue.submitInteract("job1", "i", null, null);
+
+            assertEquals("d", futures.get("s1").get(3).get(5, TimeUnit.SECONDS).getStdout());
+            queue.whenIdle("s2").get(5, TimeUnit.SECONDS);
+            assertEquals("i", interacted.get(5, TimeUnit.SECONDS).getStdout());
+            for (CompletableFuture<BrowserExecuteResponse> future : futures.get("s2")) {
+                assertTrue(future.isDone());
+            }
+
+            assertEquals(List.of("a", "b", "c", "d"), sessions.executedBy("s1"));
+            assertEquals(List.of("w", "x", "y", "z"), sessions.executedBy("s2"));
+            assertTrue(sessions.peak.get() >= 2, "sessions should overlap");
+            assertTrue(sessions.peak.get() <= 3, "at most one call per session at a time");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDefaultPoolBoundsSessionsInFlight() throws Exception {
+        Sessions sessions = new Sessions();
+        try (MockApiServer server = new MockApiServer()) {
+            List<String> ids = List.of("s1", "s2", "s3", "s4");
+            for (String id : ids) {
+                server.on("POST /v2/browser/" + id + "/execute", sessions.session(id));
+            }
+            BrowserExecutionQueue queue = BrowserExecutionQueue.builder(client(server)).threads(2).build();
+
+            List<CompletableFuture<BrowserExecuteResponse>> futures = new ArrayList<>();
+            for (String id : ids) {
+                futures.addAll(queue.submitAll(id, List.of("a", "b"), "bash", null));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+            assertEquals(8, sessions.executed.size());
+            assertEquals(2, sessions.peak.get(), "two threads keep two sessions busy, never more");
+            assertThrows(IllegalArgumentException.class,
+                    () -> BrowserExecutionQueue.builder(client(server)).threads(0).build());
+        }
+    }
+
+    @Test
+    void testFailureAndCancellationDoNotStallTheQueue() throws Exception {
+        Sessions sessions = new Sessions();
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/browser/s1/execute", sessions.session("s1"));
+            BrowserExecutionQueue queue = BrowserExecutionQueue.builder(client(server)).build();
+
+            CompletableFuture<BrowserExecuteResponse> first = queue.submit("s1", "first");
+            CompletableFuture<BrowserExecuteResponse> failed = queue.submit("s1", "fail");
+            CompletableFuture<BrowserExecuteResponse> skipped = queue.submit("s1", "skipped");
+            CompletableFuture<BrowserExecuteResponse> last = queue.submit("s1", "last");
+            assertTrue(skipped.cancel(false));
+
+            assertEquals("last", last.get(5, TimeUnit.SECONDS).getStdout());
+            assertEquals("first", first.join().getStdout());
+            CompletionException e = assertThrows(CompletionException.class, failed::join);
+            assertTrue(e.getCause() instanceof FirecrawlException);
+            assertEquals(List.of("first", "fail", "last"), sessions.executedBy("s1"));
+
+            queue.whenIdle("s1").get(5, TimeUnit.SECONDS);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (queue.getActiveSessions() > 0) {
+                assertTrue(System.nanoTime() < deadline, "drained session should be forgotten");
+                Thread.sleep(10);
+            }
+        }
+    }
+}
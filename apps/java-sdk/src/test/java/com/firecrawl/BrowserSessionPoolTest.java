@@ -0,0 +1,156 @@
+package com.firecrawl;
+
+import com.firecrawl.client.BrowserSessionPool;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.FirecrawlException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the browser session pool.
+ */
+class BrowserSessionPoolTest {
+
+    /** A fake browser API; sessions b1, b2, ... stay active until deleted or removed from {@code active}. */
+    private static final class Browsers implements AutoCloseable {
+        final MockApiServer server = new MockApiServer();
+        final Set<String> active = ConcurrentHashMap.newKeySet();
+        final AtomicInteger created = new AtomicInteger();
+        volatile boolean listingDown;
+
+        Browsers() throws Exception {
+            server.on("POST /v2/browser", exchange -> {
+                String id = "b" + created.incrementAndGet();
+                active.add(id);
+                return MockApiServer.json("{\"success\":true,\"id\":\"" + id + "\",\"cdpUrl\":\"wss://cdp/" + id
+                        + "\",\"expiresAt\":\"2999-01-01T00:00:00Z\"}");
+            });
+            server.on("GET /v2/browser", exchange -> listingDown
+                    ? MockApiServer.status(503, "{\"success\":false,\"error\":\"Service unavailable\"}")
+                    : MockApiServer.json(active.stream()
+                    .map(id -> "{\"id\":\"" + id + "\",\"status\":\"active\"}")
+                    .collect(Collectors.joining(",", "{\"success\":true,\"sessions\":[", "]}"))));
+            for (int i = 1; i <= 10; i++) {
+                String id = "b" + i;
+                server.on("POST /v2/browser/" + id + "/execute", exchange -> active.contains(id)
+                        ? MockApiServer.json("{\"success\":true,\"stdout\":\"ok\",\"exitCode\":0}")
+                        : MockApiServer.status(410, "{\"success\":false,\"error\":\"Browser session has been destroyed.\"}"));
+                server.on("DELETE /v2/browser/" + id, exchange -> {
+                    active.remove(id);
+                    return MockApiServer.json("{\"success\":true}");
+                });
+            }
+        }
+
+        BrowserSessionPool.Builder pool() {
+            FirecrawlClient client = FirecrawlClient.builder()
+                    .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+            return BrowserSessionPool.builder(client);
+        }
+
+        @Override
+        public void close() {
+            server.close();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void testLeasesReuseSessionsAndWaitAtMaximum() throws Exception {
+        try (Browsers browsers = new Browsers();
+             BrowserSessionPool pool = browsers.pool().minSessions(0).maxSessions(1).build()) {
+            BrowserSessionPool.Lease first = pool.lease();
+            assertEquals("b1", first.getSessionId());
+            assertEquals("ok", first.execute("echo ok").getStdout());
+
+            assertThrows(FirecrawlException.class, () -> pool.lease(Duration.ofMillis(100)));
+            CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> {
+                try (BrowserSessionPool.Lease lease = pool.lease()) {
+                    return lease.getSessionId();
+                }
+            });
+            await(() -> pool.getStats().getWaiting() == 1);
+            first.close();
+
+            assertEquals("b1", waiter.get(5, TimeUnit.SECONDS));
+            BrowserSessionPool.Stats stats = pool.getStats();
+            assertEquals(1, stats.getSessionsCreated());
+            assertEquals(2, stats.getLeasesGranted());
+            assertEquals(1, stats.getPeakLeased());
+            assertEquals(1, stats.getIdle());
+            assertEquals(0.0, stats.getUtilization());
+        }
+    }
+
+    @Test
+    void testGoneSessionIsReplaced() throws Exception {
+        try (Browsers browsers = new Browsers();
+             BrowserSessionPool pool = browsers.pool().minSessions(0).maxSessions(1).build()) {
+            try (BrowserSessionPool.Lease lease = pool.lease()) {
+                browsers.active.remove(lease.getSessionId());
+                FirecrawlException e = assertThrows(FirecrawlException.class, () -> lease.execute("echo hi"));
+                assertEquals(410, e.getStatusCode());
+            }
+
+            try (BrowserSessionPool.Lease lease = pool.lease()) {
+                assertEquals("b2", lease.getSessionId());
+            }
+            assertEquals(1, pool.getStats().getSessionsReplaced());
+        }
+    }
+
+    @Test
+    void testMaintenanceWarmsPingsAndReconciles() throws Exception {
+        try (Browsers browsers = new Browsers()) {
+            BrowserSessionPool pool = browsers.pool().minSessions(2).maxSessions(4)
+                    .keepAliveInterval(Duration.ofMillis(200)).build();
+
+            await(() -> pool.getStats().getIdle() == 2);
+            await(() -> browsers.server.count("POST /v2/browser/b1/execute") > 0
+                    && browsers.server.count("POST /v2/browser/b2/execute") > 0);
+
+            // The API drops b1 on its own; the pool notices and opens a replacement
+            browsers.active.remove("b1");
+            await(() -> pool.getStats().getSessionsReplaced() == 1 && pool.getStats().getIdle() == 2);
+            assertEquals(3, pool.getStats().getSessionsCreated());
+
+            pool.close();
+            await(() -> browsers.active.isEmpty());
+            assertThrows(IllegalStateException.class, pool::lease);
+        }
+    }
+
+    @Test
+    void testKeepAliveContinuesWhileListingFails() throws Exception {
+        try (Browsers browsers = new Browsers()) {
+            browsers.listingDown = true;
+            BrowserSessionPool pool = browsers.pool().minSessions(1).maxSessions(2)
+                    .keepAliveInterval(Duration.ofMillis(200)).build();
+
+            await(() -> browsers.server.count("POST /v2/browser/b1/execute") >= 3);
+            assertEquals(1, pool.getStats().getOpen());
+            assertEquals(1, pool.getStats().getSessionsCreated());
+            assertEquals(0, pool.getStats().getSessionsReplaced());
+            assertNotNull(pool.getStats().getLastError(), "the failed listing is still reported");
+
+            pool.close();
+        }
+    }
+}
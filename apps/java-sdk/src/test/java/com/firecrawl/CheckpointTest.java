@@ -0,0 +1,117 @@
+package com.firecrawl;
+
+import com.firecrawl.client.Checkpoint;
+import com.firecrawl.client.CheckpointStore;
+import com.firecrawl.client.FileCheckpointStore;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.InMemoryCheckpointStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.firecrawl.Fixtures.markdown;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for resumable crawl/batch consumption against a local fake API.
+ */
+class CheckpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String page(String base, String jobPath, String status, int from, int to, Integer nextSkip) {
+        StringBuilder data = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            if (data.length() > 0) data.append(',');
+            data.append("{\"markdown\":\"doc").append(i).append("\"}");
+        }
+        String next = nextSkip != null ? ",\"next\":\"" + base + jobPath + "?skip=" + nextSkip + "\"" : "";
+        return "{\"success\":true,\"status\":\"" + status + "\",\"total\":5,\"completed\":5,\"data\":["
+                + data + "]" + next + "}";
+    }
+
+    private static MockApiServer serveJob(String jobPath) throws Exception {
+        MockApiServer server = new MockApiServer();
+        String base = server.url();
+        server.on("GET " + jobPath, exchange -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            if ("skip=2".equals(query)) return MockApiServer.json(page(base, jobPath, "completed", 2, 4, 4));
+            if ("skip=4".equals(query)) return MockApiServer.json(page(base, jobPath, "completed", 4, 5, null));
+            return MockApiServer.json(page(base, jobPath, "completed", 0, 2, 2));
+        });
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+    }
+
+    @Test
+    void testConsumeCrawlResumesFromLastSavedCursor() throws Exception {
+        try (MockApiServer server = serveJob("/v2/crawl/job-1")) {
+            CheckpointStore store = new InMemoryCheckpointStore();
+            List<String> seen = new ArrayList<>();
+
+            RuntimeException crash = assertThrows(RuntimeException.class, () ->
+                    client(server).consumeCrawl("job-1", store, docs -> {
+                        if (docs.get(0).getMarkdown().equals("doc2")) {
+                            throw new RuntimeException("consumer died");
+                        }
+                        seen.addAll(markdown(docs));
+                    }));
+            assertEquals("consumer died", crash.getMessage());
+            assertEquals(List.of("doc0", "doc1"), seen);
+            assertEquals(1, store.load("crawl-job-1").getPages());
+
+            server.requests().clear();
+            Checkpoint done = client(server).consumeCrawl("job-1", store, docs -> seen.addAll(markdown(docs)));
+
+            assertEquals(List.of("doc0", "doc1", "doc2", "doc3", "doc4"), seen);
+            assertEquals(List.of("GET /v2/crawl/job-1?skip=2", "GET /v2/crawl/job-1?skip=4"), server.requests());
+            assertTrue(done.isCompleted());
+            assertEquals(3, done.getPages());
+            assertEquals(5, done.getItems());
+            assertNull(done.getNext());
+        }
+    }
+
+    @Test
+    void testConsumeCompletedJobMakesNoRequests() throws Exception {
+        try (MockApiServer server = serveJob("/v2/batch/scrape/batch-1")) {
+            CheckpointStore store = new FileCheckpointStore(tempDir);
+            List<String> seen = new ArrayList<>();
+            client(server).consumeBatchScrape("batch-1", store, docs -> seen.addAll(markdown(docs)));
+            assertEquals(5, seen.size());
+
+            server.requests().clear();
+            Checkpoint again = client(server).consumeBatchScrape("batch-1", store, docs -> fail("already consumed"));
+            assertTrue(again.isCompleted());
+            assertTrue(server.requests().isEmpty());
+        }
+    }
+
+    @Test
+    void testFileCheckpointStoreRoundTrip() {
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("nested"));
+        assertNull(store.load("crawl-a/b"));
+
+        Checkpoint checkpoint = new Checkpoint("a/b", "https://api.firecrawl.dev/v2/crawl/a?skip=10", 1, 10, false, 42L);
+        store.save("crawl-a/b", checkpoint);
+        Checkpoint loaded = store.load("crawl-a/b");
+        assertEquals("a/b", loaded.getJobId());
+        assertEquals(checkpoint.getNext(), loaded.getNext());
+        assertEquals(10, loaded.getItems());
+        assertFalse(loaded.isCompleted());
+
+        store.save("crawl-a/b", loaded.advance(null, 3));
+        assertTrue(store.load("crawl-a/b").isCompleted());
+        assertEquals(13, store.load("crawl-a/b").getItems());
+
+        store.delete("crawl-a/b");
+        assertNull(store.load("crawl-a/b"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.firecrawl;
+
+import com.firecrawl.client.CircuitBreakerConfig;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.CircuitBreakerOpenException;
+import com.firecrawl.errors.FirecrawlException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the per-endpoint circuit breaker.
+ */
+class CircuitBreakerTest {
+
+    private static final String OK = "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}";
+
+    private static FirecrawlClient client(MockApiServer server, int maxRetries, CircuitBreakerConfig config) {
+        return FirecrawlClient.builder()
+                .apiKey("fc-test-key")
+                .apiUrl(server.url())
+                .maxRetries(maxRetries)
+                .backoffFactor(0.01)
+                .circuitBreaker(config)
+                .build();
+    }
+
+    @Test
+    void testOpensFailsFastAndRecoversThroughHalfOpen() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            AtomicBoolean healthy = new AtomicBoolean(false);
+            server.on("POST /v2/scrape", exchange -> healthy.get()
+                    ? MockApiServer.json(OK)
+                    : MockApiServer.status(503, "{\"error\":\"unavailable\"}"));
+            server.on("GET /v2/crawl/job-1", MockApiServer.json("{\"status\":\"scraping\",\"data\":[]}"));
+            FirecrawlClient client = client(server, 0, CircuitBreakerConfig.builder()
+                    .slidingWindowSize(4)
+                    .minimumNumberOfCalls(4)
+                    .waitDurationInOpenStateMs(300)
+                    .permittedCallsInHalfOpenState(1)
+                    .build());
+
+            for (int i = 0; i < 4; i++) {
+                FirecrawlException error = assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com"));
+                assertEquals(503, error.getStatusCode());
+            }
+            CircuitBreakerOpenException open = assertThrows(CircuitBreakerOpenException.class,
+                    () -> client.scrape("https://example.com"));
+            assertEquals("POST /v2/scrape", open.getEndpoint());
+            assertTrue(open.getRetryAfterMs() > 0 && open.getRetryAfterMs() <= 300);
+            assertEquals(4, server.count("POST /v2/scrape"));
+
+            // Other endpoints have their own breaker
+            assertEquals("scraping", client.getCrawlStatus("job-1").getStatus());
+
+            Thread.sleep(350);
+            healthy.set(true);
+            assertEquals("ok", client.scrape("https://example.com").getMarkdown());
+            assertEquals("ok", client.scrape("https://example.com").getMarkdown());
+            assertEquals(6, server.count("POST /v2/scrape"));
+        }
+    }
+
+    @Test
+    void testOpeningBreakerCutsRetryLoopShort() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", MockApiServer.status(502, "{\"error\":\"bad gateway\"}"));
+            FirecrawlClient client = client(server, 5, CircuitBreakerConfig.builder()
+                    .slidingWindowSize(2)
+                    .minimumNumberOfCalls(2)
+                    .build());
+
+            FirecrawlException error = assertThrows(FirecrawlException.class, () -> client.scrape("https://example.com"));
+            assertEquals(502, error.getStatusCode());
+            assertEquals(2, server.count("POST /v2/scrape"));
+            assertThrows(CircuitBreakerOpenException.class, () -> client.scrape("https://example.com"));
+        }
+    }
+
+    @Test
+    void testClientErrorsDoNotTripBreaker() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", MockApiServer.status(400, "{\"error\":\"bad url\"}"));
+            FirecrawlClient client = client(server, 0, CircuitBreakerConfig.builder()
+                    .slidingWindowSize(2)
+                    .minimumNumberOfCalls(2)
+                    .build());
+
+            for (int i = 0; i < 5; i++) {
+                FirecrawlException error = assertThrows(FirecrawlException.class, () -> client.scrape("not a url"));
+                assertEquals(400, error.getStatusCode());
+            }
+            assertEquals(5, server.count("POST /v2/scrape"));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.firecrawl;
+
+import com.firecrawl.client.CallTimings;
+import com.firecrawl.client.ConnectionStats;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.InMemoryMetricsRecorder;
+import com.firecrawl.client.MetricsSnapshot;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the per-call phase timing collected by the default OkHttpClient.
+ */
+class ConnectionStatsTest {
+
+    @Test
+    void testRecordsPhasesAndConnectionReuse() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("GET /v2/crawl/job-s", MockApiServer.delayed(20, "{\"status\":\"scraping\",\"data\":[]}"));
+            InMemoryMetricsRecorder metrics = new InMemoryMetricsRecorder();
+            FirecrawlClient client = FirecrawlClient.builder()
+                    .apiKey("fc-test-key")
+                    .apiUrl(server.url())
+                    .metricsRecorder(metrics)
+                    .build();
+
+            for (int i = 0; i < 4; i++) {
+                client.getCrawlStatus("job-s");
+            }
+
+            ConnectionStats stats = client.getConnectionStats();
+            assertEquals(4, stats.getCalls());
+            assertEquals(0, stats.getFailedCalls());
+            assertEquals(3, stats.getReusedConnections());
+            assertEquals(0.75, stats.getConnectionReuseRate(), 1e-9);
+            assertEquals(1, stats.getPhaseCount(CallTimings.Phase.CONNECT));
+            assertEquals(4, stats.getPhaseCount(CallTimings.Phase.TIME_TO_FIRST_BYTE));
+            assertTrue(stats.getPhaseMillis(CallTimings.Phase.TIME_TO_FIRST_BYTE, 50) >= 20, stats.toString());
+            assertTrue(stats.getPhaseMillis(CallTimings.Phase.TOTAL, 99)
+                    >= stats.getPhaseMillis(CallTimings.Phase.TIME_TO_FIRST_BYTE, 99));
+
+            MetricsSnapshot.EndpointStats endpoint = metrics.snapshot().get("GET /v2/crawl/{id}");
+            assertNotNull(endpoint.getConnectionStats());
+            assertEquals(4, endpoint.getConnectionStats().getCalls());
+        }
+    }
+
+    @Test
+    void testCustomHttpClientIsLeftUntouched() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("GET /v2/crawl/job-s", MockApiServer.json("{\"status\":\"scraping\",\"data\":[]}"));
+            FirecrawlClient client = FirecrawlClient.builder()
+                    .apiKey("fc-test-key")
+                    .apiUrl(server.url())
+                    .httpClient(new OkHttpClient())
+                    .build();
+
+            client.getCrawlStatus("job-s");
+
+            assertEquals(0, client.getConnectionStats().getCalls());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.models.BatchScrapeJob;
+import com.firecrawl.models.CrawlJob;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.firecrawl.Fixtures.docs;
+import static com.firecrawl.Fixtures.markdown;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for incremental status polling: every document must be
+ * downloaded exactly once, even while the job is still running.
+ */
+class CrawlPollingTest {
+
+    private static MockApiServer progressingJob(String startRoute, String statusPath) throws Exception {
+        MockApiServer server = new MockApiServer();
+        String base = server.url();
+        server.on(startRoute, MockApiServer.json("{\"success\":true,\"id\":\"job-i\"}"));
+        server.on("GET " + statusPath, exchange -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            if (query == null) {
+                return MockApiServer.json("{\"status\":\"scraping\",\"total\":5,\"completed\":2,\"data\":" + docs(0, 2) + "}");
+            }
+            switch (query) {
+                case "skip=2":
+                    return MockApiServer.json("{\"status\":\"scraping\",\"total\":5,\"completed\":3,\"data\":" + docs(2, 3) + "}");
+                case "skip=3":
+                    return MockApiServer.json("{\"status\":\"completed\",\"total\":5,\"completed\":5,\"data\":" + docs(3, 4)
+                            + ",\"next\":\"" + base + statusPath + "?skip=4\"}");
+                case "skip=4":
+                    return MockApiServer.json("{\"status\":\"completed\",\"total\":5,\"completed\":5,\"data\":" + docs(4, 5) + "}");
+                default:
+                    return MockApiServer.status(400, "{\"error\":\"unexpected " + query + "\"}");
+            }
+        });
+        return server;
+    }
+
+    @Test
+    void testCrawlFetchesOnlyNewDocumentsOnEachPoll() throws Exception {
+        try (MockApiServer server = progressingJob("POST /v2/crawl", "/v2/crawl/job-i")) {
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+            List<List<String>> batches = new ArrayList<>();
+
+            CrawlJob job = client.crawl("https://example.com", null, 0, 30, docs -> batches.add(markdown(docs)));
+
+            assertEquals(List.of(List.of("doc0", "doc1"), List.of("doc2"), List.of("doc3"), List.of("doc4")), batches);
+            assertEquals(List.of("doc0", "doc1", "doc2", "doc3", "doc4"), markdown(job.getData()));
+            assertEquals("completed", job.getStatus());
+            assertNull(job.getNext());
+            assertEquals(List.of(
+                    "POST /v2/crawl",
+                    "GET /v2/crawl/job-i",
+                    "GET /v2/crawl/job-i?skip=2",
+                    "GET /v2/crawl/job-i?skip=3",
+                    "GET /v2/crawl/job-i?skip=4"), server.requests());
+        }
+    }
+
+    @Test
+    void testBatchScrapeFetchesOnlyNewDocumentsOnEachPoll() throws Exception {
+        try (MockApiServer server = progressingJob("POST /v2/batch/scrape", "/v2/batch/scrape/job-i")) {
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+
+            BatchScrapeJob job = client.batchScrape(List.of("https://example.com"), null, 0, 30, docs -> { });
+
+            assertEquals(List.of("doc0", "doc1", "doc2", "doc3", "doc4"), markdown(job.getData()));
+            assertEquals(4, server.count("GET /v2/batch/scrape/job-i"));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.models.CrawlOptions;
+import com.firecrawl.models.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.firecrawl.Fixtures.docs;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for {@code crawlPublisher} against a local fake API whose
+ * crawl job progresses over successive status polls.
+ */
+class CrawlPublisherTest {
+
+    private static MockApiServer progressingCrawl() throws Exception {
+        MockApiServer server = new MockApiServer();
+        AtomicInteger polls = new AtomicInteger();
+        server.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-p\"}"));
+        server.on("GET /v2/crawl/job-p", exchange -> {
+            int poll = polls.incrementAndGet();
+            String query = exchange.getRequestURI().getRawQuery();
+            if (query == null) {
+                return MockApiServer.json("{\"status\":\"scraping\",\"total\":3,\"completed\":2,\"data\":" + docs(0, 2) + "}");
+            }
+            if (poll < 4) {
+                return MockApiServer.json("{\"status\":\"scraping\",\"total\":3,\"completed\":2,\"data\":[]}");
+            }
+            return MockApiServer.json("{\"status\":\"completed\",\"total\":3,\"completed\":3,\"data\":" + docs(2, 3) + "}");
+        });
+        return server;
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<Document> {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        volatile Flow.Subscription subscription;
+
+        @Override public void onSubscribe(Flow.Subscription subscription) { this.subscription = subscription; }
+        @Override public void onNext(Document item) { received.add(item.getMarkdown()); }
+        @Override public void onError(Throwable throwable) { error.set(throwable); done.countDown(); }
+        @Override public void onComplete() { done.countDown(); }
+    }
+
+    @Test
+    void testEmitsDocumentsIncrementallyAndHonoursDemand() throws Exception {
+        try (MockApiServer server = progressingCrawl()) {
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            client.crawlPublisher("https://example.com", CrawlOptions.builder().limit(3).build(), 1, 30)
+                    .subscribe(subscriber);
+
+            Thread.sleep(200);
+            assertTrue(server.requests().isEmpty(), "nothing should start before demand");
+
+            subscriber.subscription.request(1);
+            long start = System.currentTimeMillis();
+            while (subscriber.received.isEmpty() && System.currentTimeMillis() - start < 5000) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of("doc0"), subscriber.received);
+            Thread.sleep(300);
+            assertEquals(List.of("POST /v2/crawl", "GET /v2/crawl/job-p"), server.requests(),
+                    "buffered documents must be delivered before polling again");
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+            assertNull(subscriber.error.get());
+            assertEquals(List.of("doc0", "doc1", "doc2"), subscriber.received);
+            assertEquals(3, server.count("GET /v2/crawl/job-p?skip=2"));
+        }
+    }
+
+    @Test
+    void testTimeoutOnlyCountsTimeWithoutProgress() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            AtomicInteger polls = new AtomicInteger();
+            server.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-s\"}"));
+            // One new document on every other poll, so the job runs for longer than the timeout overall
+            server.on("GET /v2/crawl/job-s", exchange -> {
+                int poll = polls.incrementAndGet();
+                String status = poll >= 5 ? "completed" : "scraping";
+                String data = poll % 2 == 1 ? docs(poll / 2, poll / 2 + 1) : "[]";
+                return MockApiServer.json("{\"status\":\"" + status + "\",\"total\":3,\"data\":" + data + "}");
+            });
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            client.crawlPublisher("https://example.com", null, 1, 1).subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            assertTrue(subscriber.done.await(10, TimeUnit.SECONDS));
+            assertNull(subscriber.error.get());
+            assertEquals(List.of("doc0", "doc1", "doc2"), subscriber.received);
+        }
+    }
+
+    @Test
+    void testRejectsSecondSubscriberAndInvalidDemand() throws Exception {
+        FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl("http://127.0.0.1:9").build();
+        Flow.Publisher<Document> publisher = client.crawlPublisher("https://example.com", null);
+
+        RecordingSubscriber first = new RecordingSubscriber();
+        publisher.subscribe(first);
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(second);
+        assertTrue(second.done.await(5, TimeUnit.SECONDS));
+        assertTrue(second.error.get() instanceof IllegalStateException);
+
+        first.subscription.request(0);
+        assertTrue(first.done.await(5, TimeUnit.SECONDS));
+        assertTrue(first.error.get() instanceof IllegalArgumentException);
+    }
+}
@@ -0,0 +1,165 @@
+package com.firecrawl;
+
+import com.firecrawl.client.CreditScheduler;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.CreditLimitException;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.AgentOptions;
+import com.firecrawl.models.CrawlOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for credit-aware job admission.
+ */
+class CreditSchedulerTest {
+
+    private static MockApiServer server(int remainingCredits) throws Exception {
+        MockApiServer server = new MockApiServer();
+        server.on("GET /v2/team/credit-usage",
+                MockApiServer.json("{\"success\":true,\"remainingCredits\":" + remainingCredits + "}"));
+        AtomicInteger batches = new AtomicInteger();
+        server.on("POST /v2/batch/scrape", exchange ->
+                MockApiServer.json("{\"success\":true,\"id\":\"b" + batches.incrementAndGet() + "\"}"));
+        server.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"c1\"}"));
+        server.on("POST /v2/agent", MockApiServer.status(500, "{\"success\":false,\"error\":\"boom\"}"));
+        return server;
+    }
+
+    private static CreditScheduler.Builder scheduler(MockApiServer server) {
+        FirecrawlClient client = FirecrawlClient.builder()
+                .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+        return CreditScheduler.builder(client);
+    }
+
+    private static List<String> urls(int count) {
+        return Collections.nCopies(count, "https://example.com");
+    }
+
+    @Test
+    void testJobsWaitForSettlementAndAreRejectedWhenCreditsRunOut() throws Exception {
+        try (MockApiServer server = server(1000)) {
+            server.on("GET /v2/batch/scrape/b1",
+                    MockApiServer.json("{\"status\":\"completed\",\"completed\":500,\"total\":500,\"creditsUsed\":300}"));
+            CreditScheduler scheduler = scheduler(server).reserveCredits(100).maxDelay(Duration.ofMillis(300)).build();
+
+            assertEquals("b1", scheduler.startBatchScrape(urls(500), null).getId());
+            // 1000 - 100 reserved - 500 pending leaves 400, so this waits for b1 to settle
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(
+                    () -> scheduler.startBatchScrape(urls(500), null).getId());
+            Thread.sleep(100);
+            assertFalse(second.isDone());
+            assertEquals(500, scheduler.getStats().getPendingCredits());
+
+            scheduler.getBatchScrapeStatus("b1");
+            assertEquals("b2", second.get(5, TimeUnit.SECONDS));
+
+            // 700 - 100 - 500 leaves 100, and b2 never settles
+            CreditLimitException e = assertThrows(CreditLimitException.class,
+                    () -> scheduler.startBatchScrape(urls(500), null));
+            assertEquals(500, e.getEstimatedCredits());
+            assertEquals(100, e.getAvailableCredits());
+
+            CreditScheduler.Stats stats = scheduler.getStats();
+            assertEquals(700, stats.getRemainingCredits());
+            assertEquals(300, stats.getSettledCredits());
+            assertEquals(1, stats.getOutstandingJobs());
+            assertEquals(2, stats.getAdmitted());
+            assertEquals(1, stats.getDelayed());
+            assertEquals(1, stats.getRejected());
+            assertEquals(1, server.count("GET /v2/team/credit-usage"));
+        }
+    }
+
+    @Test
+    void testOversizedJobIsRejectedWithoutWaitingAndFailedStartIsReleased() throws Exception {
+        try (MockApiServer server = server(1000)) {
+            CreditScheduler scheduler = scheduler(server).build();
+
+            long start = System.nanoTime();
+            assertThrows(CreditLimitException.class, () -> scheduler.startCrawl("https://example.com", null));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+            assertEquals(0, server.count("POST /v2/crawl"));
+
+            assertEquals("c1", scheduler.startCrawl("https://example.com",
+                    CrawlOptions.builder().limit(200).build()).getId());
+            assertThrows(FirecrawlException.class,
+                    () -> scheduler.startAgent(AgentOptions.builder().prompt("find").maxCredits(300).build()));
+            assertEquals(200, scheduler.getStats().getPendingCredits());
+
+            scheduler.settle("c1", 150);
+            scheduler.settle("c1", 150);
+            assertEquals(850, scheduler.getStats().getRemainingCredits());
+            assertEquals(0, scheduler.getStats().getPendingCredits());
+        }
+    }
+
+    @Test
+    void testSettlementDuringRefreshIsNotLost() throws Exception {
+        try (MockApiServer server = server(1000)) {
+            // The second read is answered with the balance from before c1 settled
+            CountDownLatch gate = new CountDownLatch(1);
+            AtomicInteger reads = new AtomicInteger();
+            server.on("GET /v2/team/credit-usage", exchange -> {
+                try {
+                    if (reads.incrementAndGet() > 1) {
+                        gate.await(10, TimeUnit.SECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return MockApiServer.json("{\"success\":true,\"remainingCredits\":1000}");
+            });
+            CreditScheduler scheduler = scheduler(server).refreshInterval(Duration.ofNanos(1)).build();
+
+            scheduler.startCrawl("https://example.com", CrawlOptions.builder().limit(200).build());
+            CompletableFuture<String> second = CompletableFuture.supplyAsync(
+                    () -> scheduler.startBatchScrape(urls(100), null).getId());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (reads.get() < 2) {
+                assertTrue(System.nanoTime() < deadline, "refresh not started in time");
+                Thread.sleep(10);
+            }
+            scheduler.settle("c1", 150);
+            gate.countDown();
+
+            assertEquals("b1", second.get(5, TimeUnit.SECONDS));
+            CreditScheduler.Stats stats = scheduler.getStats();
+            assertEquals(850, stats.getRemainingCredits());
+            assertEquals(100, stats.getPendingCredits());
+        }
+    }
+
+    @Test
+    void testSpendRateSpacesAdmissions() throws Exception {
+        try (MockApiServer server = server(1_000_000)) {
+            CreditScheduler scheduler = scheduler(server).spendRate(200).burstCredits(100)
+                    .maxDelay(Duration.ofSeconds(2)).build();
+
+            long start = System.nanoTime();
+            scheduler.startBatchScrape(urls(50), null);
+            scheduler.startBatchScrape(urls(50), null);
+            scheduler.startBatchScrape(urls(100), null);
+            // the burst covers the first two; the third waits ~0.5s for a full burst
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(400));
+            assertEquals(1, scheduler.getStats().getDelayed());
+
+            // the oversized first job leaves the allowance 900 in debt; at 10/s that takes 100s to repay
+            CreditScheduler slow = scheduler(server).spendRate(10).burstCredits(100)
+                    .maxDelay(Duration.ofMillis(200)).build();
+            slow.startBatchScrape(urls(1000), null);
+            CreditLimitException e = assertThrows(CreditLimitException.class,
+                    () -> slow.startBatchScrape(urls(100), null));
+            assertTrue(e.getMessage().contains("Spend rate"));
+        }
+    }
+}
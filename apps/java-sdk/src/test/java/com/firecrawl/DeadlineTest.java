@@ -0,0 +1,108 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.DeadlineExceededException;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.CrawlJob;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for deadline-bound client views.
+ */
+class DeadlineTest {
+
+    private static FirecrawlClient client(MockApiServer server, int maxRetries, double backoffFactor) {
+        return FirecrawlClient.builder()
+                .apiKey("fc-test-key")
+                .apiUrl(server.url())
+                .maxRetries(maxRetries)
+                .backoffFactor(backoffFactor)
+                .build();
+    }
+
+    @Test
+    void testRetryWhoseBackoffOutlastsDeadlineIsNotAttempted() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", MockApiServer.status(503, "{\"error\":\"unavailable\"}"));
+            // Backoffs of 1s then 2s: only the first fits a 1.5s budget
+            FirecrawlClient client = client(server, 5, 1.0).withDeadline(Duration.ofMillis(1500));
+
+            long start = System.currentTimeMillis();
+            DeadlineExceededException error = assertThrows(DeadlineExceededException.class,
+                    () -> client.scrape("https://example.com"));
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertEquals(1500, error.getTimeoutMillis());
+            assertEquals(503, ((FirecrawlException) error.getCause()).getStatusCode());
+            assertEquals(2, server.count("POST /v2/scrape"));
+            assertTrue(elapsed < 1500, "must fail before the deadline, not sleep through it: " + elapsed + "ms");
+        }
+    }
+
+    @Test
+    void testCallTimeoutIsTheRemainingBudget() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", MockApiServer.delayed(3000, "{\"success\":true,\"data\":{}}"));
+            FirecrawlClient client = client(server, 3, 0.01).withDeadline(Duration.ofMillis(300));
+
+            long start = System.currentTimeMillis();
+            assertThrows(DeadlineExceededException.class, () -> client.scrape("https://example.com"));
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(elapsed < 1500, "call should be cut off at the deadline: " + elapsed + "ms");
+            assertEquals(1, server.count("POST /v2/scrape"));
+        }
+    }
+
+    @Test
+    void testPollingStopsWhenNextPollWouldMissDeadline() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-d\"}"));
+            server.on("GET /v2/crawl/job-d", MockApiServer.json("{\"status\":\"scraping\",\"data\":[]}"));
+            FirecrawlClient client = client(server, 0, 0.01).withDeadline(Duration.ofSeconds(1));
+
+            long start = System.currentTimeMillis();
+            assertThrows(DeadlineExceededException.class, () -> client.crawl("https://example.com", null, 2, 60));
+
+            assertTrue(System.currentTimeMillis() - start < 1000);
+            assertEquals(1, server.count("GET /v2/crawl/job-d"));
+        }
+    }
+
+    @Test
+    void testPaginationStopsCleanlyWithCursorLeft() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            String next = server.url() + "/v2/crawl/job-d?skip=1";
+            server.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-d\"}"));
+            server.on("GET /v2/crawl/job-d", exchange -> exchange.getRequestURI().getRawQuery() == null
+                    ? MockApiServer.json("{\"status\":\"completed\",\"data\":[{\"markdown\":\"doc0\"}],"
+                            + "\"next\":\"" + next + "\"}")
+                    : MockApiServer.delayed(3000, "{\"status\":\"completed\",\"data\":[{\"markdown\":\"doc1\"}]}"));
+            FirecrawlClient client = client(server, 3, 0.01);
+
+            CrawlJob job = client.withDeadline(Duration.ofMillis(500)).crawl("https://example.com", null, 0, 60);
+
+            assertEquals(1, job.getData().size());
+            assertEquals("doc0", job.getData().get(0).getMarkdown());
+            assertEquals(next, job.getNext());
+        }
+    }
+
+    @Test
+    void testNestedViewKeepsEarlierDeadline() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", MockApiServer.delayed(3000, "{\"success\":true,\"data\":{}}"));
+            FirecrawlClient client = client(server, 0, 0.01)
+                    .withDeadline(Duration.ofMillis(200))
+                    .withDeadline(Duration.ofMinutes(5));
+
+            long start = System.currentTimeMillis();
+            assertThrows(DeadlineExceededException.class, () -> client.scrape("https://example.com"));
+            assertTrue(System.currentTimeMillis() - start < 1500);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.firecrawl;
+
+import com.firecrawl.models.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response bodies and assertions shared by the offline tests that serve jobs
+ * from {@link MockApiServer}.
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    /** A JSON array of documents whose markdown is {@code doc<from>} up to {@code doc<to - 1>}. */
+    static String docs(int from, int to) {
+        StringBuilder data = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            if (data.length() > 0) data.append(',');
+            data.append("{\"markdown\":\"doc").append(i).append("\"}");
+        }
+        return "[" + data + "]";
+    }
+
+    /** The markdown of each document, in order. */
+    static List<String> markdown(List<Document> docs) {
+        List<String> result = new ArrayList<>();
+        for (Document doc : docs) result.add(doc.getMarkdown());
+        return result;
+    }
+}
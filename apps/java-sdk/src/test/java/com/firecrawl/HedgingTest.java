@@ -0,0 +1,84 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.HedgingConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for request hedging.
+ */
+class HedgingTest {
+
+    private static final String OK = "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}";
+
+    /** Serves the given request numbers (1-based) slowly and all others immediately. */
+    private static MockApiServer server(String route, long slowMs, int... slowRequests) throws Exception {
+        MockApiServer server = new MockApiServer();
+        AtomicInteger requests = new AtomicInteger();
+        server.on(route, exchange -> {
+            int n = requests.incrementAndGet();
+            for (int slow : slowRequests) {
+                if (slow == n) {
+                    return MockApiServer.delayed(slowMs, OK);
+                }
+            }
+            return MockApiServer.json(OK);
+        });
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server, HedgingConfig hedging) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).hedging(hedging).build();
+    }
+
+    @Test
+    void testSlowScrapeIsHedgedAndFirstResponseWins() throws Exception {
+        try (MockApiServer server = server("POST /v2/scrape", 2000, 1)) {
+            FirecrawlClient client = client(server, HedgingConfig.builder().initialDelayMs(100).build());
+
+            long start = System.currentTimeMillis();
+            assertEquals("ok", client.scrape("https://example.com").getMarkdown());
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(elapsed < 1500, "hedge should answer before the slow primary: " + elapsed + "ms");
+            assertEquals(2, server.count("POST /v2/scrape"));
+        }
+    }
+
+    @Test
+    void testBudgetCapsHedges() throws Exception {
+        try (MockApiServer server = server("POST /v2/scrape", 500, 1, 3)) {
+            FirecrawlClient client = client(server, HedgingConfig.builder()
+                    .initialDelayMs(50)
+                    .budgetPercent(0)
+                    .maxBurst(1)
+                    .build());
+
+            client.scrape("https://example.com");
+            long start = System.currentTimeMillis();
+            client.scrape("https://example.com");
+            long elapsed = System.currentTimeMillis() - start;
+
+            assertTrue(elapsed >= 400, "second call must wait for its primary: " + elapsed + "ms");
+            assertEquals(3, server.count("POST /v2/scrape"));
+        }
+    }
+
+    @Test
+    void testNonIdempotentEndpointsAreNeverHedged() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/crawl", MockApiServer.delayed(300, "{\"success\":true,\"id\":\"job-h\"}"));
+            FirecrawlClient client = client(server, HedgingConfig.builder().initialDelayMs(20).build());
+
+            assertEquals("job-h", client.startCrawl("https://example.com", null).getId());
+            assertEquals(1, server.count("POST /v2/crawl"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> HedgingConfig.builder().endpoints(Set.of("POST /v2/crawl")));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the JDK Flight Recorder events emitted by the client.
+ */
+class JfrEventsTest {
+
+    private static final List<String> EVENT_TYPES = List.of(
+            "com.firecrawl.Request", "com.firecrawl.RetryBackoff", "com.firecrawl.Poll", "com.firecrawl.PageFetch");
+
+    private static MockApiServer completedCrawl() throws Exception {
+        MockApiServer server = new MockApiServer();
+        String base = server.url();
+        server.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-j\"}"));
+        server.on("GET /v2/crawl/job-j", exchange -> "skip=1".equals(exchange.getRequestURI().getRawQuery())
+                ? MockApiServer.json("{\"status\":\"completed\",\"total\":2,\"completed\":2,\"data\":[{\"markdown\":\"b\"}]}")
+                : MockApiServer.json("{\"status\":\"completed\",\"total\":2,\"completed\":2,\"data\":[{\"markdown\":\"a\"}],"
+                        + "\"next\":\"" + base + "/v2/crawl/job-j?skip=1\"}"));
+        return server;
+    }
+
+    private static List<RecordedEvent> record(Path dir, List<String> enabled, FirecrawlClient client) throws Exception {
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : EVENT_TYPES) {
+                if (enabled.contains(name)) {
+                    recording.enable(name).withoutThreshold();
+                } else {
+                    recording.disable(name);
+                }
+            }
+            recording.start();
+            client.crawl("https://example.com", null, 0, 30);
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("com.firecrawl."))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testEmitsRequestPollAndPageEvents(@TempDir Path dir) throws Exception {
+        try (MockApiServer server = completedCrawl()) {
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+
+            List<RecordedEvent> events = record(dir, EVENT_TYPES, client);
+
+            List<RecordedEvent> requests = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("com.firecrawl.Request"))
+                    .collect(Collectors.toList());
+            assertEquals(3, requests.size());
+            assertEquals("POST", requests.get(0).getString("method"));
+            assertEquals("/v2/crawl", requests.get(0).getString("path"));
+            assertEquals(200, requests.get(0).getInt("statusCode"));
+            assertTrue(requests.get(0).getLong("requestBytes") > 0);
+
+            RecordedEvent poll = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("com.firecrawl.Poll"))
+                    .findFirst().orElseThrow();
+            assertEquals("job-j", poll.getString("jobId"));
+            assertEquals("completed", poll.getString("status"));
+            assertEquals(2, poll.getInt("total"));
+            assertEquals(1, poll.getInt("newItems"));
+
+            RecordedEvent page = events.stream()
+                    .filter(e -> e.getEventType().getName().equals("com.firecrawl.PageFetch"))
+                    .findFirst().orElseThrow();
+            assertEquals("crawl", page.getString("jobType"));
+            assertEquals(1, page.getInt("items"));
+            assertFalse(page.getBoolean("hasNext"));
+        }
+    }
+
+    @Test
+    void testEventTypesAreEnabledIndependently(@TempDir Path dir) throws Exception {
+        try (MockApiServer server = completedCrawl()) {
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+
+            List<RecordedEvent> events = record(dir, List.of("com.firecrawl.Poll"), client);
+
+            assertFalse(events.isEmpty());
+            assertTrue(events.stream().allMatch(e -> e.getEventType().getName().equals("com.firecrawl.Poll")));
+        }
+    }
+}
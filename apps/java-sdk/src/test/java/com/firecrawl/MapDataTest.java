@@ -0,0 +1,66 @@
+package com.firecrawl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.models.MapData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for decoding and reading map results.
+ */
+class MapDataTest {
+
+    private static final String MIXED = "{\"links\":[\"https://example.com/a\","
+            + "{\"url\":\"https://example.com/b\",\"title\":\"B\",\"description\":\"Page B\"},"
+            + "{\"url\":\"https://example.com/c\",\"title\":\"C\",\"lastModified\":\"2024-01-01\"},"
+            + "42]}";
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void testStringAndObjectLinksShareOneColumnarView() throws Exception {
+        MapData data = mapper.readValue(MIXED, MapData.class);
+
+        assertEquals(3, data.size(), "entries that are neither strings nor objects are skipped");
+        assertEquals(List.of("https://example.com/a", "https://example.com/b", "https://example.com/c"),
+                data.asUrlList());
+        assertSame(data.asUrlList(), data.asUrlList());
+        assertThrows(UnsupportedOperationException.class, () -> data.asUrlList().set(0, "x"));
+        assertNull(data.getTitle(0));
+        assertEquals("B", data.getTitle(1));
+        assertEquals("Page B", data.getDescription(1));
+        assertNull(data.getDescription(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.getUrl(3));
+
+        List<String> visited = new ArrayList<>();
+        data.forEachLink((url, title, description) -> visited.add(url + "|" + title + "|" + description));
+        assertEquals(List.of("https://example.com/a|null|null", "https://example.com/b|B|Page B",
+                "https://example.com/c|C|null"), visited);
+    }
+
+    @Test
+    void testGetLinksKeepsItsShapeAndIsCached() throws Exception {
+        MapData data = mapper.convertValue(mapper.readValue(MIXED, Map.class), MapData.class);
+
+        List<Map<String, Object>> links = data.getLinks();
+        assertEquals(3, links.size());
+        assertEquals(Map.of("url", "https://example.com/a"), links.get(0));
+        assertEquals(Map.of("url", "https://example.com/b", "title", "B", "description", "Page B"), links.get(1));
+        assertEquals("2024-01-01", links.get(2).get("lastModified"), "unknown link fields are kept");
+        assertSame(links, data.getLinks());
+        assertThrows(UnsupportedOperationException.class, () -> links.get(0).put("title", "x"));
+
+        MapData empty = mapper.readValue("{}", MapData.class);
+        assertNull(empty.getLinks());
+        assertEquals(0, empty.size());
+        assertTrue(empty.asUrlList().isEmpty());
+        assertEquals("MapData{links=3}", data.toString());
+    }
+}
@@ -0,0 +1,70 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.InMemoryMetricsRecorder;
+import com.firecrawl.client.MetricsSnapshot;
+import com.firecrawl.errors.FirecrawlException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the metrics SPI and the built-in in-memory recorder.
+ */
+class MetricsTest {
+
+    @Test
+    void testRecordsPerEndpointLatencyRetriesAndErrors() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            AtomicInteger scrapes = new AtomicInteger();
+            server.on("POST /v2/scrape", exchange -> scrapes.incrementAndGet() == 1
+                    ? MockApiServer.status(502, "{\"error\":\"bad gateway\"}")
+                    : MockApiServer.delayed(20, "{\"success\":true,\"data\":{\"markdown\":\"# Hi\"}}"));
+            server.on("GET /v2/crawl/job-a", MockApiServer.json("{\"status\":\"scraping\",\"data\":[]}"));
+            server.on("GET /v2/crawl/job-b", MockApiServer.json("{\"status\":\"completed\",\"data\":[]}"));
+            server.on("DELETE /v2/crawl/job-c", MockApiServer.status(404, "{\"error\":\"gone\",\"code\":\"NOT_FOUND\"}"));
+
+            InMemoryMetricsRecorder metrics = new InMemoryMetricsRecorder();
+            FirecrawlClient client = FirecrawlClient.builder()
+                    .apiKey("fc-test-key")
+                    .apiUrl(server.url())
+                    .backoffFactor(0.01)
+                    .metricsRecorder(metrics)
+                    .build();
+
+            client.scrape("https://example.com");
+            client.getCrawlStatus("job-a");
+            client.getCrawlStatus("job-b");
+            assertThrows(FirecrawlException.class, () -> client.cancelCrawl("job-c"));
+
+            MetricsSnapshot snapshot = metrics.snapshot();
+            assertEquals(3, snapshot.getEndpoints().size(), snapshot.getEndpoints().keySet().toString());
+
+            MetricsSnapshot.EndpointStats scrape = snapshot.get("POST /v2/scrape");
+            assertEquals(2, scrape.getRequests());
+            assertEquals(1, scrape.getRetries());
+            assertEquals(0, scrape.getErrors());
+            assertEquals(1, scrape.getStatusClassCount(5));
+            assertEquals(1, scrape.getStatusClassCount(2));
+            assertEquals(1, scrape.getSerializations());
+            assertEquals(1, scrape.getDeserializations());
+            assertTrue(scrape.getBytesSent() > 0);
+            assertTrue(scrape.getBytesReceived() > 0);
+            assertTrue(scrape.getLatencyMillis(99) >= 20, "p99 should include the delayed reply: " + scrape);
+            assertTrue(scrape.getLatencyMillis(50) <= scrape.getLatencyMillis(99));
+
+            MetricsSnapshot.EndpointStats status = snapshot.get("GET /v2/crawl/{id}");
+            assertEquals(2, status.getRequests());
+            assertEquals(0, status.getSerializations());
+
+            MetricsSnapshot.EndpointStats cancel = snapshot.get("DELETE /v2/crawl/{id}");
+            assertEquals(1, cancel.getErrors());
+            assertEquals(Long.valueOf(1), cancel.getErrorCodes().get("NOT_FOUND"));
+
+            metrics.reset();
+            assertTrue(metrics.snapshot().getEndpoints().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.firecrawl;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Minimal local stand-in for the Firecrawl API used by offline tests.
+ *
+ * <p>Routes are keyed by {@code "METHOD /path"} (query string excluded) and
+ * return a canned status code and JSON body. Every request is recorded as
+ * {@code "METHOD /path?query"} so tests can assert exactly what was fetched.
+ */
+class MockApiServer implements AutoCloseable {
+
+    static final class Reply {
+        final int status;
+        final String body;
+        final long delayMs;
+
+        Reply(int status, String body, long delayMs) {
+            this.status = status;
+            this.body = body;
+            this.delayMs = delayMs;
+        }
+    }
+
+    static Reply json(String body) {
+        return new Reply(200, body, 0);
+    }
+
+    static Reply status(int status, String body) {
+        return new Reply(status, body, 0);
+    }
+
+    static Reply delayed(long delayMs, String body) {
+        return new Reply(200, body, delayMs);
+    }
+
+    private final HttpServer server;
+    private final Map<String, Function<HttpExchange, Reply>> routes = new ConcurrentHashMap<>();
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    MockApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    MockApiServer on(String methodAndPath, Function<HttpExchange, Reply> handler) {
+        routes.put(methodAndPath, handler);
+        return this;
+    }
+
+    MockApiServer on(String methodAndPath, Reply reply) {
+        return on(methodAndPath, exchange -> reply);
+    }
+
+    List<String> requests() {
+        return requests;
+    }
+
+    long count(String prefix) {
+        return requests.stream().filter(r -> r.startsWith(prefix)).count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getRawPath();
+        String query = exchange.getRequestURI().getRawQuery();
+        String method = exchange.getRequestMethod();
+        requests.add(method + " " + path + (query != null ? "?" + query : ""));
+        Function<HttpExchange, Reply> handler = routes.get(method + " " + path);
+        Reply reply = handler != null
+                ? handler.apply(exchange)
+                : status(404, "{\"success\":false,\"error\":\"Not found\"}");
+        if (reply.delayMs > 0) {
+            try {
+                Thread.sleep(reply.delayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] bytes = reply.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try {
+            exchange.sendResponseHeaders(reply.status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException ignored) {
+            // client went away (cancelled call)
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.models.MonitorCheckPage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for lazily streamed monitor check pages.
+ */
+class MonitorCheckStreamTest {
+
+    /** Three result pages of one check page each, linked by next cursors. */
+    private static MockApiServer check() throws Exception {
+        MockApiServer server = new MockApiServer();
+        String path = "/v2/monitor/m1/checks/c1";
+        String base = server.url() + path;
+        server.on("GET " + path, exchange -> {
+            String query = exchange.getRequestURI().getRawQuery();
+            int skip = query != null && query.contains("skip=") ? Integer.parseInt(query.replaceAll(".*skip=(\\d+).*", "$1")) : 0;
+            String next = skip < 2 ? ",\"next\":\"" + base + "?skip=" + (skip + 1) + "&limit=1&status=changed\"" : "";
+            return MockApiServer.json("{\"success\":true,\"data\":{\"id\":\"c1\",\"pages\":[{\"id\":\"p" + skip
+                    + "\",\"status\":\"changed\"}]" + next + "}}");
+        });
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+    }
+
+    @Test
+    void testStreamFollowsCursorsLazily() throws Exception {
+        try (MockApiServer server = check()) {
+            List<String> ids = client(server).streamMonitorCheckPages("m1", "c1", 1, "changed")
+                    .map(MonitorCheckPage::getId)
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of("p0", "p1", "p2"), ids);
+            assertEquals(List.of(
+                    "GET /v2/monitor/m1/checks/c1?limit=1&status=changed",
+                    "GET /v2/monitor/m1/checks/c1?skip=1&limit=1&status=changed",
+                    "GET /v2/monitor/m1/checks/c1?skip=2&limit=1&status=changed"), server.requests());
+        }
+    }
+
+    @Test
+    void testStoppingEarlySkipsRemainingPages() throws Exception {
+        try (MockApiServer server = check()) {
+            FirecrawlClient client = client(server);
+
+            assertTrue(client.streamMonitorCheckPages("m1", "c1").anyMatch(page -> page.getId().equals("p0")));
+            assertEquals(1, server.count("GET /v2/monitor/m1/checks/c1"));
+
+            assertEquals(2, client.streamMonitorCheckPages("m1", "c1").limit(2).count());
+            assertEquals(3, server.count("GET /v2/monitor/m1/checks/c1"));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.firecrawl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.models.MonitorCheckDetail;
+import com.firecrawl.models.MonitorDiffChange;
+import com.firecrawl.models.MonitorDiffHunk;
+import com.firecrawl.models.MonitorJsonFieldDiff;
+import com.firecrawl.models.MonitorPageDiff;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonitorPageDiffTest {
+
+    private static final String TEXT = "Index: previous.md\n"
+            + "===================================================================\n"
+            + "--- previous.md\n"
+            + "+++ current.md\n"
+            + "@@ -1,3 +1,3 @@\n"
+            + " # Pricing\n"
+            + "-Pro: $10\n"
+            + "+Pro: $12\n"
+            + " Team: $20\n"
+            + "@@ -10 +10,2 @@\n"
+            + "--- old footer\n"
+            + "+new footer\n"
+            + "+\n";
+
+    private static final String MARKDOWN_DIFF = "{\"text\":" + quote(TEXT) + ",\"json\":{\"files\":[{"
+            + "\"from\":\"previous.md\",\"to\":\"current.md\",\"chunks\":[{\"content\":\"@@ -1,3 +1,3 @@\","
+            + "\"changes\":[{\"type\":\"normal\",\"normal\":true,\"ln1\":1,\"ln2\":1,\"content\":\" # Pricing\"},"
+            + "{\"type\":\"del\",\"del\":true,\"ln\":2,\"content\":\"-Pro: $10\"},"
+            + "{\"type\":\"add\",\"add\":true,\"ln\":2,\"content\":\"+Pro: $12\"}]}]}]}}";
+
+    private static final String FIELD_DIFF = "{\"json\":{\"price\":{\"previous\":10,\"current\":12},"
+            + "\"plan\":{\"previous\":\"pro\",\"current\":\"pro+\"}}}";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    @Test
+    void testMarkdownDiffDecodesFilesAst() throws Exception {
+        MonitorPageDiff diff = mapper.readValue(MARKDOWN_DIFF, MonitorPageDiff.class);
+
+        assertNull(diff.getFieldDiffs());
+        List<MonitorDiffChange> changes = diff.getFiles().get(0).getChunks().get(0).getChanges();
+        assertEquals("current.md", diff.getFiles().get(0).getTo());
+        assertEquals(3, changes.size());
+        assertTrue(changes.get(1).isDelete());
+        assertEquals("+Pro: $12", changes.get(2).getContent());
+        assertEquals(2, changes.get(2).getLn());
+        assertSame(diff.getFiles(), diff.getFiles());
+    }
+
+    @Test
+    void testJsonDiffDecodesFieldMap() throws Exception {
+        MonitorPageDiff diff = mapper.readValue(FIELD_DIFF, MonitorPageDiff.class);
+
+        assertNull(diff.getFiles());
+        Map<String, MonitorJsonFieldDiff> fields = diff.getFieldDiffs();
+        assertEquals(List.of("price", "plan"), new ArrayList<>(fields.keySet()));
+        assertEquals(12, fields.get("price").getCurrent());
+        assertEquals("pro", fields.get("plan").getPrevious());
+    }
+
+    @Test
+    void testUntypedJsonAndSerializationStayCompatible() throws Exception {
+        MonitorPageDiff diff = mapper.readValue(FIELD_DIFF, MonitorPageDiff.class);
+
+        Map<?, ?> json = (Map<?, ?>) diff.getJson();
+        assertEquals(Map.of("previous", 10, "current", 12), json.get("price"));
+        String written = mapper.writeValueAsString(diff);
+        assertEquals(mapper.readTree(FIELD_DIFF).get("json"), mapper.readTree(written).get("json"));
+    }
+
+    @Test
+    void testHunksAreParsedInPlace() throws Exception {
+        MonitorPageDiff diff = mapper.readValue(MARKDOWN_DIFF, MonitorPageDiff.class);
+
+        List<MonitorDiffHunk> hunks = new ArrayList<>();
+        diff.hunks().forEach(hunks::add);
+
+        assertEquals(2, hunks.size());
+        MonitorDiffHunk first = hunks.get(0);
+        assertEquals("@@ -1,3 +1,3 @@", first.getHeader().toString());
+        assertEquals(1, first.getAdditions());
+        assertEquals(1, first.getDeletions());
+        List<String> lines = new ArrayList<>();
+        first.lines().forEach(line -> lines.add(line.toString()));
+        assertEquals(List.of(" # Pricing", "-Pro: $10", "+Pro: $12", " Team: $20"), lines);
+
+        // "--- old footer" is a deleted line, not a file header
+        MonitorDiffHunk second = hunks.get(1);
+        assertEquals(10, second.getOldStart());
+        assertEquals(1, second.getOldLines());
+        assertEquals(2, second.getNewLines());
+        assertEquals(1, second.getDeletions());
+        assertEquals(2, second.getAdditions());
+        assertEquals("--- old footer\n+new footer\n+\n", second.getBody().toString());
+    }
+
+    @Test
+    void testClientDecodesCheckPagesWithTypedDiffs() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            String path = "/v2/monitor/m1/checks/c1";
+            String next = server.url() + path + "?skip=1";
+            server.on("GET " + path, exchange -> exchange.getRequestURI().getRawQuery() == null
+                    ? MockApiServer.json("{\"success\":true,\"data\":{\"id\":\"c1\",\"pages\":[{\"id\":\"p0\","
+                            + "\"status\":\"changed\",\"diff\":" + MARKDOWN_DIFF + "}],\"next\":\"" + next + "\"}}")
+                    // Some endpoints answer without the data envelope
+                    : MockApiServer.json("{\"id\":\"c1\",\"pages\":[{\"id\":\"p1\",\"status\":\"changed\","
+                            + "\"diff\":" + FIELD_DIFF + "}]}"));
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+
+            MonitorCheckDetail check = client.getMonitorCheck("m1", "c1");
+
+            assertEquals(2, check.getPages().size());
+            assertNull(check.getNext());
+            MonitorPageDiff first = check.getPages().get(0).getDiff();
+            assertEquals("+Pro: $12", first.getFiles().get(0).getChunks().get(0).getChanges().get(2).getContent());
+            MonitorPageDiff second = check.getPages().get(1).getDiff();
+            assertEquals(12, second.getFieldDiffs().get("price").getCurrent());
+            assertEquals(2, server.count("GET " + path));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.InMemoryCheckpointStore;
+import com.firecrawl.client.MonitorSync;
+import com.firecrawl.errors.FirecrawlException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for incremental multi-monitor sync.
+ */
+class MonitorSyncTest {
+
+    private static MockApiServer monitors() throws Exception {
+        MockApiServer server = new MockApiServer();
+        String base = server.url();
+        server.on("GET /v2/monitor", MockApiServer.json(
+                "{\"success\":true,\"data\":[{\"id\":\"m1\",\"name\":\"docs\"},{\"id\":\"m2\",\"name\":\"blog\"},"
+                        + "{\"id\":\"m3\",\"name\":\"broken\"}]}"));
+        // Newest first; c3 is still running
+        server.on("GET /v2/monitor/m1/checks", MockApiServer.json("{\"success\":true,\"data\":["
+                + "{\"id\":\"c3\",\"status\":\"running\"},"
+                + "{\"id\":\"c2\",\"status\":\"completed\"},"
+                + "{\"id\":\"c1\",\"status\":\"completed\"}]}"));
+        server.on("GET /v2/monitor/m1/checks/c1", exchange -> exchange.getRequestURI().getRawQuery().contains("skip=1")
+                ? MockApiServer.json("{\"success\":true,\"data\":{\"id\":\"c1\",\"pages\":[{\"id\":\"p2\",\"status\":\"changed\"}]}}")
+                : MockApiServer.json("{\"success\":true,\"data\":{\"id\":\"c1\",\"pages\":[{\"id\":\"p1\",\"status\":\"changed\"}],"
+                        + "\"next\":\"" + base + "/v2/monitor/m1/checks/c1?skip=1&limit=1\"}}"));
+        server.on("GET /v2/monitor/m1/checks/c2", MockApiServer.json(
+                "{\"success\":true,\"data\":{\"id\":\"c2\",\"pages\":[{\"id\":\"p3\",\"status\":\"new\"}]}}"));
+        server.on("GET /v2/monitor/m2/checks", MockApiServer.json(
+                "{\"success\":true,\"data\":[{\"id\":\"d1\",\"status\":\"skipped_no_credits\"}]}"));
+        server.on("GET /v2/monitor/m3/checks", MockApiServer.status(500, "{\"error\":\"boom\"}"));
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+    }
+
+    @Test
+    void testSyncDeliversOnlyNewFinishedChecksAndIsolatesFailures() throws Exception {
+        try (MockApiServer server = monitors()) {
+            MonitorSync sync = MonitorSync.builder(client(server)).concurrency(4).build();
+            List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+            MonitorSync.Result first = sync.sync((monitor, check, page) ->
+                    delivered.add(monitor.getId() + "/" + check.getId() + "/" + page.getId()));
+
+            assertEquals(List.of("m1/c1/p1", "m1/c1/p2", "m1/c2/p3"), delivered);
+            assertEquals(2, first.getMonitorsSynced());
+            assertEquals(3, first.getChecks());
+            assertEquals(3, first.getPages());
+            assertEquals(500, ((FirecrawlException) first.getFailures().get("m3")).getStatusCode());
+            assertEquals(0, server.count("GET /v2/monitor/m2/checks/"));
+
+            delivered.clear();
+            MonitorSync.Result second = sync.sync((monitor, check, page) -> delivered.add(page.getId()));
+
+            assertTrue(delivered.isEmpty());
+            assertEquals(0, second.getChecks());
+            assertEquals(1, server.count("GET /v2/monitor/m1/checks/c1?limit=100"));
+            assertEquals(1, server.count("GET /v2/monitor/m1/checks/c2"));
+        }
+    }
+
+    @Test
+    void testSyncResumesMidCheckAfterSinkFailure() throws Exception {
+        try (MockApiServer server = monitors()) {
+            MonitorSync sync = MonitorSync.builder(client(server))
+                    .checkpointStore(new InMemoryCheckpointStore())
+                    .pageStatus("changed")
+                    .build();
+            AtomicBoolean failOnce = new AtomicBoolean(true);
+            List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+            MonitorSync.PageSink sink = (monitor, check, page) -> {
+                if (page.getId().equals("p2") && failOnce.getAndSet(false)) {
+                    throw new IllegalStateException("sink down");
+                }
+                delivered.add(page.getId());
+            };
+
+            MonitorSync.Result first = sync.sync(sink);
+            assertEquals("sink down", first.getFailures().get("m1").getMessage());
+            assertEquals(List.of("p1"), delivered);
+
+            MonitorSync.Result second = sync.sync(sink);
+            assertFalse(second.getFailures().containsKey("m1"));
+            assertEquals(List.of("p1", "p2", "p3"), delivered);
+            // The first page of c1 was not fetched again
+            assertEquals(1, server.count("GET /v2/monitor/m1/checks/c1?limit=100&status=changed"));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.PaperGraph;
+import com.firecrawl.client.PaperGraphExpander;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for related-paper graph expansion.
+ */
+class PaperGraphExpanderTest {
+
+    private static final String PAPERS = "/v2/search/research/papers/";
+
+    /** s -> a, b; a -> c, s; b -> d, c; c -> e; d -> e. */
+    private static MockApiServer server() throws Exception {
+        MockApiServer server = new MockApiServer();
+        related(server, "s", "a:0.9", "b:0.5");
+        related(server, "a", "c:0.8", "s:0.7");
+        related(server, "b", "d:0.95", "c:0.6");
+        related(server, "c", "e:0.9");
+        related(server, "d", "e:0.4");
+        related(server, "e");
+        return server;
+    }
+
+    private static void related(MockApiServer server, String id, String... results) {
+        String body = List.of(results).stream()
+                .map(r -> "{\"paperId\":\"" + r.split(":")[0] + "\",\"score\":" + r.split(":")[1] + "}")
+                .collect(Collectors.joining(",", "{\"success\":true,\"results\":[", "]}"));
+        server.on("GET " + PAPERS + id + "/similar", MockApiServer.json(body));
+    }
+
+    private static PaperGraphExpander.Builder expander(MockApiServer server) {
+        FirecrawlClient client = FirecrawlClient.builder()
+                .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+        return PaperGraphExpander.builder(client).intent("related work");
+    }
+
+    private static List<String> expandedInOrder(MockApiServer server) {
+        return server.requests().stream()
+                .map(r -> r.substring(("GET " + PAPERS).length(), r.indexOf("/similar")))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testExpansionIsBoundedByDepthAndVisitsEachPaperOnce() throws Exception {
+        try (MockApiServer server = server()) {
+            Map<String, Integer> notified = new ConcurrentHashMap<>();
+
+            PaperGraph graph = expander(server).maxDepth(2).concurrency(4).build()
+                    .expand(List.of("s"), (paperId, edges) -> notified.put(paperId, edges.size()));
+
+            assertEquals(List.of("a", "b", "c", "d", "s"), graph.getPapers().stream().sorted().collect(Collectors.toList()));
+            assertEquals(3, server.requests().size());
+            assertEquals(Map.of("s", 2, "a", 2, "b", 2), notified);
+            assertEquals(List.of("c", "s"), graph.getAdjacency().get("a"));
+            assertEquals(2, graph.getDepth("d"));
+            assertEquals(0.95, graph.getEdges("b").get(0).getScore());
+            assertFalse(graph.isExpanded("c"));
+            assertEquals(6, graph.getEdgeCount());
+        }
+    }
+
+    @Test
+    void testFrontierPrefersShallowThenHighScore() throws Exception {
+        try (MockApiServer server = server()) {
+            PaperGraph graph = expander(server).maxDepth(5).concurrency(1).build().expand(List.of("s"));
+
+            // depth 1: a (0.9) before b (0.5); depth 2: d (0.95) before c (0.8)
+            assertEquals(List.of("s", "a", "b", "d", "c", "e"), expandedInOrder(server));
+            assertEquals(6, graph.size());
+            assertTrue(graph.getFailures().isEmpty());
+        }
+    }
+
+    @Test
+    void testSizeBoundAndFailuresStopDiscovery() throws Exception {
+        try (MockApiServer server = server()) {
+            server.on("GET " + PAPERS + "b/similar", MockApiServer.status(500, "{\"success\":false,\"error\":\"boom\"}"));
+
+            PaperGraph graph = expander(server).maxDepth(3).maxPapers(4).build().expand(List.of("s"));
+
+            assertEquals(4, graph.size());
+            assertTrue(graph.contains("c"));
+            assertFalse(graph.contains("d"));
+            assertEquals(List.of("b"), List.copyOf(graph.getFailures().keySet()));
+            // e would be a fifth paper, so the edge c -> e is dropped
+            assertTrue(graph.getEdges("c").isEmpty());
+        }
+    }
+
+    @Test
+    void testRateLimitSpacesRequests() throws Exception {
+        try (MockApiServer server = server()) {
+            long start = System.nanoTime();
+
+            expander(server).maxDepth(1).requestsPerSecond(2).build().expand(List.of("s", "a", "b"));
+
+            // burst of 2, then the third call waits for a token
+            assertEquals(3, server.requests().size());
+            assertTrue(System.nanoTime() - start >= 400_000_000L);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FileQuotaCoordinator;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.InMemoryQuotaCoordinator;
+import com.firecrawl.client.QuotaConfig;
+import com.firecrawl.client.QuotaCoordinator;
+import com.firecrawl.client.QuotaLease;
+import com.firecrawl.errors.DeadlineExceededException;
+import com.firecrawl.errors.FirecrawlException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for sharing a concurrency quota across clients through a coordinator.
+ */
+class QuotaCoordinatorTest {
+
+    private static final String SCRAPE_OK = "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}";
+
+    @TempDir
+    Path tempDir;
+
+    private static FirecrawlClient node(MockApiServer server, QuotaCoordinator coordinator, String nodeId,
+                                        Duration maxWait) {
+        return FirecrawlClient.builder()
+                .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0)
+                .quota(QuotaConfig.builder()
+                        .coordinator(coordinator)
+                        .nodeId(nodeId)
+                        .maxConcurrency(3)
+                        .headroom(1)
+                        .maxWait(maxWait)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void testNodesSharingACoordinatorStayUnderTheLimit() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", exchange -> {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return MockApiServer.json(SCRAPE_OK);
+            });
+            QuotaCoordinator shared = new FileQuotaCoordinator(tempDir.resolve("quota.json"));
+            List<FirecrawlClient> nodes = List.of(
+                    node(server, shared, "node-a", Duration.ofSeconds(10)),
+                    node(server, new FileQuotaCoordinator(tempDir.resolve("quota.json")), "node-b",
+                            Duration.ofSeconds(10)));
+
+            List<CompletableFuture<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                FirecrawlClient node = nodes.get(i % 2);
+                calls.add(CompletableFuture.runAsync(() -> node.scrape("https://example.com", null), threads));
+            }
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).get(20, TimeUnit.SECONDS);
+
+            assertEquals(12, server.count("POST /v2/scrape"));
+            assertEquals(2, peak.get(), "a team limit of 3 with headroom 1 leaves 2 slots");
+            assertEquals(0, shared.activeLeases());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLeasesOfACrashedNodeExpire() throws Exception {
+        QuotaCoordinator first = new FileQuotaCoordinator(tempDir.resolve("team.json"));
+        QuotaCoordinator second = new FileQuotaCoordinator(tempDir.resolve("team.json"));
+
+        QuotaLease orphan = first.tryAcquire("crashed", 1, 200);
+        assertNotNull(orphan);
+        assertNull(second.tryAcquire("alive", 1, 1_000));
+        assertEquals(1, second.activeLeases());
+
+        Thread.sleep(300);
+        QuotaLease lease = second.tryAcquire("alive", 1, 1_000);
+        assertNotNull(lease);
+        assertFalse(first.renew(orphan, 1_000), "an expired lease cannot be renewed");
+        first.release(orphan);
+        assertEquals(1, second.activeLeases());
+        assertTrue(first.renew(lease, 1_000));
+        second.release(lease);
+        assertEquals(0, first.activeLeases());
+
+        // The bucket is shared too: the third token within a burst of two has to wait
+        assertEquals(0, first.reserveToken(10, 2));
+        assertEquals(0, second.reserveToken(10, 2));
+        long waitMillis = first.reserveToken(10, 2);
+        assertTrue(waitMillis > 50 && waitMillis <= 100, "waited " + waitMillis + "ms");
+    }
+
+    @Test
+    void testCallFailsWhenNoSlotFreesUpInTime() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/scrape", MockApiServer.json(SCRAPE_OK));
+            InMemoryQuotaCoordinator shared = new InMemoryQuotaCoordinator();
+            QuotaLease first = shared.tryAcquire("other-node", 2, 60_000);
+            QuotaLease second = shared.tryAcquire("other-node", 2, 60_000);
+            FirecrawlClient client = node(server, shared, "node-a", Duration.ofMillis(200));
+
+            FirecrawlException error = assertThrows(FirecrawlException.class,
+                    () -> client.scrape("https://example.com", null));
+            assertTrue(error.getMessage().contains("quota"), error.getMessage());
+            assertThrows(DeadlineExceededException.class,
+                    () -> client.withDeadline(Duration.ofMillis(100)).scrape("https://example.com", null));
+            assertEquals(0, server.count("POST /v2/scrape"));
+
+            shared.release(first);
+            assertNotNull(client.scrape("https://example.com", null));
+            assertEquals(1, shared.activeLeases(), "the call's own lease is released");
+            shared.release(second);
+            assertEquals(0, shared.activeLeases());
+        }
+    }
+}
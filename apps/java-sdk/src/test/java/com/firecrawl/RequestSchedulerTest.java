@@ -0,0 +1,173 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.RequestPriority;
+import com.firecrawl.client.SchedulerConfig;
+import com.firecrawl.client.SchedulerStats;
+import com.firecrawl.errors.DeadlineExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for priority and tenant fair request scheduling.
+ */
+class RequestSchedulerTest {
+
+    private static final Pattern URL = Pattern.compile("\"url\":\"([^\"]*)\"");
+
+    /**
+     * Scrapes wait for {@code gate} to open and then take {@code delayMs}; the
+     * scraped URLs are recorded in the order they reach the server.
+     */
+    private static MockApiServer server(List<String> served, CountDownLatch gate, long delayMs) throws Exception {
+        MockApiServer server = new MockApiServer();
+        server.on("POST /v2/scrape", exchange -> {
+            try {
+                Matcher matcher = URL.matcher(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+                served.add(matcher.find() ? matcher.group(1) : "");
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return MockApiServer.delayed(delayMs, "{\"success\":true,\"data\":{\"markdown\":\"ok\"}}");
+        });
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server, int maxConcurrentRequests) {
+        return FirecrawlClient.builder()
+                .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0)
+                .scheduler(SchedulerConfig.builder().maxConcurrentRequests(maxConcurrentRequests).build())
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testInteractiveCallsOvertakeAnotherTenantsBulkBacklog() throws Exception {
+        List<String> served = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(24);
+        try (MockApiServer server = server(served, gate, 20)) {
+            FirecrawlClient client = client(server, 1);
+            FirecrawlClient bulk = client.forTenant("acme").withPriority(RequestPriority.BULK);
+            FirecrawlClient interactive = client.forTenant("globex");
+
+            List<CompletableFuture<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                String url = "https://acme.test/" + i;
+                calls.add(CompletableFuture.runAsync(() -> bulk.scrape(url, null), threads));
+            }
+            await(() -> client.getSchedulerStats().getQueued() == 19);
+
+            SchedulerStats stats = client.getSchedulerStats();
+            assertEquals(1, stats.getInFlight());
+            assertEquals(19, stats.getQueuedByTenant().get("acme"));
+            assertEquals(19, stats.getPriority(RequestPriority.BULK).getQueued());
+
+            for (int i = 0; i < 3; i++) {
+                String url = "https://globex.test/" + i;
+                calls.add(CompletableFuture.runAsync(() -> interactive.scrape(url, null), threads));
+            }
+            // The first bulk call holds the only slot until the gate opens, so the queue cannot drain meanwhile
+            await(() -> client.getSchedulerStats().getQueued() == 22);
+            gate.countDown();
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+            assertEquals(23, served.size());
+            for (int i = 0; i < served.size(); i++) {
+                if (served.get(i).startsWith("https://globex.test/")) {
+                    assertTrue(i <= 4, "interactive call served at position " + i + ": " + served);
+                }
+            }
+            stats = client.getSchedulerStats();
+            assertEquals(0, stats.getQueued());
+            assertEquals(20, stats.getPriority(RequestPriority.BULK).getDispatched());
+            assertEquals(3, stats.getPriority(RequestPriority.INTERACTIVE).getDispatched());
+            assertTrue(stats.getPriority(RequestPriority.BULK).getMaxWaitMillis()
+                    > stats.getPriority(RequestPriority.INTERACTIVE).getMaxWaitMillis());
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void testTenantsOfTheSamePriorityAlternate() throws Exception {
+        List<String> served = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch gate = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(17);
+        try (MockApiServer server = server(served, gate, 10)) {
+            FirecrawlClient client = client(server, 1);
+            FirecrawlClient first = client.forTenant("a").withPriority(RequestPriority.BULK);
+            FirecrawlClient second = client.forTenant("b").withPriority(RequestPriority.BULK);
+
+            List<CompletableFuture<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String url = "a" + i;
+                calls.add(CompletableFuture.runAsync(() -> first.scrape(url, null), threads));
+            }
+            await(() -> client.getSchedulerStats().getQueued() == 7);
+            for (int i = 0; i < 8; i++) {
+                String url = "b" + i;
+                calls.add(CompletableFuture.runAsync(() -> second.scrape(url, null), threads));
+            }
+            // a0 holds the only slot until the gate opens, so both tenants are fully queued before anything drains
+            await(() -> client.getSchedulerStats().getQueued() == 15);
+            gate.countDown();
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+            // b arrived behind seven queued a calls but still gets every other slot
+            assertEquals(16, served.size());
+            long bInFirstHalf = served.subList(0, 8).stream().filter(url -> url.startsWith("b")).count();
+            assertTrue(bInFirstHalf >= 3, "b calls in the first eight: " + served);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void testQueuedCallGivesUpAtItsDeadline() throws Exception {
+        List<String> served = Collections.synchronizedList(new ArrayList<>());
+        try (MockApiServer server = server(served, new CountDownLatch(0), 500)) {
+            FirecrawlClient client = client(server, 1);
+            CompletableFuture<?> slow = CompletableFuture.runAsync(() -> client.scrape("https://slow.test", null));
+            await(() -> client.getSchedulerStats().getInFlight() == 1);
+
+            assertThrows(DeadlineExceededException.class,
+                    () -> client.withDeadline(Duration.ofMillis(100)).scrape("https://late.test", null));
+
+            slow.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("https://slow.test"), served);
+            assertEquals(1, client.getSchedulerStats().getTimedOut());
+            assertEquals(0, client.getSchedulerStats().getInFlight());
+
+            FirecrawlClient unscheduled = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+            assertNull(unscheduled.getSchedulerStats());
+        }
+    }
+}
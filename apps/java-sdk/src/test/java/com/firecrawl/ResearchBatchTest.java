@@ -0,0 +1,113 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.ResearchBatch;
+import com.firecrawl.models.ResearchModels;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for batched, cached research lookups.
+ */
+class ResearchBatchTest {
+
+    private static final String PAPERS = "/v2/search/research/papers/";
+
+    private static MockApiServer server() throws Exception {
+        MockApiServer server = new MockApiServer();
+        for (String id : List.of("p1", "p2", "p3")) {
+            server.on("GET " + PAPERS + id, MockApiServer.delayed(100,
+                    "{\"success\":true,\"paper\":{\"paperId\":\"" + id + "\",\"title\":\"Title " + id + "\"}}"));
+        }
+        server.on("GET " + PAPERS + "missing", MockApiServer.status(404,
+                "{\"success\":false,\"error\":\"Paper not found\"}"));
+        return server;
+    }
+
+    private static ResearchBatch.Builder batch(MockApiServer server) {
+        FirecrawlClient client = FirecrawlClient.builder()
+                .apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+        return ResearchBatch.builder(client);
+    }
+
+    @Test
+    void testRepeatedLookupsAreServedFromCache() throws Exception {
+        try (MockApiServer server = server()) {
+            ResearchBatch research = batch(server).build();
+
+            ResearchBatch.Result<ResearchModels.PaperMetadata> first =
+                    research.inspect(List.of("p2", "p1", "missing", "p2"));
+            assertEquals(List.of("p2", "p1"), new ArrayList<>(first.getResults().keySet()));
+            assertEquals("Title p1", first.getResults().get("p1").title);
+            assertEquals(List.of("missing"), new ArrayList<>(first.getFailures().keySet()));
+            assertEquals(3, first.getFetched());
+
+            ResearchBatch.Result<ResearchModels.PaperMetadata> second = research.inspect(List.of("p1", "p2", "missing"));
+            assertSame(first.getResults().get("p1"), second.getResults().get("p1"));
+            // Failures are not cached
+            assertEquals(1, second.getFetched());
+            assertEquals(1, server.count("GET " + PAPERS + "p1"));
+            assertEquals(2, server.count("GET " + PAPERS + "missing"));
+        }
+    }
+
+    @Test
+    void testConcurrentLookupsShareOneRequest() throws Exception {
+        try (MockApiServer server = server()) {
+            ResearchBatch research = batch(server).build();
+
+            CompletableFuture<ResearchBatch.Result<ResearchModels.PaperMetadata>> a =
+                    CompletableFuture.supplyAsync(() -> research.inspect(List.of("p1", "p2")));
+            CompletableFuture<ResearchBatch.Result<ResearchModels.PaperMetadata>> b =
+                    CompletableFuture.supplyAsync(() -> research.inspect(List.of("p2", "p1")));
+
+            assertEquals(2, a.get().getResults().size());
+            assertEquals(2, b.get().getResults().size());
+            assertEquals(1, server.count("GET " + PAPERS + "p1"));
+            assertEquals(1, server.count("GET " + PAPERS + "p2"));
+        }
+    }
+
+    @Test
+    void testEvictionKeepsLookupsInFlight() throws Exception {
+        try (MockApiServer server = server()) {
+            ResearchBatch research = batch(server).maxCachedEntries(1).build();
+
+            // Three loads in flight at once exceed the bound; none may be dropped while the second batch waits on it
+            CompletableFuture<ResearchBatch.Result<ResearchModels.PaperMetadata>> a =
+                    CompletableFuture.supplyAsync(() -> research.inspect(List.of("p1", "p2", "p3")));
+            Thread.sleep(50);
+            ResearchBatch.Result<ResearchModels.PaperMetadata> b = research.inspect(List.of("p3", "p2", "p1"));
+
+            assertEquals(3, a.get().getResults().size());
+            assertEquals(3, b.getResults().size());
+            assertEquals(0, b.getFetched());
+            for (String id : List.of("p1", "p2", "p3")) {
+                assertEquals(1, server.count("GET " + PAPERS + id), id);
+            }
+            assertEquals(2, research.inspect(List.of("p1", "p2", "p3")).getFetched(), "one entry is kept once loads finish");
+        }
+    }
+
+    @Test
+    void testReadFillsMetadataCacheAndEntriesExpire() throws Exception {
+        try (MockApiServer server = server()) {
+            ResearchBatch research = batch(server).cacheTtl(Duration.ofMillis(300)).build();
+
+            ResearchBatch.Result<ResearchModels.ReadPaperResponse> read = research.read(List.of("p3"), "methods", null);
+            assertEquals("Title p3", read.getResults().get("p3").paper.title);
+            assertEquals(0, research.inspect(List.of("p3")).getFetched());
+            assertEquals(0, research.read(List.of("p3"), "methods", null).getFetched());
+            assertEquals(1, research.read(List.of("p3"), "results", null).getFetched());
+
+            Thread.sleep(400);
+            assertEquals(1, research.inspect(List.of("p3")).getFetched());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.SearchData;
+import com.firecrawl.models.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for concurrent multi-query search.
+ */
+class SearchManyTest {
+
+    /** Answers each query with its own results; "slow" answers last, "bad" fails. */
+    private static MockApiServer server() throws Exception {
+        MockApiServer server = new MockApiServer();
+        server.on("POST /v2/search", exchange -> {
+            String body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            if (body.contains("\"query\":\"bad\"")) {
+                return MockApiServer.status(400, "{\"success\":false,\"error\":\"Bad query\"}");
+            }
+            if (body.contains("\"query\":\"slow\"")) {
+                return MockApiServer.delayed(200, "{\"success\":true,\"data\":{\"web\":["
+                        + "{\"url\":\"http://x.com/1\",\"title\":\"slow x\"},"
+                        + "{\"url\":\"https://z.com/3\",\"title\":\"z\"}]}}");
+            }
+            return MockApiServer.json("{\"success\":true,\"data\":{\"web\":["
+                    + "{\"url\":\"https://www.x.com/1/\",\"title\":\"fast x\"},"
+                    + "{\"url\":\"https://y.com/2\",\"title\":\"y\"}],"
+                    + "\"news\":[{\"url\":\"https://news.com/a\",\"title\":\"n\"}]}}");
+        });
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+    }
+
+    private static List<String> titles(List<? extends SearchResult> results) {
+        return results.stream().map(SearchResult::getTitle).collect(Collectors.toList());
+    }
+
+    @Test
+    void testMergesDedupsAndRanksIndependentOfArrivalOrder() throws Exception {
+        try (MockApiServer server = server()) {
+            List<String> arrived = Collections.synchronizedList(new ArrayList<>());
+
+            // "slow" is listed first but answers last
+            SearchData merged = client(server).searchMany(List.of("slow", "fast", "fast"), null, 2,
+                    (query, data) -> arrived.add(query));
+
+            assertEquals(List.of("fast", "slow"), arrived);
+            assertEquals(2, server.count("POST /v2/search"));
+            // x is found by both queries; the first query's copy is kept
+            assertEquals(List.of("slow x", "z", "y"), titles(merged.getWebResults()));
+            assertEquals(List.of("n"), titles(merged.getNewsResults()));
+            assertTrue(merged.getImageResults().isEmpty());
+        }
+    }
+
+    @Test
+    void testFailedQueryIsThrownAfterOthersFinish() throws Exception {
+        try (MockApiServer server = server()) {
+            FirecrawlClient client = client(server);
+            List<String> arrived = Collections.synchronizedList(new ArrayList<>());
+
+            assertThrows(FirecrawlException.class,
+                    () -> client.searchMany(List.of("bad", "slow"), null, 2, (query, data) -> arrived.add(query)));
+            assertEquals(List.of("slow"), arrived);
+            assertThrows(IllegalArgumentException.class, () -> client.searchMany(List.of("fast"), null, 0, null));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.firecrawl;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.models.ImageResult;
+import com.firecrawl.models.NewsResult;
+import com.firecrawl.models.SearchData;
+import com.firecrawl.models.WebResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for typed search result decoding.
+ */
+class SearchResultTest {
+
+    private static final String DATA = "{\"web\":[{\"url\":\"https://example.com\",\"title\":\"Example\","
+            + "\"description\":\"An example\",\"position\":1,\"markdown\":\"# Example\","
+            + "\"links\":[\"https://example.com/a\"],\"metadata\":{\"statusCode\":200},\"unknownField\":{\"x\":[1]}},"
+            + "{\"url\":\"https://example.org\",\"title\":\"Org\",\"description\":\"No scrape\",\"category\":\"github\"}],"
+            + "\"news\":[{\"title\":\"Headline\",\"url\":\"https://news.example.com/1\",\"snippet\":\"Snippet\","
+            + "\"date\":\"2 days ago\",\"position\":1}],"
+            + "\"images\":[{\"title\":\"Logo\",\"imageUrl\":\"https://example.com/logo.png\",\"imageWidth\":64,"
+            + "\"imageHeight\":32,\"url\":\"https://example.com\",\"position\":1}]}";
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    void testResultsDecodeIntoTypedFieldsAndDocument() throws Exception {
+        SearchData data = mapper.readValue(DATA, SearchData.class);
+
+        WebResult scraped = data.getWebResults().get(0);
+        assertEquals("https://example.com", scraped.getUrl());
+        assertEquals("An example", scraped.getDescription());
+        assertEquals(1, scraped.getPosition());
+        assertEquals("# Example", scraped.getDocument().getMarkdown());
+        assertEquals(List.of("https://example.com/a"), scraped.getDocument().getLinks());
+        assertEquals(200, scraped.getDocument().getMetadata().get("statusCode"));
+
+        WebResult plain = data.getWebResults().get(1);
+        assertNull(plain.getDocument());
+        assertEquals("github", plain.getCategory());
+
+        NewsResult news = data.getNewsResults().get(0);
+        assertEquals("Snippet", news.getSnippet());
+        assertEquals("2 days ago", news.getDate());
+
+        ImageResult image = data.getImageResults().get(0);
+        assertEquals("https://example.com/logo.png", image.getImageUrl());
+        assertEquals(64, image.getImageWidth());
+        assertEquals(32, image.getImageHeight());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testMapViewsAndSerializationStayCompatible() throws Exception {
+        SearchData data = mapper.readValue(DATA, SearchData.class);
+
+        Map<String, Object> first = data.getWeb().get(0);
+        assertEquals("https://example.com", first.get("url"));
+        assertEquals("# Example", first.get("markdown"));
+        assertFalse(data.getWeb().get(1).containsKey("markdown"));
+        assertEquals("2 days ago", data.getNews().get(0).get("date"));
+        assertEquals(64, data.getImages().get(0).get("imageWidth"));
+        assertEquals(Map.of("x", List.of(1)), first.get("unknownField"), "fields the model lacks are kept");
+        assertEquals(Map.of("x", List.of(1)), data.getWebResults().get(0).getAdditionalProperties().get("unknownField"));
+        assertTrue(data.getWebResults().get(1).getAdditionalProperties().isEmpty());
+
+        SearchData copy = mapper.readValue(mapper.writeValueAsString(data), SearchData.class);
+        assertEquals("# Example", copy.getWebResults().get(0).getDocument().getMarkdown());
+        assertEquals("Headline", copy.getNewsResults().get(0).getTitle());
+
+        assertEquals(Map.of("x", List.of(1)), copy.getWeb().get(0).get("unknownField"));
+
+        data.setWeb(List.of(Map.of("url", "https://example.net", "title", "Net", "html", "<p>", "rank", 3)));
+        assertEquals("<p>", data.getWebResults().get(0).getDocument().getHtml());
+        assertEquals(3, data.getWeb().get(0).get("rank"));
+    }
+
+    @Test
+    void testSearchReadsTypedResultsFromResponse() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/search", MockApiServer.json("{\"success\":true,\"data\":" + DATA
+                    + ",\"creditsUsed\":2}"));
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+
+            SearchData data = client.search("example");
+
+            assertEquals(2, data.getWebResults().size());
+            assertEquals("# Example", data.getWebResults().get(0).getDocument().getMarkdown());
+        }
+    }
+
+    @Test
+    void testSearchFallsBackToTopLevelResults() throws Exception {
+        try (MockApiServer server = new MockApiServer()) {
+            server.on("POST /v2/search", MockApiServer.json(DATA));
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).build();
+
+            SearchData data = client.search("example");
+
+            assertEquals(2, data.getWebResults().size());
+            assertEquals("Headline", data.getNewsResults().get(0).getTitle());
+            assertEquals("# Example", data.getWebResults().get(0).getDocument().getMarkdown());
+        }
+    }
+}
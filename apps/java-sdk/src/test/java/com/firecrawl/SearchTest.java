@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * 
  * Run with: FIRECRAWL_API_KEY=fc-xxx gradle test --tests "com.firecrawl.SearchTest"
  */
+@SuppressWarnings("deprecation") // exercises the map views that predate the typed results
 class SearchTest {
 
     private static FirecrawlClient client;
@@ -0,0 +1,157 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FileShardStore;
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.client.InMemoryShardStore;
+import com.firecrawl.client.ShardStore;
+import com.firecrawl.client.ShardedJobConsumer;
+import com.firecrawl.errors.FirecrawlException;
+import com.firecrawl.models.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for consuming one job's results from several sharded workers.
+ */
+class ShardedJobConsumerTest {
+
+    private static final int DOCUMENTS = 95;
+    private static final int PAGE_SIZE = 10;
+
+    @TempDir
+    Path tempDir;
+
+    /** A finished crawl of {@link #DOCUMENTS} documents, served {@link #PAGE_SIZE} at a time from {@code skip}. */
+    private static MockApiServer crawl() throws Exception {
+        MockApiServer server = new MockApiServer();
+        String base = server.url();
+        server.on("GET /v2/crawl/job-1", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            int skip = query != null && query.startsWith("skip=") ? Integer.parseInt(query.substring(5)) : 0;
+            int to = Math.min(DOCUMENTS, skip + PAGE_SIZE);
+            StringBuilder data = new StringBuilder();
+            for (int i = skip; i < to; i++) {
+                if (data.length() > 0) data.append(',');
+                data.append("{\"markdown\":\"doc").append(i).append("\"}");
+            }
+            String next = to < DOCUMENTS ? ",\"next\":\"" + base + "/v2/crawl/job-1?skip=" + to + "\"" : "";
+            return MockApiServer.json("{\"success\":true,\"status\":\"completed\",\"total\":" + DOCUMENTS
+                    + ",\"completed\":" + DOCUMENTS + ",\"data\":[" + data + "]" + next + "}");
+        });
+        return server;
+    }
+
+    private static FirecrawlClient client(MockApiServer server) {
+        return FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(server.url()).maxRetries(0).build();
+    }
+
+    private static Consumer<List<Document>> collectInto(List<String> consumed, long pauseMillis) {
+        return documents -> {
+            for (Document document : documents) {
+                consumed.add(document.getMarkdown());
+            }
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static void assertEveryDocumentOnce(List<String> consumed) {
+        assertEquals(DOCUMENTS, consumed.size(), String.valueOf(consumed));
+        assertEquals(DOCUMENTS, new HashSet<>(consumed).size(), "duplicates in " + consumed);
+    }
+
+    @Test
+    void testTwoNodesSplitAJobThroughAFileStore() throws Exception {
+        try (MockApiServer server = crawl()) {
+            FirecrawlClient client = client(server);
+            List<String> consumed = Collections.synchronizedList(new ArrayList<>());
+            List<CompletableFuture<ShardedJobConsumer.Result>> nodes = new ArrayList<>();
+            for (String node : List.of("node-a", "node-b")) {
+                // Each node opens the shared directory itself, as separate processes would
+                ShardedJobConsumer consumer = ShardedJobConsumer.builder(client)
+                        .store(new FileShardStore(tempDir))
+                        .workerId(node)
+                        .threads(2)
+                        .shardSize(20)
+                        .build();
+                nodes.add(CompletableFuture.supplyAsync(
+                        () -> consumer.consumeCrawl("job-1", collectInto(consumed, 20))));
+            }
+
+            ShardedJobConsumer.Result a = nodes.get(0).get(20, TimeUnit.SECONDS);
+            ShardedJobConsumer.Result b = nodes.get(1).get(20, TimeUnit.SECONDS);
+            assertEveryDocumentOnce(consumed);
+            assertEquals(DOCUMENTS, a.getTotal());
+            assertEquals(DOCUMENTS, a.getDocuments() + b.getDocuments());
+            assertTrue(a.getDocuments() > 0 && b.getDocuments() > 0, a + " " + b);
+        }
+    }
+
+    @Test
+    void testIdleThreadsStealFromABusyRange() throws Exception {
+        try (MockApiServer server = crawl()) {
+            List<String> consumed = Collections.synchronizedList(new ArrayList<>());
+            ShardedJobConsumer consumer = ShardedJobConsumer.builder(client(server))
+                    .store(new InMemoryShardStore())
+                    .threads(3)
+                    .shardSize(1_000)
+                    .minStealSize(10)
+                    .build();
+
+            ShardedJobConsumer.Result result = consumer.consumeCrawl("job-1", collectInto(consumed, 30));
+
+            assertEveryDocumentOnce(consumed);
+            assertTrue(result.getSteals() >= 1, String.valueOf(result));
+            assertEquals(1 + result.getSteals(), result.getShards());
+        }
+    }
+
+    @Test
+    void testFailedPageIsRedeliveredAndEarlierPagesAreNot() throws Exception {
+        try (MockApiServer server = crawl()) {
+            ShardStore store = new InMemoryShardStore();
+            ShardedJobConsumer consumer = ShardedJobConsumer.builder(client(server))
+                    .store(store)
+                    .threads(1)
+                    .shardSize(50)
+                    .leaseTtl(Duration.ofSeconds(30))
+                    .build();
+            List<String> first = new ArrayList<>();
+            FirecrawlException error = assertThrows(FirecrawlException.class, () -> consumer.consumeCrawl("job-1",
+                    documents -> {
+                        if (documents.get(0).getMarkdown().equals("doc20")) {
+                            throw new FirecrawlException("disk full");
+                        }
+                        documents.forEach(document -> first.add(document.getMarkdown()));
+                    }));
+            assertEquals("disk full", error.getMessage());
+            assertEquals(20, first.size());
+
+            // The failed range was released, so the next run continues from doc20 without waiting for its lease
+            List<String> second = Collections.synchronizedList(new ArrayList<>());
+            ShardedJobConsumer.Result result = consumer.consumeCrawl("job-1", collectInto(second, 0));
+            assertEquals(75, result.getDocuments());
+            assertEquals("doc20", second.get(0));
+            List<String> all = new ArrayList<>(first);
+            all.addAll(second);
+            assertEveryDocumentOnce(all);
+            // One status poll, then one fetch per page of ten, with the failed page fetched twice
+            assertEquals(1 + 10 + 1, server.count("GET /v2/crawl/job-1"));
+        }
+    }
+}
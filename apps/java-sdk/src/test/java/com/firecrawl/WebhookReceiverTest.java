@@ -0,0 +1,153 @@
+package com.firecrawl;
+
+import com.firecrawl.client.FirecrawlClient;
+import com.firecrawl.errors.JobTimeoutException;
+import com.firecrawl.models.CrawlJob;
+import com.firecrawl.models.CrawlOptions;
+import com.firecrawl.models.WebhookConfig;
+import com.firecrawl.models.WebhookEvent;
+import com.firecrawl.webhook.WebhookReceiver;
+import com.firecrawl.webhook.WebhookSignature;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the webhook receiver, driven by a fake sender.
+ */
+class WebhookReceiverTest {
+
+    private static final String SECRET = "whsec-test";
+
+    private static int send(WebhookReceiver receiver, String body, String signature) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(receiver.getUrl()))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (signature != null) {
+            request.header(WebhookSignature.HEADER, signature);
+        }
+        return HttpClient.newHttpClient()
+                .send(request.build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private static int sendSigned(WebhookReceiver receiver, String body) throws Exception {
+        return send(receiver, body, WebhookSignature.sign(SECRET, body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testSignatureRoundTrip() {
+        byte[] body = "{\"type\":\"crawl.started\"}".getBytes(StandardCharsets.UTF_8);
+        String signature = WebhookSignature.sign(SECRET, body);
+        assertTrue(signature.startsWith("sha256="));
+        assertTrue(WebhookSignature.verify(SECRET, body, signature));
+        assertTrue(WebhookSignature.verify(SECRET, body, signature.substring("sha256=".length())));
+        assertFalse(WebhookSignature.verify("other-secret", body, signature));
+        assertFalse(WebhookSignature.verify(SECRET, body, null));
+    }
+
+    @Test
+    void testDispatchesTypedEventsAndStreamsPages() throws Exception {
+        List<WebhookEvent> all = new CopyOnWriteArrayList<>();
+        List<String> pages = new CopyOnWriteArrayList<>();
+        try (WebhookReceiver receiver = WebhookReceiver.builder()
+                .secret(SECRET)
+                .onEvent(all::add)
+                .onPage(event -> event.getDocuments().forEach(doc -> pages.add(doc.getMarkdown())))
+                .build()
+                .start()) {
+
+            assertEquals(200, sendSigned(receiver, "{\"success\":true,\"type\":\"crawl.started\",\"id\":\"job-1\",\"data\":[]}"));
+            assertEquals(200, sendSigned(receiver, "{\"success\":true,\"type\":\"crawl.page\",\"id\":\"job-1\","
+                    + "\"data\":[{\"markdown\":\"# A\"},{\"markdown\":\"# B\"}],\"metadata\":{\"tenant\":\"t1\"}}"));
+            assertEquals(401, send(receiver, "{\"type\":\"crawl.page\",\"id\":\"job-1\",\"data\":[]}", "sha256=bad"));
+            assertEquals(400, sendSigned(receiver, "not json"));
+
+            assertEquals(2, all.size());
+            WebhookEvent page = all.get(1);
+            assertEquals("crawl", page.getJobType());
+            assertEquals("page", page.getEvent());
+            assertFalse(page.isTerminal());
+            assertEquals("t1", page.getMetadata().get("tenant"));
+            assertEquals(List.of("# A", "# B"), pages);
+        }
+    }
+
+    @Test
+    void testBuffersTerminalEventUntilAwaited() throws Exception {
+        try (WebhookReceiver receiver = WebhookReceiver.builder().build().start()) {
+            assertEquals(200, send(receiver, "{\"success\":false,\"type\":\"batch_scrape.failed\",\"id\":\"b-1\",\"error\":\"boom\"}", null));
+            WebhookEvent event = receiver.awaitCompletion("b-1").get(5, TimeUnit.SECONDS);
+            assertTrue(event.isTerminal());
+            assertEquals("batch_scrape", event.getJobType());
+            assertEquals("boom", event.getError());
+        }
+    }
+
+    @Test
+    void testAwaitedFutureSurvivesMoreBufferedEventsThanTheBound() throws Exception {
+        try (WebhookReceiver receiver = WebhookReceiver.builder().maxBufferedCompletions(2).build().start()) {
+            CompletableFuture<WebhookEvent> awaited = receiver.awaitCompletion("slow-job");
+            for (int i = 0; i < 5; i++) {
+                assertEquals(200, send(receiver, "{\"success\":true,\"type\":\"crawl.completed\",\"id\":\"other-" + i + "\"}", null));
+            }
+            assertFalse(awaited.isDone());
+
+            assertEquals(200, send(receiver, "{\"success\":true,\"type\":\"crawl.completed\",\"id\":\"slow-job\"}", null));
+            assertEquals("slow-job", awaited.get(5, TimeUnit.SECONDS).getId());
+            // Only the most recent unawaited events stay buffered
+            assertTrue(receiver.awaitCompletion("other-4").isDone());
+            assertFalse(receiver.awaitCompletion("other-0").isDone());
+        }
+    }
+
+    @Test
+    void testCrawlAsyncTimesOutWithoutATerminalEvent() throws Exception {
+        try (MockApiServer api = new MockApiServer();
+             WebhookReceiver receiver = WebhookReceiver.builder().build().start()) {
+            api.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-7\",\"url\":\"x\"}"));
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(api.url()).build();
+
+            CompletableFuture<CrawlJob> future = client.crawlAsync("https://example.com",
+                    CrawlOptions.builder().webhook(WebhookConfig.builder().url(receiver.getUrl()).build()).build(),
+                    receiver, 1);
+            ExecutionException error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertTrue(error.getCause() instanceof JobTimeoutException, String.valueOf(error.getCause()));
+            assertEquals("job-7", ((JobTimeoutException) error.getCause()).getJobId());
+            assertEquals(0, api.count("GET"));
+        }
+    }
+
+    @Test
+    void testCrawlAsyncCompletesFromWebhookWithoutPolling() throws Exception {
+        try (MockApiServer api = new MockApiServer();
+             WebhookReceiver receiver = WebhookReceiver.builder().secret(SECRET).build().start()) {
+            api.on("POST /v2/crawl", MockApiServer.json("{\"success\":true,\"id\":\"job-9\",\"url\":\"x\"}"));
+            api.on("GET /v2/crawl/job-9", MockApiServer.json(
+                    "{\"status\":\"completed\",\"total\":1,\"completed\":1,\"data\":[{\"markdown\":\"done\"}]}"));
+            FirecrawlClient client = FirecrawlClient.builder().apiKey("fc-test-key").apiUrl(api.url()).build();
+
+            CompletableFuture<CrawlJob> future = client.crawlAsync("https://example.com",
+                    CrawlOptions.builder().webhook(WebhookConfig.builder().url(receiver.getUrl()).build()).build(),
+                    receiver);
+            Thread.sleep(200);
+            assertFalse(future.isDone());
+            assertEquals(0, api.count("GET"));
+
+            assertEquals(200, sendSigned(receiver, "{\"success\":true,\"type\":\"crawl.completed\",\"id\":\"job-9\",\"data\":[]}"));
+            CrawlJob job = future.get(5, TimeUnit.SECONDS);
+            assertEquals("done", job.getData().get(0).getMarkdown());
+            assertEquals(1, api.count("GET /v2/crawl/job-9"));
+        }
+    }
+}